@@ -1,11 +1,20 @@
 package com.example.globe;
 
 import net.fabricmc.api.ModInitializer;
-import com.example.globe.world.LatitudeBiomes;
+import com.example.globe.world.ColumnDecisionCache;
+import com.example.globe.world.GlobeProfile;
+import com.example.globe.world.GlobeProfiles;
+import com.example.globe.world.LatitudeAtlas;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.LatitudeContextHolder;
 import com.example.globe.world.BiomeFeatureStripping;
+import com.example.globe.world.BiomeCompilation;
+import com.example.globe.world.LatitudeNoiseTiles;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.server.command.CommandManager;
@@ -15,34 +24,43 @@ import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.BundleContentsComponent;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
-import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.WorldSavePath;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.Heightmap;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.border.WorldBorder;
-import net.minecraft.world.gen.chunk.ChunkGenerator;
-import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
-import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
+import net.minecraft.world.dimension.DimensionType;
 import net.minecraft.world.WorldProperties;
 import net.minecraft.network.packet.s2c.play.PositionFlag;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.util.math.random.Random;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 
+import java.nio.file.Path;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public class GlobeMod implements ModInitializer {
     public static final String MOD_ID = "globe";
     public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
 
     private static final String SPAWN_CHOSEN_TAG = "globe_spawn_chosen";
+    // Players whose spawn search is running; their picker stays closed and a second choice is ignored.
+    private static final Set<UUID> PENDING_SPAWNS = new HashSet<>();
+    /** Zone and column {@link #chosenZoneInitialSpawn} put a new world's spawn in, until the first spawn choice. */
+    private static String initialSpawnZone;
+    private static BlockPos initialSpawn;
 
     public static final int BORDER_RADIUS = 7500;
     public static final int POLE_BAND_START_ABS_Z = 12000;
@@ -56,43 +74,15 @@ public class GlobeMod implements ModInitializer {
 
     public static final int POLE_START = 12000; // Legacy constant, use activePoleBandStartAbsZ for dynamic logic
 
-    private enum PolarStage {
-        NONE,
-        UNEASE,
-        IMPAIR,
-        HOSTILE,
-        WHITEOUT,
-        LETHAL,
-        HOPELESS
-    }
-
-    private static PolarCapScrubber POLAR_SCRUBBER;
-
-    private static final boolean ENABLE_POLAR_SCRUBBER = false;
-
-
-    private static final Identifier GLOBE_SETTINGS_ID = Identifier.of(MOD_ID, "overworld");
-    private static final Identifier GLOBE_SETTINGS_XSMALL_ID = Identifier.of(MOD_ID, "overworld_xsmall");
-    private static final Identifier GLOBE_SETTINGS_SMALL_ID = Identifier.of(MOD_ID, "overworld_small");
-    private static final Identifier GLOBE_SETTINGS_REGULAR_ID = Identifier.of(MOD_ID, "overworld_regular");
-
-    private static final Identifier GLOBE_SETTINGS_LARGE_ID = Identifier.of(MOD_ID, "overworld_large");
-    private static final Identifier GLOBE_SETTINGS_MASSIVE_ID = Identifier.of(MOD_ID, "overworld_massive");
-
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_XSMALL_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_XSMALL_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_SMALL_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_SMALL_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_REGULAR_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_REGULAR_ID);
-
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_LARGE_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_LARGE_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_MASSIVE_KEY = RegistryKey.of(net.minecraft.registry.RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_MASSIVE_ID);
-
     @Override
     public void onInitialize() {
         LOGGER.info("{} initialized. Use the globe:globe world preset for deterministic terrain.", MOD_ID);
 
         GlobeNet.registerPayloads();
+        GlobeProfiles.init();
         BiomeFeatureStripping.init();
+        SpawnCandidateTable.register();
+        SpawnWarmup.init();
 
         CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
             dispatcher.register(CommandManager.literal("flyspeed")
@@ -108,9 +98,36 @@ public class GlobeMod implements ModInitializer {
                             })));
         });
 
+        ServerWorldEvents.LOAD.register(GlobeMod::bindLatitudeContext);
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            if (world.getChunkManager().getChunkGenerator() instanceof LatitudeContextHolder holder && holder.globe$getColumnCache() != null) {
+                holder.globe$getColumnCache().close();
+            }
+        });
         ServerLifecycleEvents.SERVER_STARTED.register(GlobeMod::applyWorldBorder);
+        ServerLifecycleEvents.SERVER_STARTED.register(GlobeProfiles::verifyTemplatedSettings);
+        ServerLifecycleEvents.SERVER_STARTED.register(LatitudeWorkScheduler::start);
+        ServerLifecycleEvents.SERVER_STARTED.register(SpawnCandidateTable::start);
         ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
-            POLAR_SCRUBBER = null;
+            LatitudeWorkScheduler.stop();
+            SpawnCandidateTable.stop();
+            SpawnWarmup.clear();
+            PolarHazardEffects.clear();
+            PENDING_SPAWNS.clear();
+            initialSpawnZone = null;
+            initialSpawn = null;
+            LatitudeContext.setPrimary(null);
+            BiomeCompilation.clear();
+            LatitudeNoiseTiles.clear();
+        });
+
+        // Fires on server start and on every /reload; biome tag pools and catalog flags are rebuilt, then swapped in one step.
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            if (client) {
+                return;
+            }
+            Registry<Biome> biomes = registries.getOrThrow(RegistryKeys.BIOME);
+            BiomeCompilation.reload(biomes);
         });
 
         ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
@@ -144,13 +161,21 @@ public class GlobeMod implements ModInitializer {
                     applySpawnChoice(handler.player, pendingZone);
                 }
 
-                if (!handler.player.getCommandTags().contains(SPAWN_CHOSEN_TAG)) {
+                if (!handler.player.getCommandTags().contains(SPAWN_CHOSEN_TAG) && !PENDING_SPAWNS.contains(handler.player.getUuid())) {
                     LOGGER.info("Sending spawn picker open to player={}", handler.player.getName().getString());
+                    SpawnWarmup.begin(handler.player, overworld);
                     ServerPlayNetworking.send(handler.player, new GlobeNet.OpenSpawnPickerPayload(true));
                 }
             }
         });
 
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+            PolarHazardEffects.forget(handler.player);
+            if (server.getOverworld() != null) {
+                SpawnWarmup.release(server.getOverworld(), handler.player.getUuid());
+            }
+        });
+
         ServerPlayNetworking.registerGlobalReceiver(GlobeNet.SetSpawnPickerPayload.ID, (payload, context) -> {
             context.server().execute(() -> applySpawnChoice(context.player(), payload.zoneId()));
         });
@@ -158,6 +183,7 @@ public class GlobeMod implements ModInitializer {
         CommandRegistrationCallback.EVENT.register(LatitudeDevCommands::register);
 
         ServerTickEvents.END_SERVER_TICK.register(GlobeMod::borderUxTick);
+        ServerTickEvents.END_SERVER_TICK.register(LatitudeWorkScheduler::tick);
     }
 
     private static void applyWorldBorder(MinecraftServer server) {
@@ -166,14 +192,12 @@ public class GlobeMod implements ModInitializer {
             return;
         }
 
-        if (!isGlobeOverworld(overworld)) {
+        GlobeProfile profile = GlobeProfiles.forWorld(overworld);
+        if (profile == null) {
             return;
         }
 
-        long seed = overworld.getServer().getSaveProperties().getGeneratorOptions().getSeed();
-        LatitudeBiomes.setWorldSeed(seed);
-
-        int borderRadiusBlocks = borderRadiusForGlobeOverworld(overworld);
+        int borderRadiusBlocks = profile.radius();
 
         WorldBorder border = overworld.getWorldBorder();
         // radiusBlocks is e.g. 3750 / 5000 / 7500
@@ -182,85 +206,56 @@ public class GlobeMod implements ModInitializer {
         border.setSize(diameter);
 
         int activeRadius = (int) (border.getSize() / 2);
-        LatitudeBiomes.setRadius(activeRadius);
-        LOGGER.info("[Latitude] Radius Sync: WorldBorder/2 = {}, ACTIVE_RADIUS_BLOCKS = {}", 
-                activeRadius, LatitudeBiomes.getActiveRadiusBlocks());
+        LatitudeContext latitude = LatitudeContext.forWorld(overworld);
+        LOGGER.info("[Latitude] Radius Sync: WorldBorder/2 = {}, context radius = {}",
+                activeRadius, latitude != null ? latitude.radius() : -1);
 
-        int activeRadiusForCheck = (int) Math.round(border.getSize() * 0.5);
-        LatitudeBiomes.setActiveRadiusBlocks(activeRadiusForCheck);
-        GlobeMod.LOGGER.info("[Latitude] Radius Sync: Border/2 = {}, ACTIVE_RADIUS_BLOCKS = {}",
-                activeRadiusForCheck, LatitudeBiomes.getActiveRadiusBlocks());
-
-        activePoleBandStartAbsZ = (int) Math.round(activeRadius * com.example.globe.util.LatitudeMath.POLAR_START_FRAC);
-        POLAR_SCRUBBER = ENABLE_POLAR_SCRUBBER ? new PolarCapScrubber(activeRadius, activePoleBandStartAbsZ) : null;
+        activePoleBandStartAbsZ = latitude != null
+                ? latitude.polarStartAbsZ()
+                : (int) Math.round(activeRadius * profile.bands().subpolar());
 
         GlobeMod.LOGGER.info("[Latitude] WorldBorder set: radius={} diameter={} center=0,0 polarStart={}",
                 borderRadiusBlocks, diameter, activePoleBandStartAbsZ);
     }
 
-    private static void borderUxTick(MinecraftServer server) {
-        ServerWorld overworld = server.getOverworld();
-        if (overworld == null) {
+    /**
+     * Binds the world's {@link LatitudeContext} to its generator before any of its chunks generate, from the
+     * {@link GlobeProfile} the generator resolved for its noise settings.
+     */
+    private static void bindLatitudeContext(MinecraftServer server, ServerWorld world) {
+        if (!(world.getChunkManager().getChunkGenerator() instanceof LatitudeContextHolder holder)) {
             return;
         }
-
-        if (!isGlobeOverworld(overworld)) {
+        GlobeProfile profile = holder.globe$getProfile();
+        if (profile == null) {
             return;
         }
 
-        long worldTime = overworld.getTime();
-        if ((worldTime % 10L) != 0L) {
-            return;
+        LatitudeContext latitude = LatitudeContext.of(world.getSeed(), profile);
+        holder.globe$setLatitudeContext(latitude);
+        Registry<Biome> biomes = server.getRegistryManager().getOrThrow(RegistryKeys.BIOME);
+        Path atlasDirectory = DimensionType.getSaveDirectory(world.getRegistryKey(), server.getSavePath(WorldSavePath.ROOT))
+                .resolve("data").resolve("latitude_atlas");
+        holder.globe$setColumnCache(ColumnDecisionCache.create(biomes, LatitudeAtlas.open(atlasDirectory, latitude, biomes)));
+        if (world.getRegistryKey() == World.OVERWORLD) {
+            LatitudeContext.setPrimary(latitude);
         }
+        LOGGER.info("[Latitude] Bound {} to {} (profile for {})", latitude, world.getRegistryKey().getValue(), profile.noiseSettings().getValue());
+    }
 
-        WorldBorder border = overworld.getWorldBorder();
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            if (player.getEntityWorld() != overworld) {
-                continue;
-            }
-
-            double progressZ = com.example.globe.util.LatitudeMath.hazardProgress(border, player.getZ());
-            int stageIndex = com.example.globe.util.LatitudeMath.hazardStageIndex(border, player.getZ(), progressZ);
-
-            // Check if player is in the active polar band for effects
-            if (Math.abs(player.getZ()) < activePoleBandStartAbsZ) {
-                continue;
-            }
+    private static void borderUxTick(MinecraftServer server) {
+        ServerWorld overworld = server.getOverworld();
+        if (overworld == null) {
+            return;
+        }
 
-            PolarStage stage = switch (stageIndex) {
-                case 1 -> PolarStage.IMPAIR;
-                case 2 -> PolarStage.HOSTILE;
-                case 3 -> PolarStage.WHITEOUT;
-                case 4 -> PolarStage.LETHAL;
-                default -> PolarStage.NONE;
-            };
-
-            int duration = 40;
-            boolean ambient = true;
-            boolean showParticles = false;
-            boolean showIcon = false;
-
-            if (stage == PolarStage.IMPAIR) {
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOWNESS, duration, 0, ambient, showParticles, showIcon));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.WEAKNESS, duration, 0, ambient, showParticles, showIcon));
-            } else if (stage == PolarStage.HOSTILE || stage == PolarStage.WHITEOUT) {
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOWNESS, duration, 1, ambient, showParticles, showIcon));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.WEAKNESS, duration, 0, ambient, showParticles, showIcon));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.MINING_FATIGUE, duration, 0, ambient, showParticles, showIcon));
-            } else if (stage == PolarStage.LETHAL || stage == PolarStage.HOPELESS) {
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.SLOWNESS, duration, 2, ambient, showParticles, showIcon));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.WEAKNESS, duration, 1, ambient, showParticles, showIcon));
-                player.addStatusEffect(new StatusEffectInstance(StatusEffects.BLINDNESS, duration, 0, ambient, showParticles, showIcon));
-
-                int max = 140;
-                int target = (int) Math.floor(max * 0.85);
-                if (target < 1) {
-                    target = 1;
-                }
-                player.setFrozenTicks(Math.max(player.getFrozenTicks(), target));
-            }
+        LatitudeContext latitude = LatitudeContext.forWorld(overworld);
+        if (latitude == null) {
+            return;
         }
+
+        PolarHazardEffects.tick(server, overworld, latitude, activePoleBandStartAbsZ);
+        HazardViewDistance.tick(server, overworld, latitude);
     }
 
     private static void applyContinuousBlindness(ServerPlayerEntity player, boolean inFinalWhiteout) {
@@ -275,44 +270,24 @@ public class GlobeMod implements ModInitializer {
     }
 
     private static boolean isGlobeOverworld(ServerWorld world) {
-        ChunkGenerator gen = world.getChunkManager().getChunkGenerator();
-        if (!(gen instanceof NoiseChunkGenerator noise)) return false;
-
-        return noise.matchesSettings(GLOBE_SETTINGS_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY);
-    }
-
-    private static int borderRadiusForGlobeOverworld(ServerWorld world) {
-        ChunkGenerator gen = world.getChunkManager().getChunkGenerator();
-        if (!(gen instanceof NoiseChunkGenerator noise)) return BORDER_RADIUS;
-
-        if (noise.matchesSettings(GLOBE_SETTINGS_KEY)) return 15000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)) return 3750;
-        if (noise.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)) return 5000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)) return BORDER_RADIUS;
-        if (noise.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)) return 10000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY)) return 20000;
-
-        return BORDER_RADIUS;
+        return GlobeProfiles.isGlobe(world);
     }
 
     private static void applySpawnChoice(ServerPlayerEntity player, String id) {
-        if (player.getCommandTags().contains(SPAWN_CHOSEN_TAG)) {
+        if (player.getCommandTags().contains(SPAWN_CHOSEN_TAG) || PENDING_SPAWNS.contains(player.getUuid())) {
             return;
         }
 
         if (Boolean.getBoolean("latitude.disableSpawnTeleport")) {
             // DEBUG ONLY: avoid join hitch while diagnosing spawn teleport.
             LOGGER.info("Spawn teleport disabled by latitude.disableSpawnTeleport (debug only).");
+            SpawnWarmup.release(((ServerWorld) player.getEntityWorld()).getServer().getOverworld(), player.getUuid());
             return;
         }
 
         ServerWorld world = (ServerWorld) player.getEntityWorld();
         if (!isGlobeOverworld(world)) {
+            SpawnWarmup.release(world.getServer().getOverworld(), player.getUuid());
             return;
         }
 
@@ -328,16 +303,79 @@ public class GlobeMod implements ModInitializer {
         }
 
         LOGGER.info("Applying spawn choice: player={}, zoneId={}", player.getName().getString(), zoneId);
+        SpawnWarmup.keepOnly(world, player.getUuid(), zoneId);
+
+        LatitudeContext latitude = LatitudeContext.forWorld(world);
+        int radius = spawnRadius(world);
+        long seed = world.getServer().getSaveProperties().getGeneratorOptions().getSeed();
+        int targetZ = spawnTargetZ(radius, zoneId, seed);
+        String chosenZone = zoneId;
+        double warningProgress = spawnWarningProgress(latitude);
+
+        // The first choice of the zone the new world's spawn was placed in keeps that column, where the joining
+        // player's area was just loaded, as long as it still holds up; the table's spots lie elsewhere on the line.
+        BlockPos prepared = chosenZone.equals(initialSpawnZone) ? initialSpawn : null;
+        initialSpawnZone = null;
+        initialSpawn = null;
+        CompletableFuture<BlockPos> search = prepared != null
+                ? SpawnFinder.verifyColumn(world, prepared.getX(), prepared.getZ())
+                        .thenCompose(spot -> spot != null ? CompletableFuture.completedFuture(spot) : searchSpawn(world, chosenZone, radius, targetZ, seed))
+                : searchSpawn(world, chosenZone, radius, targetZ, seed);
+
+        UUID playerId = player.getUuid();
+        PENDING_SPAWNS.add(playerId);
+        search.whenCompleteAsync((found, error) -> {
+            PENDING_SPAWNS.remove(playerId);
+            if (error != null) {
+                LOGGER.warn("[Latitude] Spawn search failed for zone={} targetZ={}", chosenZone, targetZ, error);
+            }
+            BlockPos spawnPos = found;
+            if (spawnPos == null) {
+                LOGGER.warn("[Latitude] Could not find land spawn for zone={} targetZ={}. Falling back to (0, seaLevel+2).", chosenZone, targetZ);
+                spawnPos = new BlockPos(0, world.getSeaLevel() + 2, targetZ);
+            }
 
-        int radius = LatitudeBiomes.getActiveRadiusBlocks();
+            BlockPos clampedSpawnPos = clampSpawnAwayFromEwWarning(spawnPos, radius, warningProgress);
+            world.setSpawnPoint(WorldProperties.SpawnPoint.create(world.getRegistryKey(), clampedSpawnPos, 0.0f, 0.0f));
+
+            // The player may have left or changed dimension while the search ran; the spawn point still stands.
+            ServerPlayerEntity current = world.getServer().getPlayerManager().getPlayer(playerId);
+            if (current != null && current.getEntityWorld() == world && !current.getCommandTags().contains(SPAWN_CHOSEN_TAG)) {
+                BlockPos teleportPos = clampSpawnAwayFromEwWarning(clampedSpawnPos, radius, warningProgress);
+                current.teleport(world, teleportPos.getX() + 0.5, teleportPos.getY(), teleportPos.getZ() + 0.5, EnumSet.noneOf(PositionFlag.class), current.getYaw(), current.getPitch(), true);
+                current.addCommandTag(SPAWN_CHOSEN_TAG);
+            }
+            // The player's own tickets hold the area from here on.
+            SpawnWarmup.release(world, playerId);
+        }, world.getServer());
+    }
+
+    /** A stored spot for {@code zoneId} that still holds up; otherwise a search now. */
+    private static CompletableFuture<BlockPos> searchSpawn(ServerWorld world, String zoneId, int radius, int targetZ, long seed) {
+        return SpawnCandidateTable.take(world, zoneId).thenCompose(precomputed -> {
+            if (precomputed != null) {
+                return CompletableFuture.completedFuture(precomputed);
+            }
+            int maxAbsX = spawnSearchMaxAbsX(world, radius);
+            return SpawnFinder.find(world, radius, -maxAbsX, maxAbsX, targetZ, seed);
+        });
+    }
+
+    /** Radius spawn latitudes are measured against: the bound context's, else half the world border. */
+    static int spawnRadius(ServerWorld world) {
+        LatitudeContext latitude = LatitudeContext.forWorld(world);
+        int radius = latitude != null ? latitude.radius() : 0;
         if (radius <= 0) {
             WorldBorder border = world.getWorldBorder();
             radius = (int) Math.round(com.example.globe.util.LatitudeMath.halfSize(border));
         }
+        return radius;
+    }
 
-        long seed = world.getServer().getSaveProperties().getGeneratorOptions().getSeed();
+    /** The latitude line a spawn in {@code zoneId} is searched on; the hemisphere is fixed per seed. */
+    static int spawnTargetZ(int radius, String zoneId, long seed) {
         double v = hash01(seed, 1, 0, SPAWN_SALT);
-        
+
         double spawnAbsLatFrac = com.example.globe.util.LatitudeMath.spawnFracForZoneKey(zoneId);
         int z = (int) Math.round(radius * spawnAbsLatFrac);
         if (v < 0.5) {
@@ -346,31 +384,62 @@ public class GlobeMod implements ModInitializer {
 
         int warnStartZ = Math.max(0, radius - POLE_WARNING_DISTANCE_BLOCKS);
         int maxAbsZ = Math.max(0, warnStartZ - 500);
-        z = MathHelper.clamp(z, -maxAbsZ, maxAbsZ);
-
-        int targetZ = z;
+        return MathHelper.clamp(z, -maxAbsZ, maxAbsZ);
+    }
 
-        BlockPos spawnPos = findLandSpawn(world, radius, targetZ, seed);
+    static double spawnWarningProgress(LatitudeContext latitude) {
+        return latitude != null
+                ? latitude.profile().hazard().stage1()
+                : com.example.globe.util.LatitudeMath.POLAR_STAGE_1_PROGRESS;
+    }
 
-        if (spawnPos == null) {
-            LOGGER.warn("[Latitude] Could not find land spawn for zone={} targetZ={}. Falling back to (0, seaLevel+2).", zoneId, targetZ);
-            spawnPos = new BlockPos(0, world.getSeaLevel() + 2, targetZ);
-        }
+    /** Largest |x| a spawn keeps once {@link #clampSpawnAwayFromEwWarning} has moved it out of the storm warning. */
+    static int spawnMaxAbsX(int radiusBlocks, double warningProgress) {
+        int warningStartX = (int) Math.round(radiusBlocks * warningProgress);
+        return warningStartX <= 0 ? Integer.MAX_VALUE : Math.max(0, warningStartX - EW_SPAWN_PADDING_BLOCKS);
+    }
 
-        BlockPos clampedSpawnPos = clampSpawnAwayFromEwWarning(spawnPos, radius);
-        world.setSpawnPoint(WorldProperties.SpawnPoint.create(world.getRegistryKey(), clampedSpawnPos, 0.0f, 0.0f));
+    /** Largest |x| a spawn search draws from: inside the border margin and clear of the storm warning. */
+    static int spawnSearchMaxAbsX(ServerWorld world, int radius) {
+        double warningProgress = spawnWarningProgress(LatitudeContext.forWorld(world));
+        int maxAbsX = Math.max(0, radius - SpawnFinder.MARGIN);
+        return Math.min(maxAbsX, spawnMaxAbsX(radius, warningProgress));
+    }
 
-        BlockPos teleportPos = clampSpawnAwayFromEwWarning(clampedSpawnPos, radius);
-        player.teleport(world, teleportPos.getX() + 0.5, teleportPos.getY(), teleportPos.getZ() + 0.5, EnumSet.noneOf(PositionFlag.class), player.getYaw(), player.getPitch(), true);
-        player.addCommandTag(SPAWN_CHOSEN_TAG);
+    /**
+     * World spawn for a new single-player globe world whose zone was picked on the create-world screen: the best
+     * noise-predicted land column of the same search {@link #applySpawnChoice} runs when the player joins. Vanilla
+     * then loads the joining player's area there instead of near the equator, and the first spawn choice of that zone
+     * verifies and keeps this column rather than taking a stored spot elsewhere on the line.
+     * {@code null} keeps vanilla's spawn setup (dedicated servers, no picked zone, no land predicted).
+     */
+    public static BlockPos chosenZoneInitialSpawn(ServerWorld world) {
+        if (world.getServer().isDedicated() || !isGlobeOverworld(world) || LatitudeContext.forWorld(world) == null) {
+            return null;
+        }
+        String zoneId = GlobePending.peek();
+        if (zoneId == null) {
+            return null;
+        }
+        long seed = world.getServer().getSaveProperties().getGeneratorOptions().getSeed();
+        zoneId = resolveSpawnZoneId(zoneId, seed);
+        int radius = spawnRadius(world);
+        int targetZ = spawnTargetZ(radius, zoneId, seed);
+        int maxAbsX = spawnSearchMaxAbsX(world, radius);
+        BlockPos spawn = SpawnFinder.predict(world, radius, -maxAbsX, maxAbsX, targetZ, seed);
+        if (spawn != null) {
+            initialSpawnZone = zoneId;
+            initialSpawn = spawn;
+        }
+        return spawn;
     }
 
-    private static BlockPos clampSpawnAwayFromEwWarning(BlockPos spawnPos, int radiusBlocks) {
+    private static BlockPos clampSpawnAwayFromEwWarning(BlockPos spawnPos, int radiusBlocks, double warningProgress) {
         if (spawnPos == null || radiusBlocks <= 0) {
             return spawnPos;
         }
 
-        int warningStartX = (int) Math.round(radiusBlocks * com.example.globe.util.LatitudeMath.POLAR_STAGE_1_PROGRESS);
+        int warningStartX = (int) Math.round(radiusBlocks * warningProgress);
         if (warningStartX <= 0) {
             return spawnPos;
         }
@@ -385,83 +454,6 @@ public class GlobeMod implements ModInitializer {
         return new BlockPos(clampedX, spawnPos.getY(), spawnPos.getZ());
     }
 
-    private static BlockPos findLandSpawn(ServerWorld world, int borderHalf, int targetZ, long seed) {
-        final int margin = 320;
-        final int max = Math.max(0, borderHalf - margin);
-
-        // First pass: vary X only (stay exactly in the selected latitude line)
-        final int attemptsXOnly = 96;
-
-        // Second pass: if still failing, allow small Z jitter while staying near the band
-        final int attemptsWithZJitter = 96;
-        final int zJitter = 96;
-
-        Random rng = Random.create(seed ^ 0x9E3779B97F4A7C15L ^ (long) targetZ);
-
-        BlockPos best = null;
-        int bestY = Integer.MIN_VALUE;
-
-        // Pass 1: X-only
-        for (int i = 0; i < attemptsXOnly; i++) {
-            int x = rng.nextBetween(-max, max);
-            int z = targetZ;
-
-            BlockPos candidate = tryLandAt(world, x, z);
-            if (candidate == null) continue;
-
-            int y = candidate.getY();
-            if (y > bestY) {
-                bestY = y;
-                best = candidate;
-            }
-        }
-        if (best != null) return best;
-
-        // Pass 2: X + small Z jitter
-        for (int i = 0; i < attemptsWithZJitter; i++) {
-            int x = rng.nextBetween(-max, max);
-            int z = MathHelper.clamp(targetZ + rng.nextBetween(-zJitter, zJitter), -max, max);
-
-            BlockPos candidate = tryLandAt(world, x, z);
-            if (candidate == null) continue;
-
-            int y = candidate.getY();
-            if (y > bestY) {
-                bestY = y;
-                best = candidate;
-            }
-        }
-
-        return best;
-    }
-
-    private static BlockPos tryLandAt(ServerWorld world, int x, int z) {
-        // Ensure chunk exists
-        world.getChunk(x >> 4, z >> 4);
-
-        BlockPos ground = world.getTopPosition(
-                Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
-                new BlockPos(x, world.getBottomY(), z)
-        );
-
-        // Spawn is one block above ground
-        BlockPos spawn = ground.up();
-
-        // Reject if water column / fluid at spawn space
-        if (!world.getFluidState(spawn).isEmpty()) return null;
-        if (!world.getFluidState(spawn.up()).isEmpty()) return null;
-
-        // Need 2-block headroom
-        if (!world.getBlockState(spawn).isAir()) return null;
-        if (!world.getBlockState(spawn.up()).isAir()) return null;
-
-        // Reject "stand in water" edge cases (seafloor top can still be valid with water above)
-        // MOTION_BLOCKING_NO_LEAVES usually avoids water surfaces, but this double-check is cheap.
-        if (!world.getFluidState(ground).isEmpty()) return null;
-
-        return spawn;
-    }
-
     private static double lerp(double a, double b, double t) {
         return a + (b - a) * t;
     }
@@ -12,6 +12,11 @@ public final class GlobePending {
         pendingSpawnZone = zoneId;
     }
 
+    /** The zone picked on the create-world screen, without clearing it. */
+    public static String peek() {
+        return pendingSpawnZone;
+    }
+
     public static String consume() {
         String v = pendingSpawnZone;
         pendingSpawnZone = null;
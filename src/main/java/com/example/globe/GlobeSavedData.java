@@ -0,0 +1,26 @@
+package com.example.globe;
+
+import java.util.function.Supplier;
+
+import com.mojang.serialization.Codec;
+
+import net.minecraft.datafixer.DataFixTypes;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateType;
+
+/** Saved-data types for the mod's own files in a world's {@code data} folder. */
+final class GlobeSavedData {
+    /**
+     * The data-fix type every mod file is registered under. {@link PersistentStateType} requires one, and the game
+     * has none for mod data; command storage is borrowed because it is a plain remainder type that no vanilla data
+     * fix rewrites, so the mod's keys pass through a version upgrade unchanged.
+     */
+    private static final DataFixTypes DATA_FIX_TYPE = DataFixTypes.SAVED_DATA_COMMAND_STORAGE;
+
+    private GlobeSavedData() {
+    }
+
+    static <T extends PersistentState> PersistentStateType<T> type(String id, Supplier<T> constructor, Codec<T> codec) {
+        return new PersistentStateType<>(id, constructor, codec, DATA_FIX_TYPE);
+    }
+}
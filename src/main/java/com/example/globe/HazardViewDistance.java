@@ -0,0 +1,109 @@
+package com.example.globe;
+
+import com.example.globe.util.LatitudeMath;
+import com.example.globe.world.LatitudeContext;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.border.WorldBorder;
+
+/**
+ * Shrinks what the server sends and tracks around a player standing in a hazard band, where the client fogs the
+ * view down to a few chunks anyway. The stage is the higher of the polar stage ({@code |z|}) and the east-west storm
+ * stage ({@code |x|}), both from {@link LatitudeMath#hazardProgress}; each stage caps the player's chunk view distance,
+ * which bounds the chunks sent to them and their entity tracking, and the radius in which the player lets chunks
+ * random-tick and spawn mobs. Chunk loading, generation and entity-ticking tickets are kept per chunk at the server's
+ * own levels, not per player, so what the server loads and simulates around the player is unchanged.
+ * <p>
+ * A stage is entered at its threshold and left only once the player is {@value #HYSTERESIS_BLOCKS} blocks back
+ * inside, so walking along a boundary does not resend a ring of chunks each time. A tighter cap applies at once; a
+ * looser one is approached a chunk per visit, so leaving the pole does not ask for the whole view in one tick.
+ * <p>
+ * Players are visited on the same staggered {@value PolarHazardEffects#VISIT_INTERVAL_TICKS}-tick schedule as
+ * {@link PolarHazardEffects}. Off when {@value #DISABLED_PROPERTY} is set.
+ */
+public final class HazardViewDistance {
+    public static final String DISABLED_PROPERTY = "latitude.disableHazardView";
+    private static final boolean DISABLED = Boolean.getBoolean(DISABLED_PROPERTY);
+
+    private static final int HYSTERESIS_BLOCKS = 32;
+    private static final int MIN_CHUNKS = 2;
+
+    // View cap in chunks by hazard stage 0..4; 0 = uncapped. The client's fog ends around 6 chunks in stage 1 and
+    // within one chunk from stage 3 on.
+    private static final int[] CAP_BY_STAGE = {0, 8, 6, 4, 3};
+
+    private HazardViewDistance() {
+    }
+
+    static void tick(MinecraftServer server, ServerWorld overworld, LatitudeContext latitude) {
+        if (DISABLED) {
+            return;
+        }
+        int slot = (int) Math.floorMod(overworld.getTime(), (long) PolarHazardEffects.VISIT_INTERVAL_TICKS);
+        int serverChunks = server.getPlayerManager().getViewDistance();
+        WorldBorder border = overworld.getWorldBorder();
+
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            if (Math.floorMod(player.getId(), PolarHazardEffects.VISIT_INTERVAL_TICKS) != slot) {
+                continue;
+            }
+            HazardViewHolder holder = (HazardViewHolder) player;
+            int stage = 0;
+            if (player.getEntityWorld() == overworld) {
+                stage = nextStage(latitude, border, player.getX(), player.getZ(), holder.globe$getHazardViewStage());
+            }
+            holder.globe$setHazardViewStage(stage);
+            holder.globe$setHazardViewCap(nextCap(holder.globe$getHazardViewCap(), CAP_BY_STAGE[stage], serverChunks));
+        }
+    }
+
+    /** The view distance to use for {@code player} given the server's {@code chunks}. */
+    public static int viewDistance(ServerPlayerEntity player, int chunks) {
+        int cap = ((HazardViewHolder) player).globe$getHazardViewCap();
+        return cap > 0 && cap < chunks ? cap : chunks;
+    }
+
+    /** Squared block radius within which {@code player} ticks chunks, at most {@code vanillaSquared}. */
+    public static double tickRadiusSquared(ServerPlayerEntity player, double vanillaSquared) {
+        int cap = ((HazardViewHolder) player).globe$getHazardViewCap();
+        if (cap <= 0) {
+            return vanillaSquared;
+        }
+        double blocks = cap * 16.0;
+        return Math.min(vanillaSquared, blocks * blocks);
+    }
+
+    private static int nextStage(LatitudeContext latitude, WorldBorder border, double x, double z, int current) {
+        int raw = stageAt(latitude, border, x, z);
+        if (raw >= current) {
+            return raw;
+        }
+        // Only step down once the stage still holds nowhere within the hysteresis margin outward.
+        double outX = Math.abs(x) + HYSTERESIS_BLOCKS;
+        double outZ = Math.abs(z) + HYSTERESIS_BLOCKS;
+        return Math.min(current, stageAt(latitude, border, outX, outZ));
+    }
+
+    private static int stageAt(LatitudeContext latitude, WorldBorder border, double x, double z) {
+        int polar = latitude.hazardStageIndex(LatitudeMath.hazardProgress(border, z));
+        int storm = latitude.hazardStageIndex(LatitudeMath.hazardProgress(border, x));
+        return Math.max(polar, storm);
+    }
+
+    private static int nextCap(int cap, int target, int serverChunks) {
+        if (target > 0) {
+            target = Math.max(MIN_CHUNKS, target);
+            if (cap == 0 || target <= cap) {
+                return target;
+            }
+            return cap + 1;
+        }
+        if (cap == 0) {
+            return 0;
+        }
+        int next = cap + 1;
+        return next >= serverChunks ? 0 : next;
+    }
+}
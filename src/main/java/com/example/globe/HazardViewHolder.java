@@ -0,0 +1,15 @@
+package com.example.globe;
+
+/**
+ * Implemented by {@code ServerPlayerEntity} through a mixin: the player's {@link HazardViewDistance} state. A cap of 0
+ * means the server's own view distance applies.
+ */
+public interface HazardViewHolder {
+    int globe$getHazardViewCap();
+
+    void globe$setHazardViewCap(int chunks);
+
+    int globe$getHazardViewStage();
+
+    void globe$setHazardViewStage(int stage);
+}
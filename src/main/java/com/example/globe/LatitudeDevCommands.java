@@ -1,24 +1,33 @@
 package com.example.globe;
 
 import com.example.globe.util.LatitudeMath;
-import com.example.globe.world.LatitudeBiomes;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.LatitudeNoiseTiles;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.context.CommandContext;
 import net.minecraft.registry.tag.BiomeTags;
 import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.command.CommandManager;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ChunkTicketType;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.Heightmap;
 import net.minecraft.command.CommandRegistryAccess;
 import net.minecraft.network.packet.s2c.play.PositionFlag;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.noise.NoiseConfig;
 
 import java.util.EnumSet;
 import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 public final class LatitudeDevCommands {
 
@@ -43,6 +52,57 @@ public final class LatitudeDevCommands {
             .then(CommandManager.literal("subpolar").executes(ctx -> tp(ctx, "SUBPOLAR", -1)))
             .then(CommandManager.literal("polar").executes(ctx -> tp(ctx, "POLAR", -1)))
         );
+
+        dispatcher.register(CommandManager.literal("latwork")
+            .executes(LatitudeDevCommands::workStatus)
+        );
+
+        dispatcher.register(CommandManager.literal("latnoise")
+            .executes(LatitudeDevCommands::noiseStats)
+            .then(CommandManager.literal("clear").executes(ctx -> {
+                LatitudeNoiseTiles.clear();
+                ctx.getSource().sendFeedback(() -> Text.literal("[latnoise] tiles cleared"), false);
+                return 1;
+            }))
+        );
+    }
+
+    private static int workStatus(CommandContext<ServerCommandSource> ctx) {
+        LatitudeWorkScheduler scheduler = LatitudeWorkScheduler.get();
+        if (scheduler == null) {
+            ctx.getSource().sendError(Text.literal("[latwork] scheduler not running"));
+            return 0;
+        }
+        LatitudeWorkScheduler.Status status = scheduler.status();
+        int[] depth = status.depth();
+        ctx.getSource().sendFeedback(() -> Text.literal("[latwork] queued=" + status.totalDepth()
+            + " (high=" + depth[0] + " normal=" + depth[1] + " low=" + depth[2] + ")"
+            + " lastTick=" + String.format(Locale.ROOT, "%.2fms", status.spentNanos() / 1_000_000.0)
+            + "/" + String.format(Locale.ROOT, "%.2fms", status.budgetNanos() / 1_000_000.0)
+            + " steps=" + status.steps()
+            + " completed=" + status.completed()
+            + " cancelled=" + status.cancelled()
+            + " failed=" + status.failed()
+        ), false);
+        return 1;
+    }
+
+    private static int noiseStats(CommandContext<ServerCommandSource> ctx) {
+        if (!LatitudeNoiseTiles.enabled()) {
+            ctx.getSource().sendFeedback(() -> Text.literal("[latnoise] tile cache disabled (-D"
+                + LatitudeNoiseTiles.CAPACITY_PROPERTY + "=0)"), false);
+            return 0;
+        }
+        LatitudeNoiseTiles.Stats stats = LatitudeNoiseTiles.stats();
+        ctx.getSource().sendFeedback(() -> Text.literal("[latnoise] tiles=" + stats.tiles() + "/" + stats.capacity()
+            + " hitRate=" + String.format(Locale.ROOT, "%.1f%%", stats.hitRate() * 100.0)
+            + " hits=" + stats.hits()
+            + " misses=" + stats.misses()
+            + " fieldFills=" + stats.fieldFills()
+            + " evictions=" + stats.evictions()
+            + " memory=" + String.format(Locale.ROOT, "%.1fKiB", stats.bytes() / 1024.0)
+        ), false);
+        return 1;
     }
 
     private static int tp(CommandContext<ServerCommandSource> ctx, String zoneKey, int hemiSign) {
@@ -62,20 +122,12 @@ public final class LatitudeDevCommands {
                 + " frac=" + String.format(Locale.ROOT, "%.3f", frac)
             ), false);
 
-            BlockPos safe = findSafeLand(world, targetZ);
-            if (safe == null) {
-                source.sendError(Text.literal("[lattp] no land found near Z=" + targetZ));
+            LatitudeWorkScheduler scheduler = LatitudeWorkScheduler.get();
+            if (scheduler == null) {
+                source.sendError(Text.literal("[lattp] server is not running"));
                 return 0;
             }
-
-            // Ensure chunk is loaded
-            world.getChunk(safe.getX() >> 4, safe.getZ() >> 4);
-
-            player.teleport(world, safe.getX() + 0.5, (double)safe.getY(), safe.getZ() + 0.5, EnumSet.noneOf(PositionFlag.class), player.getYaw(), player.getPitch(), true);
-            source.sendFeedback(() -> Text.literal("[lattp] teleported: " + safe.toShortString()
-                + " topY=" + safe.getY()
-                + " biome=" + world.getBiome(safe).getKey().map(k -> k.getValue().toString()).orElse("?")
-            ), true);
+            scheduler.submit(LatitudeWorkScheduler.Priority.HIGH, new SafeLandSearch(source, player.getUuid(), world, targetZ));
             return 1;
 
         } catch (Exception e) {
@@ -85,31 +137,137 @@ public final class LatitudeDevCommands {
         }
     }
 
+    private static void teleport(ServerCommandSource source, ServerPlayerEntity player, ServerWorld world, BlockPos safe) {
+        // Ensure chunk is loaded
+        world.getChunk(safe.getX() >> 4, safe.getZ() >> 4);
+
+        player.teleport(world, safe.getX() + 0.5, (double)safe.getY(), safe.getZ() + 0.5, EnumSet.noneOf(PositionFlag.class), player.getYaw(), player.getPitch(), true);
+        source.sendFeedback(() -> Text.literal("[lattp] teleported: " + safe.toShortString()
+            + " topY=" + safe.getY()
+            + " biome=" + world.getBiome(safe).getKey().map(k -> k.getValue().toString()).orElse("?")
+        ), true);
+    }
+
     private static int getAuthoritativeRadius(ServerWorld world) {
-        int active = LatitudeBiomes.ACTIVE_RADIUS_BLOCKS;
-        if (active > 0) return active;
+        LatitudeContext latitude = LatitudeContext.forWorld(world);
+        if (latitude != null && latitude.radius() > 0) return latitude.radius();
         return (int) Math.round(LatitudeMath.halfSize(world.getWorldBorder()));
     }
 
-    private static BlockPos findSafeLand(ServerWorld world, int targetZ) {
-        int searchX = 10000;
-        int stepX = 64;
-        int[] dzs = new int[] {0, 64, -64, 128, -128, 256, -256, 512, -512};
-
-        for (int dz : dzs) {
-            int z = targetZ + dz;
-            for (int x = 0; x <= searchX; x += stepX) {
-                BlockPos p = check(world, x, z);
-                if (p != null) return p;
-                if (x != 0) {
-                    p = check(world, -x, z);
-                    if (p != null) return p;
+    /**
+     * Walks the columns {@code /lattp} used to scan in one go (x = 0, ±64, ... ±10000 on each of nine rows around the
+     * target) without loading anything on the server thread. A worker thread walks on from the cursor to the next
+     * column the generator's noise predicts to be land ({@link SpawnFinder#predictLandY}); that column's chunk is then
+     * loaded with a spawn-search ticket and checked on the server thread. While a step is in flight, the task just
+     * waits for it.
+     */
+    private static final class SafeLandSearch implements LatitudeWorkScheduler.Task {
+        private static final int SEARCH_X = 10000;
+        private static final int STEP_X = 64;
+        private static final int[] DZS = new int[] {0, 64, -64, 128, -128, 256, -256, 512, -512};
+
+        /** A column in scan order: row, then x = 0, +64, -64, +128, ... */
+        private record Cursor(int row, int x, boolean negative) {
+            boolean done() {
+                return row >= DZS.length;
+            }
+
+            Cursor next() {
+                if (x != 0 && !negative) {
+                    return new Cursor(row, x, true);
                 }
+                int nextX = x + STEP_X;
+                return nextX > SEARCH_X ? new Cursor(row + 1, 0, false) : new Cursor(row, nextX, false);
+            }
+        }
+
+        /** Where a step stopped, and the safe spot there if the real column held up. */
+        private record Step(Cursor cursor, BlockPos found) {
+        }
+
+        private final ServerCommandSource source;
+        private final UUID playerId;
+        private final ServerWorld world;
+        private final int targetZ;
+        private Cursor cursor = new Cursor(0, 0, false);
+        private CompletableFuture<Step> pending;
+
+        SafeLandSearch(ServerCommandSource source, UUID playerId, ServerWorld world, int targetZ) {
+            this.source = source;
+            this.playerId = playerId;
+            this.world = world;
+            this.targetZ = targetZ;
+        }
+
+        @Override
+        public boolean run(MinecraftServer server, long deadlineNanos) {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
+            if (player == null || player.getEntityWorld() != world) {
+                return true;
+            }
+            if (pending == null) {
+                pending = step(cursor);
+                return false;
+            }
+            if (!pending.isDone()) {
+                return false;
+            }
+            if (pending.isCompletedExceptionally()) {
+                source.sendError(Text.literal("[lattp] search failed near Z=" + targetZ));
+                return true;
+            }
+            Step step = pending.join();
+            pending = null;
+            if (step.found() != null) {
+                teleport(source, player, world, step.found());
+                return true;
             }
+            if (step.cursor().done()) {
+                source.sendError(Text.literal("[lattp] no land found near Z=" + targetZ));
+                return true;
+            }
+            cursor = step.cursor().next();
+            return false;
+        }
+
+        /** Predicts forward from {@code from} off-thread, then loads and checks the first column that looks like land. */
+        private CompletableFuture<Step> step(Cursor from) {
+            ChunkGenerator generator = world.getChunkManager().getChunkGenerator();
+            NoiseConfig noiseConfig = world.getChunkManager().getNoiseConfig();
+            int seaLevel = world.getSeaLevel();
+            return CompletableFuture
+                    .supplyAsync(() -> nextPredictedLand(generator, noiseConfig, seaLevel, from), Util.getMainWorkerExecutor())
+                    .thenComposeAsync(at -> {
+                        if (at.done()) {
+                            return CompletableFuture.completedFuture(new Step(at, null));
+                        }
+                        int x = columnX(at);
+                        int z = columnZ(at);
+                        return world.getChunkManager()
+                                .addChunkLoadingTicket(ChunkTicketType.SPAWN_SEARCH, new ChunkPos(x >> 4, z >> 4), 0)
+                                .thenApplyAsync(loaded -> new Step(at, check(world, x, z)), world.getServer());
+                    }, world.getServer());
+        }
+
+        private Cursor nextPredictedLand(ChunkGenerator generator, NoiseConfig noiseConfig, int seaLevel, Cursor from) {
+            Cursor at = from;
+            while (!at.done()
+                    && SpawnFinder.predictLandY(world, generator, noiseConfig, seaLevel, columnX(at), columnZ(at)) == SpawnFinder.NO_LAND) {
+                at = at.next();
+            }
+            return at;
+        }
+
+        private static int columnX(Cursor at) {
+            return at.negative() ? -at.x() : at.x();
+        }
+
+        private int columnZ(Cursor at) {
+            return targetZ + DZS[at.row()];
         }
-        return null;
     }
 
+    /** The column's top if it is not ocean. The chunk must be loaded. */
     private static BlockPos check(ServerWorld world, int x, int z) {
         int y = world.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, x, z);
         BlockPos pos = new BlockPos(x, y, z);
@@ -0,0 +1,324 @@
+package com.example.globe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.StringIdentifiable;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateType;
+
+/**
+ * One shared time budget for server-side latitude work that does not have to finish within a tick: land searches,
+ * candidate scans, anything that walks many columns or chunks. Tasks are cooperative; each runs until it is done or
+ * the tick's deadline passes and is resumed on a later tick. Within a tick the highest priority queue goes first and
+ * tasks of equal priority take turns.
+ * <p>
+ * The budget follows MSPT: a quarter of whatever the average tick leaves spare of the tick length, between
+ * {@value #MIN_BUDGET_NANOS} ns and {@value #MAX_BUDGET_PROPERTY} (default 4 ms). A lagging server still gives the
+ * queue the minimum, so nothing starves.
+ * <p>
+ * Tasks that name a {@link Task#kind() kind} are written to the overworld's {@code latitude_work} saved data with
+ * their {@link Task#save() state} whenever the world saves, and are rebuilt from it by the loader registered with
+ * {@link #registerKind} when the server starts again. Tasks of a kind nobody registered this session are kept in the
+ * file untouched.
+ * <p>
+ * All methods run on the server thread.
+ */
+public final class LatitudeWorkScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeBiomes");
+
+    public static final String MAX_BUDGET_PROPERTY = "latitude.workBudgetMs";
+
+    private static final long MIN_BUDGET_NANOS = 200_000L;
+    private static final long MAX_BUDGET_NANOS = Math.max(MIN_BUDGET_NANOS, Long.getLong(MAX_BUDGET_PROPERTY, 4L) * 1_000_000L);
+
+    private static final Map<String, Function<NbtCompound, Task>> KINDS = new ConcurrentHashMap<>();
+
+    private static LatitudeWorkScheduler current;
+
+    private final MinecraftServer server;
+    private final SavedQueue saved;
+    private final List<ArrayDeque<Handle>> queues = new ArrayList<>();
+
+    private long lastBudgetNanos;
+    private long lastSpentNanos;
+    private int lastSteps;
+    private long completed;
+    private long cancelled;
+    private long failed;
+
+    public enum Priority implements StringIdentifiable {
+        HIGH,
+        NORMAL,
+        LOW;
+
+        public static final Codec<Priority> CODEC = StringIdentifiable.createCodec(Priority::values);
+
+        @Override
+        public String asString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** A resumable unit of background work. */
+    public interface Task {
+        /**
+         * Does work until the task is finished or {@code System.nanoTime()} reaches {@code deadlineNanos}, checking
+         * the clock between steps small enough to overrun it by little. Returns {@code true} once finished.
+         */
+        boolean run(MinecraftServer server, long deadlineNanos);
+
+        /** Saved-data kind this task is restored by, or {@code null} if it does not outlive the server. */
+        default String kind() {
+            return null;
+        }
+
+        /** The state {@link #registerKind the kind's loader} resumes from. Only called when {@link #kind()} is set. */
+        default NbtCompound save() {
+            return new NbtCompound();
+        }
+
+        /** Called once if the task is cancelled or throws; release anything held for it. */
+        default void abandoned() {
+        }
+    }
+
+    /** A submitted task. */
+    public static final class Handle {
+        private final Priority priority;
+        private final Task task;
+        private boolean cancelled;
+        private boolean done;
+
+        private Handle(Priority priority, Task task) {
+            this.priority = priority;
+            this.task = task;
+        }
+
+        /** Stops the task before its next step; a task already running finishes its current step. */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+    }
+
+    public record Status(long budgetNanos, long spentNanos, int steps, int[] depth, long completed, long cancelled, long failed) {
+        public int totalDepth() {
+            int total = 0;
+            for (int d : depth) {
+                total += d;
+            }
+            return total;
+        }
+    }
+
+    private LatitudeWorkScheduler(MinecraftServer server, SavedQueue saved) {
+        this.server = server;
+        this.saved = saved;
+        for (int i = 0; i < Priority.values().length; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+    }
+
+    /** Registers how to rebuild persisted tasks of {@code kind}. Call during mod init, before the server starts. */
+    public static void registerKind(String kind, Function<NbtCompound, Task> loader) {
+        KINDS.put(kind, loader);
+    }
+
+    /** The running server's scheduler, or {@code null} when no server is running. */
+    public static LatitudeWorkScheduler get() {
+        return current;
+    }
+
+    static void start(MinecraftServer server) {
+        ServerWorld overworld = server.getOverworld();
+        if (overworld == null) {
+            return;
+        }
+        SavedQueue saved = overworld.getPersistentStateManager().getOrCreate(SavedQueue.TYPE);
+        LatitudeWorkScheduler scheduler = new LatitudeWorkScheduler(server, saved);
+        List<Entry> orphans = new ArrayList<>();
+        int resumed = 0;
+        for (Entry entry : saved.entries) {
+            Function<NbtCompound, Task> loader = KINDS.get(entry.kind());
+            Task task = null;
+            if (loader != null) {
+                try {
+                    task = loader.apply(entry.state());
+                } catch (RuntimeException e) {
+                    LOGGER.warn("[Latitude] Dropping saved {} task: {}", entry.kind(), e.toString());
+                    continue;
+                }
+            }
+            if (task != null) {
+                scheduler.submit(entry.priority(), task);
+                resumed++;
+            } else {
+                orphans.add(entry);
+            }
+        }
+        saved.orphans = orphans;
+        saved.owner = scheduler;
+        if (!saved.entries.isEmpty()) {
+            LOGGER.info("[Latitude] Resumed {} background task(s), {} of unknown kind kept", resumed, orphans.size());
+        }
+        current = scheduler;
+    }
+
+    static void stop() {
+        LatitudeWorkScheduler scheduler = current;
+        current = null;
+        if (scheduler != null) {
+            scheduler.saved.owner = null;
+        }
+    }
+
+    static void tick(MinecraftServer server) {
+        LatitudeWorkScheduler scheduler = current;
+        if (scheduler != null && scheduler.server == server) {
+            scheduler.runTick();
+        }
+    }
+
+    public Handle submit(Priority priority, Task task) {
+        Handle handle = new Handle(priority, task);
+        queues.get(priority.ordinal()).addLast(handle);
+        if (task.kind() != null) {
+            saved.markDirty();
+        }
+        return handle;
+    }
+
+    private long budgetNanos() {
+        long tickNanos = server.getTickManager().getNanosPerTick();
+        long spare = tickNanos - server.getAverageNanosPerTick();
+        return Math.max(MIN_BUDGET_NANOS, Math.min(MAX_BUDGET_NANOS, spare / 4L));
+    }
+
+    private void runTick() {
+        long start = System.nanoTime();
+        long budget = budgetNanos();
+        long deadline = start + budget;
+        int steps = 0;
+        boolean persistedProgress = false;
+
+        for (ArrayDeque<Handle> queue : queues) {
+            int turns = queue.size();
+            while (turns-- > 0 && System.nanoTime() < deadline) {
+                Handle handle = queue.pollFirst();
+                if (handle.cancelled) {
+                    finish(handle, true);
+                    cancelled++;
+                    continue;
+                }
+                boolean finished;
+                try {
+                    finished = handle.task.run(server, deadline);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("[Latitude] Background task {} failed: {}", handle.task, e.toString());
+                    finish(handle, true);
+                    failed++;
+                    continue;
+                }
+                steps++;
+                persistedProgress |= handle.task.kind() != null;
+                if (finished) {
+                    finish(handle, false);
+                    completed++;
+                } else {
+                    queue.addLast(handle);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+
+        if (persistedProgress) {
+            saved.markDirty();
+        }
+        lastBudgetNanos = budget;
+        lastSpentNanos = System.nanoTime() - start;
+        lastSteps = steps;
+    }
+
+    private static void finish(Handle handle, boolean abandoned) {
+        handle.done = true;
+        if (abandoned) {
+            handle.task.abandoned();
+        }
+    }
+
+    public Status status() {
+        int[] depth = new int[queues.size()];
+        for (int i = 0; i < depth.length; i++) {
+            depth[i] = queues.get(i).size();
+        }
+        return new Status(lastBudgetNanos, lastSpentNanos, lastSteps, depth, completed, cancelled, failed);
+    }
+
+    private List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>(saved.orphans);
+        for (ArrayDeque<Handle> queue : queues) {
+            for (Handle handle : queue) {
+                String kind = handle.task.kind();
+                if (kind != null && !handle.cancelled) {
+                    entries.add(new Entry(kind, handle.priority, handle.task.save()));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private record Entry(String kind, Priority priority, NbtCompound state) {
+        static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.STRING.fieldOf("kind").forGetter(Entry::kind),
+                Priority.CODEC.optionalFieldOf("priority", Priority.NORMAL).forGetter(Entry::priority),
+                NbtCompound.CODEC.optionalFieldOf("state", new NbtCompound()).forGetter(Entry::state)
+        ).apply(instance, Entry::new));
+    }
+
+    /** The persisted queue. While a scheduler owns it, saving reads the scheduler's live tasks. */
+    private static final class SavedQueue extends PersistentState {
+        static final Codec<SavedQueue> CODEC = Entry.CODEC.listOf()
+                .optionalFieldOf("tasks", List.of())
+                .xmap(SavedQueue::new, SavedQueue::currentEntries)
+                .codec();
+
+        static final PersistentStateType<SavedQueue> TYPE = GlobeSavedData.type("latitude_work", SavedQueue::new, CODEC);
+
+        final List<Entry> entries;
+        List<Entry> orphans = List.of();
+        LatitudeWorkScheduler owner;
+
+        SavedQueue() {
+            this(List.of());
+        }
+
+        SavedQueue(List<Entry> entries) {
+            this.entries = entries;
+        }
+
+        private List<Entry> currentEntries() {
+            LatitudeWorkScheduler scheduler = owner;
+            return scheduler != null ? scheduler.snapshot() : entries;
+        }
+    }
+}
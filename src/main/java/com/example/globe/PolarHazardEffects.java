@@ -0,0 +1,227 @@
+package com.example.globe;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.example.globe.util.LatitudeMath;
+import com.example.globe.world.GlobeProfile;
+import com.example.globe.world.LatitudeContext;
+
+import net.minecraft.entity.effect.StatusEffect;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+/**
+ * Polar hazard effects for players in the overworld, as a small state machine per player. Each player is visited
+ * once every {@value #VISIT_INTERVAL_TICKS} ticks, on the tick their entity id falls on, so a crowd near the pole is
+ * spread over the whole window. A visit compares |z| against the rows where the current stage begins and ends and
+ * only works out the stage again once the player has crossed one. Effects are sent when the stage changes and
+ * each one is re-sent on its own when it is about to run out (or was cleared, by milk or death); in between, a visit
+ * costs a map lookup, two comparisons and a look at the stage's few effects.
+ * <p>
+ * Effects placed here are ambient, hidden and iconless; on a stage change only effects with that signature are
+ * removed, so potions the player drank are left alone.
+ */
+final class PolarHazardEffects {
+    static final int VISIT_INTERVAL_TICKS = 10;
+    private static final int EFFECT_DURATION_TICKS = 100;
+    private static final int REFRESH_BELOW_TICKS = 2 * VISIT_INTERVAL_TICKS;
+    private static final int LETHAL_FROZEN_TICKS = (int) Math.floor(140 * 0.85);
+
+    private static final Map<UUID, State> STATES = new HashMap<>();
+
+    enum PolarStage {
+        NONE,
+        UNEASE,
+        IMPAIR,
+        HOSTILE,
+        WHITEOUT,
+        LETHAL,
+        HOPELESS
+    }
+
+    /** Where a player was last seen: its stage and the |z| range over which that stage holds. */
+    private static final class State {
+        PolarStage stage = PolarStage.NONE;
+        double lowAbsZ = Double.POSITIVE_INFINITY;
+        double highAbsZ = Double.NEGATIVE_INFINITY;
+        double halfSize = Double.NaN;
+        int polarStartAbsZ = Integer.MIN_VALUE;
+    }
+
+    /** One effect a stage applies, at its amplifier. */
+    private record Dose(RegistryEntry<StatusEffect> effect, int amplifier) {
+    }
+
+    private static final Dose[] NO_DOSES = new Dose[0];
+    private static final Dose[] IMPAIR_DOSES = {
+            new Dose(StatusEffects.SLOWNESS, 0),
+            new Dose(StatusEffects.WEAKNESS, 0)
+    };
+    private static final Dose[] HOSTILE_DOSES = {
+            new Dose(StatusEffects.SLOWNESS, 1),
+            new Dose(StatusEffects.WEAKNESS, 0),
+            new Dose(StatusEffects.MINING_FATIGUE, 0)
+    };
+    private static final Dose[] LETHAL_DOSES = {
+            new Dose(StatusEffects.SLOWNESS, 2),
+            new Dose(StatusEffects.WEAKNESS, 1),
+            new Dose(StatusEffects.BLINDNESS, 0)
+    };
+
+    private PolarHazardEffects() {
+    }
+
+    static void tick(MinecraftServer server, ServerWorld overworld, LatitudeContext latitude, int polarStartAbsZ) {
+        long worldTime = overworld.getTime();
+        int slot = (int) Math.floorMod(worldTime, (long) VISIT_INTERVAL_TICKS);
+        double halfSize = LatitudeMath.halfSize(overworld.getWorldBorder());
+        GlobeProfile.HazardThresholds hazard = latitude.profile().hazard();
+
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            if (Math.floorMod(player.getId(), VISIT_INTERVAL_TICKS) != slot) {
+                continue;
+            }
+            State state = STATES.computeIfAbsent(player.getUuid(), id -> new State());
+            if (player.getEntityWorld() != overworld) {
+                transition(player, state, PolarStage.NONE);
+                state.lowAbsZ = Double.POSITIVE_INFINITY;
+                state.highAbsZ = Double.NEGATIVE_INFINITY;
+                continue;
+            }
+
+            double absZ = Math.abs(player.getZ());
+            if (absZ < state.lowAbsZ || absZ >= state.highAbsZ
+                    || halfSize != state.halfSize || polarStartAbsZ != state.polarStartAbsZ) {
+                state.halfSize = halfSize;
+                state.polarStartAbsZ = polarStartAbsZ;
+                transition(player, state, locate(state, absZ, halfSize, hazard, polarStartAbsZ));
+            } else if (state.stage != PolarStage.NONE) {
+                refreshEffects(player, state.stage);
+            }
+
+            if (state.stage == PolarStage.LETHAL || state.stage == PolarStage.HOPELESS) {
+                player.setFrozenTicks(Math.max(player.getFrozenTicks(), LETHAL_FROZEN_TICKS));
+            }
+        }
+    }
+
+    static void forget(ServerPlayerEntity player) {
+        STATES.remove(player.getUuid());
+    }
+
+    static void clear() {
+        STATES.clear();
+    }
+
+    /** Stage at {@code absZ}; also stores in {@code state} the |z| range the stage holds over. */
+    private static PolarStage locate(State state, double absZ, double halfSize, GlobeProfile.HazardThresholds hazard, int polarStartAbsZ) {
+        // Stage thresholds as |z|; half size 0 puts every row at full progress, as hazardProgress does.
+        double[] starts = new double[] {
+                polarStartAbsZ,
+                hazard.stage1() * halfSize,
+                hazard.stage2() * halfSize,
+                hazard.stage3() * halfSize,
+                hazard.lethal() * halfSize
+        };
+        if (halfSize <= 0.0) {
+            Arrays.fill(starts, 1, starts.length, 0.0);
+        }
+
+        if (absZ < polarStartAbsZ) {
+            state.lowAbsZ = Double.NEGATIVE_INFINITY;
+            state.highAbsZ = polarStartAbsZ;
+            return PolarStage.NONE;
+        }
+
+        // Above the polar start, the stage is the hazard index; its range ends at the next threshold that lies above.
+        double low = polarStartAbsZ;
+        double high = Double.POSITIVE_INFINITY;
+        int index = 0;
+        for (int i = 1; i < starts.length; i++) {
+            if (absZ >= starts[i]) {
+                index = i;
+                low = Math.max(low, starts[i]);
+            } else {
+                high = Math.min(high, starts[i]);
+            }
+        }
+        state.lowAbsZ = low;
+        state.highAbsZ = high;
+        return switch (index) {
+            case 1 -> PolarStage.IMPAIR;
+            case 2 -> PolarStage.HOSTILE;
+            case 3 -> PolarStage.WHITEOUT;
+            case 4 -> PolarStage.LETHAL;
+            default -> PolarStage.NONE;
+        };
+    }
+
+    private static void transition(ServerPlayerEntity player, State state, PolarStage stage) {
+        if (stage == state.stage) {
+            return;
+        }
+        removeEffects(player);
+        state.stage = stage;
+        applyEffects(player, stage);
+    }
+
+    private static Dose[] doses(PolarStage stage) {
+        return switch (stage) {
+            case IMPAIR -> IMPAIR_DOSES;
+            case HOSTILE, WHITEOUT -> HOSTILE_DOSES;
+            case LETHAL, HOPELESS -> LETHAL_DOSES;
+            default -> NO_DOSES;
+        };
+    }
+
+    /**
+     * Re-adds each of the stage's effects that is missing or, if it is one of ours, weaker than the stage's or about to
+     * run out. Each effect is judged on its own instance, so a player who drank milk mid-stage, or whose effects were
+     * sent at different times, gets back exactly what lapsed; an effect held by a potion of the player's own is left
+     * to that potion.
+     */
+    private static void refreshEffects(ServerPlayerEntity player, PolarStage stage) {
+        for (Dose dose : doses(stage)) {
+            StatusEffectInstance current = player.getStatusEffect(dose.effect());
+            if (current == null || (isOurs(current)
+                    && (current.getAmplifier() < dose.amplifier() || current.isDurationBelow(REFRESH_BELOW_TICKS)))) {
+                add(player, dose);
+            }
+        }
+    }
+
+    private static void applyEffects(ServerPlayerEntity player, PolarStage stage) {
+        for (Dose dose : doses(stage)) {
+            add(player, dose);
+        }
+    }
+
+    private static void add(ServerPlayerEntity player, Dose dose) {
+        player.addStatusEffect(new StatusEffectInstance(dose.effect(), EFFECT_DURATION_TICKS, dose.amplifier(), true, false, false));
+    }
+
+    private static void removeEffects(ServerPlayerEntity player) {
+        removeIfOurs(player, StatusEffects.SLOWNESS);
+        removeIfOurs(player, StatusEffects.WEAKNESS);
+        removeIfOurs(player, StatusEffects.MINING_FATIGUE);
+        removeIfOurs(player, StatusEffects.BLINDNESS);
+    }
+
+    private static void removeIfOurs(ServerPlayerEntity player, RegistryEntry<StatusEffect> effect) {
+        StatusEffectInstance current = player.getStatusEffect(effect);
+        if (current != null && isOurs(current)) {
+            player.removeStatusEffect(effect);
+        }
+    }
+
+    private static boolean isOurs(StatusEffectInstance instance) {
+        return instance.isAmbient() && !instance.shouldShowParticles() && !instance.shouldShowIcon();
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.globe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import com.example.globe.world.GlobeProfiles;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.PersistentState;
+import net.minecraft.world.PersistentStateType;
+
+/**
+ * Verified land spawns for every spawn-picker zone, so a zone choice is a lookup instead of a search. Each zone's
+ * latitude line is split along x into {@value #PER_ZONE} segments, kept clear of the east-west storm warning, and
+ * holds one spot per segment; spots are found by {@link SpawnFinder}, so their chunks are generated by the time
+ * they are handed out.
+ * <p>
+ * The table lives in the overworld's {@code latitude_spawn_candidates} saved data. Filling runs as one low-priority
+ * {@link LatitudeWorkScheduler} task with a single search in flight: started when the server starts, resumed if the
+ * server stopped mid-fill, and restarted whenever {@link #take} hands out a spot. A table saved for another radius
+ * is discarded.
+ */
+final class SpawnCandidateTable {
+    static final String[] ZONES = {"EQUATOR", "TROPICAL", "SUBTROPICAL", "TEMPERATE", "SUBPOLAR", "POLAR"};
+    static final int PER_ZONE = 4;
+
+    private static final String TASK_KIND = "globe:spawn_candidates";
+    private static final int ATTEMPTS_PER_SEGMENT = 2;
+    private static final long SEGMENT_SALT = 0x5DEECE66DL;
+
+    private static FillTask active;
+
+    private SpawnCandidateTable() {
+    }
+
+    static void register() {
+        LatitudeWorkScheduler.registerKind(TASK_KIND, state -> {
+            active = new FillTask();
+            return active;
+        });
+    }
+
+    /** Starts filling if the server's overworld is a globe and no fill was resumed. */
+    static void start(MinecraftServer server) {
+        ensureFilling(server);
+    }
+
+    static void stop() {
+        active = null;
+    }
+
+    /** The spot {@link #take} would hand out next for {@code zone}, or {@code null}. */
+    static BlockPos peek(ServerWorld world, String zone) {
+        Saved saved = saved(world);
+        List<BlockPos> spots = saved != null ? saved.spots.get(zone) : null;
+        return spots == null || spots.isEmpty() ? null : spots.get(0);
+    }
+
+    /**
+     * Removes stored spawns for {@code zone} until one still holds up and completes with it on the server thread, or
+     * with {@code null} once the zone has none left. A spot was verified when it was found, possibly sessions ago, and
+     * players may have built on, flooded or dug out the area since; each is checked again against the real chunk with
+     * {@link SpawnFinder#verifyColumn}, which only loads it since it was generated when found. Every removed spot's
+     * segment is refilled in the background. Call from the server thread.
+     */
+    static CompletableFuture<BlockPos> take(ServerWorld world, String zone) {
+        BlockPos spot = removeNext(world, zone);
+        if (spot == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return SpawnFinder.verifyColumn(world, spot.getX(), spot.getZ())
+                .thenCompose(found -> found != null ? CompletableFuture.completedFuture(found) : take(world, zone));
+    }
+
+    private static BlockPos removeNext(ServerWorld world, String zone) {
+        Saved saved = saved(world);
+        if (saved == null) {
+            return null;
+        }
+        List<BlockPos> spots = saved.spots.get(zone);
+        if (spots == null || spots.isEmpty()) {
+            return null;
+        }
+        BlockPos spot = spots.remove(0);
+        saved.markDirty();
+        ensureFilling(world.getServer());
+        return spot;
+    }
+
+    private static void ensureFilling(MinecraftServer server) {
+        LatitudeWorkScheduler scheduler = LatitudeWorkScheduler.get();
+        if (scheduler == null || (active != null && !active.finished)) {
+            return;
+        }
+        ServerWorld overworld = server.getOverworld();
+        if (overworld == null || !GlobeProfiles.isGlobe(overworld) || saved(overworld) == null) {
+            return;
+        }
+        active = new FillTask();
+        scheduler.submit(LatitudeWorkScheduler.Priority.LOW, active);
+    }
+
+    /** The overworld's table, emptied first if it was built for another radius; {@code null} for a non-globe world. */
+    private static Saved saved(ServerWorld world) {
+        if (!GlobeProfiles.isGlobe(world)) {
+            return null;
+        }
+        Saved saved = world.getPersistentStateManager().getOrCreate(Saved.TYPE);
+        int radius = GlobeMod.spawnRadius(world);
+        if (saved.radius != radius) {
+            saved.radius = radius;
+            saved.spots.clear();
+            saved.markDirty();
+        }
+        return saved;
+    }
+
+    /** X range of {@code segment} on a line whose spots must stay within {@code |x| <= maxAbsX}. */
+    private static int segmentMinX(int maxAbsX, int segment) {
+        long span = 2L * maxAbsX + 1L;
+        return (int) (-maxAbsX + span * segment / PER_ZONE);
+    }
+
+    private static int segmentOf(int maxAbsX, int x) {
+        long span = 2L * maxAbsX + 1L;
+        int segment = (int) ((x + (long) maxAbsX) * PER_ZONE / span);
+        return Math.max(0, Math.min(PER_ZONE - 1, segment));
+    }
+
+    /** Fills empty segments one search at a time; finished once every segment is filled or has used its attempts. */
+    private static final class FillTask implements LatitudeWorkScheduler.Task {
+        private final int[][] failures = new int[ZONES.length][PER_ZONE];
+        private CompletableFuture<BlockPos> pending;
+        private int pendingZone;
+        private int pendingSegment;
+        private int pendingRadius;
+        boolean finished;
+
+        @Override
+        public boolean run(MinecraftServer server, long deadlineNanos) {
+            ServerWorld world = server.getOverworld();
+            Saved saved = world != null ? saved(world) : null;
+            if (saved == null) {
+                return finish();
+            }
+
+            if (pending != null) {
+                if (!pending.isDone()) {
+                    return false;
+                }
+                BlockPos found = pending.isCompletedExceptionally() ? null : pending.join();
+                pending = null;
+                if (found != null && saved.radius == pendingRadius) {
+                    saved.spots.computeIfAbsent(ZONES[pendingZone], zone -> new ArrayList<>()).add(found);
+                    saved.markDirty();
+                }
+                if (found == null) {
+                    failures[pendingZone][pendingSegment]++;
+                }
+                return false;
+            }
+
+            int radius = saved.radius;
+            int maxAbsX = GlobeMod.spawnSearchMaxAbsX(world, radius);
+            long seed = server.getSaveProperties().getGeneratorOptions().getSeed();
+            for (int zone = 0; zone < ZONES.length; zone++) {
+                boolean[] covered = new boolean[PER_ZONE];
+                for (BlockPos spot : saved.spots.getOrDefault(ZONES[zone], List.of())) {
+                    covered[segmentOf(maxAbsX, spot.getX())] = true;
+                }
+                for (int segment = 0; segment < PER_ZONE; segment++) {
+                    if (covered[segment] || failures[zone][segment] >= ATTEMPTS_PER_SEGMENT) {
+                        continue;
+                    }
+                    int minX = segmentMinX(maxAbsX, segment);
+                    int maxX = segmentMinX(maxAbsX, segment + 1) - 1;
+                    int targetZ = GlobeMod.spawnTargetZ(radius, ZONES[zone], seed);
+                    long searchSeed = seed ^ (SEGMENT_SALT * (zone * PER_ZONE + segment + 1)) ^ failures[zone][segment];
+                    pendingZone = zone;
+                    pendingSegment = segment;
+                    pendingRadius = radius;
+                    pending = SpawnFinder.find(world, radius, minX, maxX, targetZ, searchSeed);
+                    return false;
+                }
+            }
+            return finish();
+        }
+
+        private boolean finish() {
+            finished = true;
+            return true;
+        }
+
+        @Override
+        public String kind() {
+            return TASK_KIND;
+        }
+
+        @Override
+        public void abandoned() {
+            finished = true;
+        }
+    }
+
+    private static final class Saved extends PersistentState {
+        static final Codec<Saved> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.INT.optionalFieldOf("radius", 0).forGetter(saved -> saved.radius),
+                Codec.unboundedMap(Codec.STRING, BlockPos.CODEC.listOf()).optionalFieldOf("zones", Map.of()).forGetter(saved -> saved.spots)
+        ).apply(instance, Saved::new));
+
+        static final PersistentStateType<Saved> TYPE = GlobeSavedData.type("latitude_spawn_candidates", Saved::new, CODEC);
+
+        int radius;
+        final Map<String, List<BlockPos>> spots = new HashMap<>();
+
+        Saved() {
+            this(0, Map.of());
+        }
+
+        Saved(int radius, Map<String, List<BlockPos>> spots) {
+            this.radius = radius;
+            spots.forEach((zone, list) -> this.spots.put(zone, new ArrayList<>(list)));
+        }
+    }
+}
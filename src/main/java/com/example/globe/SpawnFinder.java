@@ -0,0 +1,175 @@
+package com.example.globe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.noise.NoiseConfig;
+
+/**
+ * Finds a dry land spawn on a latitude line without holding up the server thread. Candidates are the same seeded
+ * columns the old synchronous search loaded one chunk each for: 96 along the line, then 96 with up to 96 blocks of z
+ * jitter if the line had none. They are now judged from the generator's noise on a worker thread: the predicted
+ * ocean-floor and world-surface heights (equal means no water over the ground) and the biome the latitude source
+ * picks there (no oceans or rivers). The highest predictions are then checked in order against the real chunk,
+ * loaded with a spawn-search ticket, until one has a dry, clear spot.
+ * <p>
+ * The prediction ignores features and carvers, which is why the real chunk still has the last word.
+ */
+final class SpawnFinder {
+    static final int MARGIN = 320;
+    private static final int ATTEMPTS_X_ONLY = 96;
+    private static final int ATTEMPTS_WITH_Z_JITTER = 96;
+    private static final int Z_JITTER = 96;
+    private static final int VERIFIED_CANDIDATES = 4;
+    static final int NO_LAND = Integer.MIN_VALUE;
+
+    private record Candidate(int x, int z, int predictedY) {
+    }
+
+    private SpawnFinder() {
+    }
+
+    /**
+     * Spawn position (one block above the ground) near {@code targetZ}, or {@code null} if no candidate holds up.
+     * Completes on the server thread. Call from the server thread.
+     */
+    static CompletableFuture<BlockPos> find(ServerWorld world, int borderHalf, int targetZ, long seed) {
+        int max = Math.max(0, borderHalf - MARGIN);
+        return find(world, borderHalf, -max, max, targetZ, seed);
+    }
+
+    /** As {@link #find(ServerWorld, int, int, long)}, drawing candidate x from {@code [minX, maxX]} only. */
+    static CompletableFuture<BlockPos> find(ServerWorld world, int borderHalf, int minX, int maxX, int targetZ, long seed) {
+        ChunkGenerator generator = world.getChunkManager().getChunkGenerator();
+        NoiseConfig noiseConfig = world.getChunkManager().getNoiseConfig();
+        int seaLevel = world.getSeaLevel();
+
+        return CompletableFuture
+                .supplyAsync(() -> rank(world, generator, noiseConfig, seaLevel, borderHalf, minX, maxX, targetZ, seed), Util.getMainWorkerExecutor())
+                .thenComposeAsync(candidates -> verify(world, candidates, 0), world.getServer());
+    }
+
+    /**
+     * The best predicted candidate of {@link #find(ServerWorld, int, int, int, int, long)}, standing on the predicted
+     * ground, without loading anything; evaluated on the calling thread. {@code null} if no column looks like land.
+     */
+    static BlockPos predict(ServerWorld world, int borderHalf, int minX, int maxX, int targetZ, long seed) {
+        ChunkGenerator generator = world.getChunkManager().getChunkGenerator();
+        NoiseConfig noiseConfig = world.getChunkManager().getNoiseConfig();
+        List<Candidate> candidates = rank(world, generator, noiseConfig, world.getSeaLevel(), borderHalf, minX, maxX, targetZ, seed);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Candidate best = candidates.get(0);
+        return new BlockPos(best.x(), best.predictedY(), best.z());
+    }
+
+    private static List<Candidate> rank(ServerWorld world, ChunkGenerator generator, NoiseConfig noiseConfig, int seaLevel,
+                                        int borderHalf, int minX, int maxX, int targetZ, long seed) {
+        int max = Math.max(0, borderHalf - MARGIN);
+        Random rng = Random.create(seed ^ 0x9E3779B97F4A7C15L ^ (long) targetZ);
+        List<Candidate> candidates = new ArrayList<>();
+
+        // Pass 1: vary X only (stay exactly on the selected latitude line)
+        for (int i = 0; i < ATTEMPTS_X_ONLY; i++) {
+            predict(world, generator, noiseConfig, seaLevel, rng.nextBetween(minX, maxX), targetZ, candidates);
+        }
+
+        // Pass 2: X + small Z jitter, only if the line itself had no land
+        if (candidates.isEmpty()) {
+            for (int i = 0; i < ATTEMPTS_WITH_Z_JITTER; i++) {
+                int x = rng.nextBetween(minX, maxX);
+                int z = MathHelper.clamp(targetZ + rng.nextBetween(-Z_JITTER, Z_JITTER), -max, max);
+                predict(world, generator, noiseConfig, seaLevel, x, z, candidates);
+            }
+        }
+
+        candidates.sort(Comparator.comparingInt(Candidate::predictedY).reversed());
+        return candidates.size() > VERIFIED_CANDIDATES ? candidates.subList(0, VERIFIED_CANDIDATES) : candidates;
+    }
+
+    private static void predict(ServerWorld world, ChunkGenerator generator, NoiseConfig noiseConfig, int seaLevel,
+                                int x, int z, List<Candidate> out) {
+        int floor = predictLandY(world, generator, noiseConfig, seaLevel, x, z);
+        if (floor != NO_LAND) {
+            out.add(new Candidate(x, z, floor));
+        }
+    }
+
+    /**
+     * Predicted ground height at {@code (x, z)} if the generator's noise puts dry land there (no water over the
+     * ground, not an ocean or river biome), else {@link #NO_LAND}. Loads nothing; safe off the server thread.
+     */
+    static int predictLandY(ServerWorld world, ChunkGenerator generator, NoiseConfig noiseConfig, int seaLevel, int x, int z) {
+        int floor = generator.getHeight(x, z, Heightmap.Type.OCEAN_FLOOR_WG, world, noiseConfig);
+        if (floor <= world.getBottomY() || floor < seaLevel) {
+            return NO_LAND;
+        }
+        int surface = generator.getHeight(x, z, Heightmap.Type.WORLD_SURFACE_WG, world, noiseConfig);
+        if (surface > floor) {
+            return NO_LAND;
+        }
+        RegistryEntry<Biome> biome = generator.getBiomeSource().getBiome(x >> 2, floor >> 2, z >> 2, noiseConfig.getMultiNoiseSampler());
+        if (biome.isIn(BiomeTags.IS_OCEAN) || biome.isIn(BiomeTags.IS_RIVER)) {
+            return NO_LAND;
+        }
+        return floor;
+    }
+
+    private static CompletableFuture<BlockPos> verify(ServerWorld world, List<Candidate> candidates, int index) {
+        if (index >= candidates.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Candidate candidate = candidates.get(index);
+        return verifyColumn(world, candidate.x(), candidate.z())
+                .thenCompose(spawn -> spawn != null ? CompletableFuture.completedFuture(spawn) : verify(world, candidates, index + 1));
+    }
+
+    /**
+     * Loads the chunk of {@code (x, z)} with a spawn-search ticket and completes, on the server thread, with the spot
+     * above the ground there if it is dry with two blocks of headroom, else {@code null}. Call from the server thread.
+     */
+    static CompletableFuture<BlockPos> verifyColumn(ServerWorld world, int x, int z) {
+        return world.getChunkManager()
+                .addChunkLoadingTicket(ChunkTicketType.SPAWN_SEARCH, new ChunkPos(x >> 4, z >> 4), 0)
+                .thenApplyAsync(loaded -> tryLandAt(world, x, z), world.getServer());
+    }
+
+    /** The spot above the ground at {@code (x, z)} if it is dry with two blocks of headroom. The chunk must be loaded. */
+    private static BlockPos tryLandAt(ServerWorld world, int x, int z) {
+        BlockPos ground = world.getTopPosition(
+                Heightmap.Type.MOTION_BLOCKING_NO_LEAVES,
+                new BlockPos(x, world.getBottomY(), z)
+        );
+
+        // Spawn is one block above ground
+        BlockPos spawn = ground.up();
+
+        // Reject if water column / fluid at spawn space
+        if (!world.getFluidState(spawn).isEmpty()) return null;
+        if (!world.getFluidState(spawn.up()).isEmpty()) return null;
+
+        // Need 2-block headroom
+        if (!world.getBlockState(spawn).isAir()) return null;
+        if (!world.getBlockState(spawn.up()).isAir()) return null;
+
+        // Reject "stand in water" edge cases (seafloor top can still be valid with water above)
+        if (!world.getFluidState(ground).isEmpty()) return null;
+
+        return spawn;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.globe;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Loads the area around each zone's next {@link SpawnCandidateTable} spot while a player has the spawn picker open,
+ * so the spot they choose is already generated and lit when they are teleported. Each chunk within
+ * {@value #RADIUS_CHUNKS} chunks of a spot gets a ticket at the plain FULL level, the lowest-priority level that
+ * still completes the chunk, so it never outranks chunks players are standing in.
+ * <p>
+ * A zone whose table is still empty, as on a fresh world, warms the best noise-predicted column of the line and x
+ * range the join-time search draws from ({@link SpawnFinder#predict}), which is the first column that search checks.
+ * The prediction is worked out once per zone on a worker thread and its chunks are ticketed when it arrives.
+ * <p>
+ * When the choice arrives, every other zone's tickets are dropped; the chosen zone's are dropped once the teleport is
+ * done. Tickets are counted per chunk, since players with the picker open at the same time warm the same spots, and
+ * expire on their own {@value #EXPIRY_TICKS} ticks after the last player warmed them, in case a release is missed.
+ * Server thread only.
+ */
+final class SpawnWarmup {
+    static final int RADIUS_CHUNKS = 2;
+    private static final long EXPIRY_TICKS = 20L * 60L * 5L;
+
+    private static ChunkTicketType ticket;
+
+    private static final Map<UUID, Warming> WARMING = new HashMap<>();
+    private static final Long2IntOpenHashMap REFS = new Long2IntOpenHashMap();
+    private static final Map<String, CompletableFuture<BlockPos>> PREDICTED = new HashMap<>();
+    private static int predictedRadius;
+
+    /** One player's warmed zones; {@code onlyZone} is set once their choice has arrived. */
+    private static final class Warming {
+        final Map<String, ChunkPos> centers = new HashMap<>();
+        String onlyZone;
+    }
+
+    private SpawnWarmup() {
+    }
+
+    /** Registers the ticket type; call during mod init. */
+    static void init() {
+        ticket = Registry.register(Registries.TICKET_TYPE,
+                Identifier.of(GlobeMod.MOD_ID, "spawn_warmup"), new ChunkTicketType(EXPIRY_TICKS, ChunkTicketType.FOR_LOADING));
+    }
+
+    /** Starts warming every zone's next spot for {@code player}, replacing anything warmed for them before. */
+    static void begin(ServerPlayerEntity player, ServerWorld world) {
+        UUID playerId = player.getUuid();
+        release(world, playerId);
+        Warming warming = new Warming();
+        WARMING.put(playerId, warming);
+        for (String zone : SpawnCandidateTable.ZONES) {
+            BlockPos spot = SpawnCandidateTable.peek(world, zone);
+            if (spot != null) {
+                warm(world, warming, zone, spot);
+                continue;
+            }
+            CompletableFuture<BlockPos> predicted = predicted(world, zone);
+            if (predicted.isDone()) {
+                BlockPos column = predicted.isCompletedExceptionally() ? null : predicted.join();
+                if (column != null) {
+                    warm(world, warming, zone, column);
+                }
+            } else {
+                predicted.thenAcceptAsync(column -> {
+                    // The player may have chosen, left or reopened the picker meanwhile.
+                    if (column != null && WARMING.get(playerId) == warming
+                            && (warming.onlyZone == null || warming.onlyZone.equals(zone))) {
+                        warm(world, warming, zone, column);
+                    }
+                }, world.getServer());
+            }
+        }
+    }
+
+    /** Drops the tickets of every zone but {@code zone}. */
+    static void keepOnly(ServerWorld world, UUID playerId, String zone) {
+        Warming warming = WARMING.get(playerId);
+        if (warming == null) {
+            return;
+        }
+        warming.onlyZone = zone;
+        warming.centers.entrySet().removeIf(entry -> {
+            if (entry.getKey().equals(zone)) {
+                return false;
+            }
+            release(world, entry.getValue());
+            return true;
+        });
+    }
+
+    /** Drops everything warmed for {@code playerId}. */
+    static void release(ServerWorld world, UUID playerId) {
+        Warming warming = WARMING.remove(playerId);
+        if (warming != null) {
+            warming.centers.values().forEach(center -> release(world, center));
+        }
+    }
+
+    static void clear() {
+        WARMING.clear();
+        REFS.clear();
+        PREDICTED.clear();
+    }
+
+    private static void warm(ServerWorld world, Warming warming, String zone, BlockPos spot) {
+        ChunkPos center = new ChunkPos(spot);
+        acquire(world, center);
+        warming.centers.put(zone, center);
+    }
+
+    /** The best predicted land column for {@code zone}, computed once per globe radius on a worker thread. */
+    private static CompletableFuture<BlockPos> predicted(ServerWorld world, String zone) {
+        int radius = GlobeMod.spawnRadius(world);
+        if (radius != predictedRadius) {
+            PREDICTED.clear();
+            predictedRadius = radius;
+        }
+        return PREDICTED.computeIfAbsent(zone, key -> {
+            long seed = world.getServer().getSaveProperties().getGeneratorOptions().getSeed();
+            int targetZ = GlobeMod.spawnTargetZ(radius, key, seed);
+            int maxAbsX = GlobeMod.spawnSearchMaxAbsX(world, radius);
+            return CompletableFuture.supplyAsync(
+                    () -> SpawnFinder.predict(world, radius, -maxAbsX, maxAbsX, targetZ, seed), Util.getMainWorkerExecutor());
+        });
+    }
+
+    private static void acquire(ServerWorld world, ChunkPos center) {
+        for (int dz = -RADIUS_CHUNKS; dz <= RADIUS_CHUNKS; dz++) {
+            for (int dx = -RADIUS_CHUNKS; dx <= RADIUS_CHUNKS; dx++) {
+                ChunkPos pos = new ChunkPos(center.x + dx, center.z + dz);
+                // Re-added on every acquire, not just the first: the chunk manager refreshes an existing ticket's
+                // expiry, so a spot warmed again keeps its chunks even if it was first warmed long ago.
+                REFS.addTo(pos.toLong(), 1);
+                world.getChunkManager().addTicket(ticket, pos, 0);
+            }
+        }
+    }
+
+    private static void release(ServerWorld world, ChunkPos center) {
+        for (int dz = -RADIUS_CHUNKS; dz <= RADIUS_CHUNKS; dz++) {
+            for (int dx = -RADIUS_CHUNKS; dx <= RADIUS_CHUNKS; dx++) {
+                ChunkPos pos = new ChunkPos(center.x + dx, center.z + dz);
+                long key = pos.toLong();
+                int refs = REFS.get(key);
+                if (refs <= 1) {
+                    REFS.remove(key);
+                    world.getChunkManager().removeTicket(ticket, pos, 0);
+                } else {
+                    REFS.put(key, refs - 1);
+                }
+            }
+        }
+    }
+}
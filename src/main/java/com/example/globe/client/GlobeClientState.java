@@ -1,6 +1,9 @@
 package com.example.globe.client;
 
 import com.example.globe.GlobeMod;
+import com.example.globe.util.LatitudeMath;
+import com.example.globe.world.GlobeProfile;
+import com.example.globe.world.LatitudeContext;
 import net.minecraft.world.border.WorldBorder;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.world.ClientWorld;
@@ -39,6 +42,8 @@ public final class GlobeClientState {
     private static long cachedEvalWorldTime = Long.MIN_VALUE;
     private static Eval cachedEval;
 
+    private static volatile LatitudeContext syncedLatitude;
+
     public enum WarningType {
         NONE,
         POLAR,
@@ -70,7 +75,7 @@ public final class GlobeClientState {
     }
 
     private static int borderRadiusBlocks(ClientWorld world) {
-        return (int) Math.round(com.example.globe.util.LatitudeMath.halfSize(world.getWorldBorder()));
+        return (int) Math.round(LatitudeMath.halfSize(world.getWorldBorder()));
     }
 
     private static PolarStage polarStageForProgress(WorldBorder border, double z, double progress) {
@@ -379,7 +384,30 @@ public final class GlobeClientState {
             globeWorld = value;
             cachedEvalWorldTime = Long.MIN_VALUE;
             cachedEval = null;
+            syncedLatitude = null;
+        }
+    }
+
+    /**
+     * Latitude bands for {@code world} on this client: the integrated server's overworld context when it is hosting
+     * the world, otherwise one sized from the synced world border with the default band fractions. {@code null}
+     * unless the server announced a globe and {@code world} is its overworld.
+     */
+    public static LatitudeContext latitudeContext(World world) {
+        if (!globeWorld || world == null || world.getRegistryKey() != World.OVERWORLD) {
+            return null;
+        }
+        LatitudeContext hosted = LatitudeContext.primaryIfBound();
+        if (hosted != null && MinecraftClient.getInstance().isIntegratedServerRunning()) {
+            return hosted;
+        }
+        int radius = (int) Math.round(LatitudeMath.halfSize(world.getWorldBorder()));
+        LatitudeContext synced = syncedLatitude;
+        if (synced == null || synced.radius() != radius) {
+            synced = LatitudeContext.of(0L, GlobeProfile.withDefaults(null, radius));
+            syncedLatitude = synced;
         }
+        return synced;
     }
 
     public record Eval(boolean active, boolean surfaceOk, int absX, int absZ,
@@ -0,0 +1,103 @@
+package com.example.globe.dev;
+
+import java.util.Locale;
+
+import com.example.globe.world.SectionPaletteWriter;
+
+import net.minecraft.util.collection.IdList;
+import net.minecraft.world.chunk.PaletteProvider;
+import net.minecraft.world.chunk.PalettedContainer;
+
+/**
+ * Micro-benchmark: filling a 4x4x4 biome section by per-cell {@link PalettedContainer#swap} (the old populate
+ * loop) versus building it in one step with {@link SectionPaletteWriter}. Uses a stand-in id list of 64
+ * values so it runs without bootstrapping the game. Also checks both paths produce identical cells.
+ * <p>
+ * Run with {@code ./gradlew latitudeBiomeWriteBench}.
+ */
+public final class BiomeWriteBench {
+    private static final int CELLS = 64;
+    private static final int WARMUP_ROUNDS = 200_000;
+    private static final int ROUNDS = 1_000_000;
+    private static final int[] DISTINCT_COUNTS = {1, 2, 3, 5, 9, 17};
+
+    private static long sink;
+
+    private BiomeWriteBench() {}
+
+    public static void main(String[] args) {
+        IdList<String> ids = new IdList<>(CELLS);
+        for (int i = 0; i < CELLS; i++) {
+            ids.add("biome_" + i);
+        }
+        PaletteProvider<String> provider = PaletteProvider.forBiomes(ids);
+        SectionPaletteWriter<String> writer = new SectionPaletteWriter<>(provider);
+
+        System.out.println("[Latitude biome write bench] distinct  swap ns/section  bulk ns/section  speedup");
+        for (int distinct : DISTINCT_COUNTS) {
+            String[] cells = cells(ids, distinct);
+            verify(provider, writer, cells);
+
+            runSwap(provider, cells, WARMUP_ROUNDS);
+            runBulk(writer, cells, WARMUP_ROUNDS);
+            double swapNs = runSwap(provider, cells, ROUNDS);
+            double bulkNs = runBulk(writer, cells, ROUNDS);
+            System.out.println(String.format(Locale.ROOT, "[Latitude biome write bench] %8d  %15.1f  %15.1f  %6.2fx",
+                    distinct, swapNs, bulkNs, swapNs / bulkNs));
+        }
+        System.out.println("[Latitude biome write bench] sink=" + sink);
+    }
+
+    // Banded like a real section: runs of the same biome along x, changing with z and y.
+    private static String[] cells(IdList<String> ids, int distinct) {
+        String[] cells = new String[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            cells[i] = ids.getOrThrow((i >> 2) % distinct);
+        }
+        return cells;
+    }
+
+    private static double runSwap(PaletteProvider<String> provider, String[] cells, int rounds) {
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            PalettedContainer<String> container = new PalettedContainer<>(cells[0], provider);
+            for (int i = 0; i < CELLS; i++) {
+                container.swap(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
+            }
+            sink += container.get(r & 3, 0, 0).length();
+        }
+        return (System.nanoTime() - start) / (double) rounds;
+    }
+
+    private static double runBulk(SectionPaletteWriter<String> writer, String[] cells, int rounds) {
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            writer.clear();
+            for (int i = 0; i < CELLS; i++) {
+                writer.set(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
+            }
+            PalettedContainer<String> container = writer.build().getOrThrow();
+            sink += container.get(r & 3, 0, 0).length();
+        }
+        return (System.nanoTime() - start) / (double) rounds;
+    }
+
+    private static void verify(PaletteProvider<String> provider, SectionPaletteWriter<String> writer, String[] cells) {
+        PalettedContainer<String> swapped = new PalettedContainer<>(cells[0], provider);
+        writer.clear();
+        for (int i = 0; i < CELLS; i++) {
+            swapped.swap(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
+            writer.set(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
+        }
+        PalettedContainer<String> built = writer.build().getOrThrow();
+        for (int i = 0; i < CELLS; i++) {
+            int x = i & 3;
+            int y = i >> 4;
+            int z = (i >> 2) & 3;
+            if (!swapped.get(x, y, z).equals(built.get(x, y, z))) {
+                System.err.println("[Latitude biome write bench] FAIL mismatch at x=" + x + " y=" + y + " z=" + z);
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.globe.dev;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.registry.BuiltinRegistries;
+import net.minecraft.registry.RegistryOps;
+import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
+
+/**
+ * Load cost of the globe noise settings: six separately parsed and decoded copies of the overworld template (the
+ * old six byte-identical files) versus one decode plus five component-sharing copies (what {@code GlobeProfiles}
+ * registers now). Reports, per layout, the codec-decode time alone (JSON parsed once up front), the time of a whole
+ * datapack-style load (read, parse and decode each file), and the heap retained by the decoded settings, then the
+ * differences between the two layouts.
+ * <p>
+ * Run with {@code ./gradlew latitudeNoiseSettingsBench}.
+ */
+public final class NoiseSettingsLoadBench {
+    private static final Path TEMPLATE = Paths.get("src/main/resources/data/globe/worldgen/noise_settings/overworld.json");
+    private static final int SIZES = 6;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int ROUNDS = 30;
+
+    private NoiseSettingsLoadBench() {}
+
+    public static void main(String[] args) throws Exception {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        RegistryOps<JsonElement> ops = BuiltinRegistries.createWrapperLookup().getOps(JsonOps.INSTANCE);
+
+        JsonElement parsed = parse();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            loadSeparate(ops, null);
+            loadTemplated(ops, null);
+            loadSeparate(ops, parsed);
+            loadTemplated(ops, parsed);
+        }
+
+        double separateDecodeMs = time(ops, false, parsed);
+        double templatedDecodeMs = time(ops, true, parsed);
+        double separateLoadMs = time(ops, false, null);
+        double templatedLoadMs = time(ops, true, null);
+        long separateBytes = retained(ops, false);
+        long templatedBytes = retained(ops, true);
+
+        System.out.println("[Latitude noise settings bench] " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version")
+                + ", best of " + ROUNDS + " rounds, " + SIZES + " variants");
+        System.out.println("[Latitude noise settings bench] layout     decode ms   load ms  retained KiB");
+        print("separate ", separateDecodeMs, separateLoadMs, separateBytes);
+        print("templated", templatedDecodeMs, templatedLoadMs, templatedBytes);
+        print("saved    ", separateDecodeMs - templatedDecodeMs, separateLoadMs - templatedLoadMs, separateBytes - templatedBytes);
+    }
+
+    private static void print(String layout, double decodeMs, double loadMs, long bytes) {
+        System.out.println(String.format(Locale.ROOT, "[Latitude noise settings bench] %s %9.2f %9.2f %13d", layout, decodeMs, loadMs, bytes / 1024));
+    }
+
+    /** Decodes from {@code parsed} when given (codec work only), else reads and parses the file for every decode. */
+    private static List<ChunkGeneratorSettings> loadSeparate(RegistryOps<JsonElement> ops, JsonElement parsed) throws Exception {
+        List<ChunkGeneratorSettings> out = new ArrayList<>(SIZES);
+        for (int i = 0; i < SIZES; i++) {
+            out.add(decode(ops, parsed));
+        }
+        return out;
+    }
+
+    private static List<ChunkGeneratorSettings> loadTemplated(RegistryOps<JsonElement> ops, JsonElement parsed) throws Exception {
+        List<ChunkGeneratorSettings> out = new ArrayList<>(SIZES);
+        ChunkGeneratorSettings template = decode(ops, parsed);
+        out.add(template);
+        for (int i = 1; i < SIZES; i++) {
+            out.add(new ChunkGeneratorSettings(
+                    template.generationShapeConfig(),
+                    template.defaultBlock(),
+                    template.defaultFluid(),
+                    template.noiseRouter(),
+                    template.surfaceRule(),
+                    template.spawnTarget(),
+                    template.seaLevel(),
+                    template.mobGenerationDisabled(),
+                    template.aquifers(),
+                    template.oreVeins(),
+                    template.usesLegacyRandom()));
+        }
+        return out;
+    }
+
+    private static ChunkGeneratorSettings decode(RegistryOps<JsonElement> ops, JsonElement parsed) throws Exception {
+        JsonElement json = parsed != null ? parsed : parse();
+        return ChunkGeneratorSettings.CODEC.parse(ops, json).getOrThrow();
+    }
+
+    private static JsonElement parse() throws Exception {
+        try (Reader reader = Files.newBufferedReader(TEMPLATE, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader);
+        }
+    }
+
+    private static double time(RegistryOps<JsonElement> ops, boolean templated, JsonElement parsed) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            List<ChunkGeneratorSettings> loaded = templated ? loadTemplated(ops, parsed) : loadSeparate(ops, parsed);
+            best = Math.min(best, System.nanoTime() - start);
+            if (loaded.size() != SIZES) {
+                throw new IllegalStateException("Loaded " + loaded.size() + " settings");
+            }
+        }
+        return best / 1_000_000.0;
+    }
+
+    private static long retained(RegistryOps<JsonElement> ops, boolean templated) throws Exception {
+        long before = usedAfterGc();
+        List<ChunkGeneratorSettings> loaded = templated ? loadTemplated(ops, null) : loadSeparate(ops, null);
+        long after = usedAfterGc();
+        if (loaded.size() != SIZES) {
+            throw new IllegalStateException("Loaded " + loaded.size() + " settings");
+        }
+        return Math.max(0L, after - before);
+    }
+
+    private static long usedAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.globe.mixin;
 
-import com.example.globe.GlobeMod;
 import com.example.globe.util.LatitudeMath;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.PrecipitationBands;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldView;
 import net.minecraft.world.biome.Biome;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
@@ -12,8 +15,15 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(Biome.class)
 public class BiomeNoSnowInWarmBandsMixin {
 
+    // Runs for every precipitation query on both sides; the bands of the world in scope (see PrecipitationBands)
+    // make it one array load, and worlds that are not globes skip it.
+    @Unique
     private static boolean globe$isWarmBand(int z) {
-        LatitudeMath.LatitudeZone zone = LatitudeMath.zoneForRadius(GlobeMod.BORDER_RADIUS, z);
+        LatitudeContext latitude = PrecipitationBands.current();
+        if (latitude == null) {
+            return false;
+        }
+        LatitudeMath.LatitudeZone zone = latitude.zone(z);
         return zone == LatitudeMath.LatitudeZone.EQUATOR
                 || zone == LatitudeMath.LatitudeZone.TROPICAL
                 || zone == LatitudeMath.LatitudeZone.TEMPERATE;
@@ -33,4 +43,25 @@ public class BiomeNoSnowInWarmBandsMixin {
             cir.setReturnValue(self.hasPrecipitation() ? Biome.Precipitation.RAIN : Biome.Precipitation.NONE);
         }
     }
+
+    // Ice and snow placement (ticking and the freeze feature) know their world; scope the queries inside to it.
+    @Inject(method = "canSetIce(Lnet/minecraft/world/WorldView;Lnet/minecraft/util/math/BlockPos;Z)Z", at = @At("HEAD"))
+    private void globe$scopeCanSetIce(WorldView world, BlockPos pos, boolean doWaterCheck, CallbackInfoReturnable<Boolean> cir) {
+        PrecipitationBands.enter(world);
+    }
+
+    @Inject(method = "canSetIce(Lnet/minecraft/world/WorldView;Lnet/minecraft/util/math/BlockPos;Z)Z", at = @At("RETURN"))
+    private void globe$unscopeCanSetIce(WorldView world, BlockPos pos, boolean doWaterCheck, CallbackInfoReturnable<Boolean> cir) {
+        PrecipitationBands.exit();
+    }
+
+    @Inject(method = "canSetSnow", at = @At("HEAD"))
+    private void globe$scopeCanSetSnow(WorldView world, BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
+        PrecipitationBands.enter(world);
+    }
+
+    @Inject(method = "canSetSnow", at = @At("RETURN"))
+    private void globe$unscopeCanSetSnow(WorldView world, BlockPos pos, CallbackInfoReturnable<Boolean> cir) {
+        PrecipitationBands.exit();
+    }
 }
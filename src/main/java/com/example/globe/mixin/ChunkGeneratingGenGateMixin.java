@@ -0,0 +1,31 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.ChunkGenGate;
+import com.example.globe.world.LatitudeContext;
+import net.minecraft.util.collection.BoundedRegionArray;
+import net.minecraft.world.chunk.AbstractChunkHolder;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkGenerating;
+import net.minecraft.world.chunk.ChunkGenerationContext;
+import net.minecraft.world.chunk.ChunkGenerationStep;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Attaches the {@link ChunkGenGate} to each chunk of a globe world as it enters NOISE. */
+@Mixin(ChunkGenerating.class)
+public class ChunkGeneratingGenGateMixin {
+
+    @Inject(method = "populateNoise", at = @At("HEAD"))
+    private static void globe$attachGenGate(ChunkGenerationContext context, ChunkGenerationStep step,
+                                            BoundedRegionArray<AbstractChunkHolder> chunks, Chunk chunk,
+                                            CallbackInfoReturnable<CompletableFuture<Chunk>> cir) {
+        LatitudeContext latitude = LatitudeContext.forGenerator(context.generator());
+        if (latitude != null) {
+            ChunkGenGate.attach(latitude, chunk);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.ChunkGenGate;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.PolarCapSurface;
+import net.minecraft.util.collection.BoundedRegionArray;
+import net.minecraft.world.chunk.AbstractChunkHolder;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkGenerating;
+import net.minecraft.world.chunk.ChunkGenerationContext;
+import net.minecraft.world.chunk.ChunkGenerationStep;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.WrapperProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs {@link PolarCapSurface} on polar chunks as they enter INITIALIZE_LIGHT: features are done and the chunk has no
+ * lighting provider yet, so its writes only touch section storage and heightmaps.
+ */
+@Mixin(ChunkGenerating.class)
+public class ChunkGeneratingPolarCapMixin {
+
+    @Inject(method = "initializeLight", at = @At("HEAD"))
+    private static void globe$shapePolarCap(ChunkGenerationContext context, ChunkGenerationStep step,
+                                            BoundedRegionArray<AbstractChunkHolder> chunks, Chunk chunk,
+                                            CallbackInfoReturnable<CompletableFuture<Chunk>> cir) {
+        if (!(chunk instanceof ProtoChunk protoChunk) || chunk instanceof WrapperProtoChunk) {
+            return;
+        }
+        LatitudeContext latitude = LatitudeContext.forGenerator(context.generator());
+        if (latitude != null && ChunkGenGate.allows(chunk, latitude, ChunkGenGate.POLAR_SURFACE)) {
+            PolarCapSurface.apply(latitude, protoChunk);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.WarmSnowCleanup;
+import net.minecraft.util.collection.BoundedRegionArray;
+import net.minecraft.world.chunk.AbstractChunkHolder;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkGenerating;
+import net.minecraft.world.chunk.ChunkGenerationContext;
+import net.minecraft.world.chunk.ChunkGenerationStep;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.WrapperProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs {@link WarmSnowCleanup} on each generated chunk of a globe world as it enters LIGHT. LIGHT needs every
+ * neighbour at INITIALIZE_LIGHT, so by then this chunk's features and those of the neighbours that may write into
+ * it (feature write radius is one chunk) have all finished; nothing adds snow afterwards.
+ */
+@Mixin(ChunkGenerating.class)
+public class ChunkGeneratingWarmSnowCleanupMixin {
+
+    @Inject(method = "light", at = @At("HEAD"))
+    private static void globe$cleanWarmSnow(ChunkGenerationContext context, ChunkGenerationStep step,
+                                            BoundedRegionArray<AbstractChunkHolder> chunks, Chunk chunk,
+                                            CallbackInfoReturnable<CompletableFuture<Chunk>> cir) {
+        if (!(chunk instanceof ProtoChunk protoChunk) || chunk instanceof WrapperProtoChunk) {
+            return;
+        }
+        LatitudeContext latitude = LatitudeContext.forWorld(context.world());
+        if (latitude == null) {
+            return;
+        }
+        WarmSnowCleanup.clean(latitude, protoChunk);
+    }
+}
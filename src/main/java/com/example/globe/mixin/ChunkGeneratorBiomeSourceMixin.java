@@ -1,13 +1,10 @@
 package com.example.globe.mixin;
 
 import com.example.globe.GlobeMod;
+import com.example.globe.world.GlobeProfile;
 import com.example.globe.world.LatitudeBiomeSource;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.RegistryKeys;
-import net.minecraft.util.Identifier;
+import com.example.globe.world.LatitudeContextHolder;
 import net.minecraft.world.gen.chunk.ChunkGenerator;
-import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
-import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.source.BiomeSource;
 import org.spongepowered.asm.mixin.Final;
@@ -21,25 +18,6 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(ChunkGenerator.class)
 public abstract class ChunkGeneratorBiomeSourceMixin {
-    private static final Identifier GLOBE_SETTINGS_ID = Identifier.of("globe", "overworld");
-    private static final Identifier GLOBE_SETTINGS_XSMALL_ID = Identifier.of("globe", "overworld_xsmall");
-    private static final Identifier GLOBE_SETTINGS_SMALL_ID = Identifier.of("globe", "overworld_small");
-    private static final Identifier GLOBE_SETTINGS_REGULAR_ID = Identifier.of("globe", "overworld_regular");
-    private static final Identifier GLOBE_SETTINGS_LARGE_ID = Identifier.of("globe", "overworld_large");
-    private static final Identifier GLOBE_SETTINGS_MASSIVE_ID = Identifier.of("globe", "overworld_massive");
-
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_XSMALL_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_XSMALL_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_SMALL_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_SMALL_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_REGULAR_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_REGULAR_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_LARGE_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_LARGE_ID);
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_MASSIVE_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_MASSIVE_ID);
     @Shadow
     @Final
     @Mutable
@@ -71,49 +49,17 @@ public abstract class ChunkGeneratorBiomeSourceMixin {
         if (this.biomeSource instanceof LatitudeBiomeSource || this.globe$wrappedBiomeSource instanceof LatitudeBiomeSource) {
             return;
         }
-        if (!((Object) this instanceof NoiseChunkGenerator)) {
+        // Only NoiseChunkGenerator carries a profile; it stays null until settings are assigned and for non-globe settings.
+        if (!((Object) this instanceof LatitudeContextHolder holder)) {
             return;
         }
-        if (!globe$isAnyGlobeSettings()) {
+        GlobeProfile profile = holder.globe$getProfile();
+        if (profile == null) {
             return;
         }
         java.util.Collection<net.minecraft.registry.entry.RegistryEntry<Biome>> biomes = this.biomeSource.getBiomes();
-        int borderRadiusBlocks = globe$borderRadiusBlocks();
         // Ensure structure placement and surface rules see the same Latitude biome override as terrain.
-        this.globe$wrappedBiomeSource = new LatitudeBiomeSource(this.biomeSource, biomes, borderRadiusBlocks);
+        this.globe$wrappedBiomeSource = new LatitudeBiomeSource(this.biomeSource, biomes, holder, profile);
         GlobeMod.LOGGER.info("Latitude: wrapped ChunkGenerator biomeSource (post-init)");
     }
-
-    private boolean globe$isAnyGlobeSettings() {
-        if (!((Object) this instanceof NoiseChunkGenerator noise)) {
-            return false;
-        }
-        // ChunkGenerator/NoiseChunkGenerator settings are not initialized yet in some constructor paths.
-        // Never call matchesSettings() until settings is non-null.
-        if (!((Object) this instanceof NoiseChunkGeneratorAccessor accessor)) {
-            return false;
-        }
-        if (accessor.globe$getSettings() == null) {
-            return false;
-        }
-        return noise.matchesSettings(GLOBE_SETTINGS_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)
-                || noise.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY);
-    }
-
-    private int globe$borderRadiusBlocks() {
-        if (!((Object) this instanceof NoiseChunkGenerator noise)) {
-            return 7500;
-        }
-        if (noise.matchesSettings(GLOBE_SETTINGS_KEY)) return 15000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)) return 3750;
-        if (noise.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)) return 5000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)) return 7500;
-        if (noise.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)) return 10000;
-        if (noise.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY)) return 20000;
-        return 7500;
-    }
 }
@@ -1,29 +1,34 @@
 package com.example.globe.mixin;
 
-import com.example.globe.GlobeMod;
 import com.example.globe.util.LatitudeMath;
+import com.example.globe.world.BiomeCatalog;
+import com.example.globe.world.ColumnDecisionCache;
+import com.example.globe.world.GlobeProfile;
 import com.example.globe.world.LatitudeBiomes;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.LatitudeContextHolder;
+import com.example.globe.world.SectionPaletteWriter;
 import net.minecraft.registry.Registry;
-import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.collection.IndexedIterable;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
 import net.minecraft.world.biome.source.BiomeSupplier;
 import net.minecraft.world.biome.source.util.MultiNoiseUtil;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PaletteProvider;
 import net.minecraft.world.chunk.PalettedContainer;
 import net.minecraft.world.gen.StructureAccessor;
 import net.minecraft.world.gen.chunk.Blender;
-import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
 import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
 import net.minecraft.world.gen.noise.NoiseConfig;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -48,6 +53,11 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
     private static final int HARD_DECK_SURFACE_Y =
             Integer.getInteger("latitude.hardDeckSurfaceY", 20);
 
+    // Build each biome section in one step; -Dlatitude.bulkBiomeWrites=false restores per-cell swaps.
+    @Unique
+    private static final boolean BULK_BIOME_WRITES =
+            Boolean.parseBoolean(System.getProperty("latitude.bulkBiomeWrites", "true"));
+
     @Unique
     private static final boolean DEBUG_CAVE_CLAMP =
             Boolean.getBoolean("latitude.debugCaveClamp");
@@ -64,74 +74,13 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
     private static final boolean DEBUG_BIOME_PICK =
             Boolean.getBoolean("latitude.debugBiomePick");
 
-    // Only apply Latitude to your globe overworld settings (keeps Nether/End sane).
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_ID = Identifier.of("globe", "overworld");
-
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_XSMALL_ID = Identifier.of("globe", "overworld_xsmall");
-
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_SMALL_ID = Identifier.of("globe", "overworld_small");
-
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_REGULAR_ID = Identifier.of("globe", "overworld_regular");
-
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_LARGE_ID = Identifier.of("globe", "overworld_large");
-
-    @Unique
-    private static final Identifier GLOBE_SETTINGS_MASSIVE_ID = Identifier.of("globe", "overworld_massive");
-
-    @Unique
-    private static final Identifier LUSH_CAVES_ID = Identifier.of("minecraft", "lush_caves");
-
-    @Unique
-    private static final Identifier DRIPSTONE_CAVES_ID = Identifier.of("minecraft", "dripstone_caves");
-
-    @Unique
-    private static final Identifier DEEP_DARK_ID = Identifier.of("minecraft", "deep_dark");
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_ID);
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_XSMALL_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_XSMALL_ID);
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_SMALL_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_SMALL_ID);
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_REGULAR_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_REGULAR_ID);
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_LARGE_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_LARGE_ID);
-
-    @Unique
-    private static final RegistryKey<ChunkGeneratorSettings> GLOBE_SETTINGS_MASSIVE_KEY =
-            RegistryKey.of(RegistryKeys.CHUNK_GENERATOR_SETTINGS, GLOBE_SETTINGS_MASSIVE_ID);
-
-    @Unique
-    private static final int BORDER_RADIUS_XSMALL_BLOCKS = 3750;
-
-    @Unique
-    private static final int BORDER_RADIUS_SMALL_BLOCKS = 5000;
-
-    @Unique
-    private static final int BORDER_RADIUS_LARGE_BLOCKS = 10000;
-
-    @Unique
-    private static final int BORDER_RADIUS_MASSIVE_BLOCKS = 20000;
-
     // Thread-local so the Redirect (which cannot see outer args) can still access StructureAccessor safely.
     @Unique
     private static final ThreadLocal<StructureAccessor> globe$structureAccessorTL = new ThreadLocal<>();
 
+    @Unique
+    private static final ThreadLocal<SectionPaletteWriter<RegistryEntry<Biome>>> globe$sectionWriterTL = new ThreadLocal<>();
+
     @Unique
     private static final Long2LongOpenHashMap DEBUG_WORLDGEN_CHUNKS = new Long2LongOpenHashMap();
 
@@ -143,34 +92,16 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
         DEBUG_PICK_FAIL_COLUMNS.defaultReturnValue(Long.MIN_VALUE);
     }
 
-    @Shadow
-    public abstract boolean matchesSettings(RegistryKey<ChunkGeneratorSettings> settings);
-
-    @Unique
-    private boolean globe$isAnyGlobeSettings() {
-        return this.matchesSettings(GLOBE_SETTINGS_KEY)
-                || this.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)
-                || this.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)
-                || this.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)
-                || this.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)
-                || this.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY);
-    }
-
     @Unique
-    private int globe$borderRadiusBlocks() {
-        if (this.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)) {
-            return BORDER_RADIUS_XSMALL_BLOCKS;
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)) {
-            return BORDER_RADIUS_SMALL_BLOCKS;
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)) {
-            return BORDER_RADIUS_LARGE_BLOCKS;
+    private LatitudeContext globe$latitudeContext() {
+        LatitudeContextHolder holder = (LatitudeContextHolder) this;
+        LatitudeContext latitude = holder.globe$getLatitudeContext();
+        if (latitude == null) {
+            // World not loaded yet (or generating outside a ServerWorld): seed 0 with the generator's profile.
+            latitude = LatitudeContext.of(0L, holder.globe$getProfile());
+            holder.globe$setLatitudeContext(latitude);
         }
-        if (this.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY)) {
-            return BORDER_RADIUS_MASSIVE_BLOCKS;
-        }
-        return GlobeMod.BORDER_RADIUS;
+        return latitude;
     }
 
     // Capture StructureAccessor for the duration of the private populateBiomes call.
@@ -204,8 +135,9 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
             require = 0
     )
     private void globe$wrapBiomeSupplier(Chunk chunk, BiomeSupplier originalSupplier, MultiNoiseUtil.MultiNoiseSampler sampler) {
-        // Gate: only apply to your globe overworld settings.
-        if (!this.globe$isAnyGlobeSettings()) {
+        // Gate: only generators whose noise settings have a globe profile (keeps Nether/End sane).
+        GlobeProfile profile = ((LatitudeContextHolder) this).globe$getProfile();
+        if (profile == null) {
             chunk.populateBiomes(originalSupplier, sampler);
             return;
         }
@@ -217,148 +149,268 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
         }
 
         Registry<Biome> biomes = structureAccessor.getRegistryManager().getOrThrow(RegistryKeys.BIOME);
-        int borderRadiusBlocks = this.globe$borderRadiusBlocks();
-        logWorldgenPathOnce(chunk, borderRadiusBlocks, globe$matchedSettingsLabel());
-
-        BiomeSupplier wrapped = (x, y, z, ignoredSampler) -> {
-            // x/z are "noise biome coords" (4-block). Convert to block coords for your latitude math.
-            int blockX = (x << 2) + 2;
-            int blockZ = (z << 2) + 2;
-            int blockY = (y << 2) + 2;
-            
-            RegistryEntry<Biome> current = originalSupplier.getBiome(x, y, z, sampler);
-            RegistryEntry<Biome> base = originalSupplier.getBiome(x, 0, z, sampler);
-
-            if (blockY > HARD_DECK_SURFACE_Y && isCaveBiome(biomes, base)) {
-                RegistryEntry<Biome> plains = biomes.getEntry(Identifier.of("minecraft", "plains")).orElse(null);
-                if (DEBUG_CAVE_DECK) {
-                    LOGGER.info("[LAT_CAVE_DECK] replaced {} at blockY={} x={} z={}",
-                            biomeId(biomes, base), blockY, blockX, blockZ);
-                }
-                if (plains != null) {
-                    base = plains;
-                }
-            }
+        BiomeCatalog catalog = BiomeCatalog.of(biomes);
+        LatitudeContext latitude = this.globe$latitudeContext();
+        logWorldgenPathOnce(chunk, latitude.radius(), profile.noiseSettings().getValue().toString());
 
-            if (FIX_SURFACE_CAVE_BIOMES && isCaveBiome(biomes, current)) {
-                boolean hardDeck = blockY >= 0;
-                boolean tooHigh = blockY > MAX_CAVE_BIOME_Y;
-                boolean deepDarkIllegal = isDeepDark(biomes, current) && blockY > -16;
-                if (hardDeck || tooHigh || deepDarkIllegal) {
-                    RegistryEntry<Biome> replacement = pickSurfaceReplacement(
-                            biomes, base, blockX, blockZ, borderRadiusBlocks, sampler);
-                    if (DEBUG_CAVE_CLAMP) {
-                        LOGGER.info("[Latitude] Clamped {} at x={} y={} z={} (hardDeckY=0 maxY={} deepDarkIllegal={}) -> {}",
-                                biomeId(biomes, current), blockX, blockY, blockZ,
-                                MAX_CAVE_BIOME_Y, deepDarkIllegal, biomeId(biomes, replacement));
-                    }
-                    return replacement;
-                }
-            }
-
-            RegistryEntry<Biome> picked = null;
-
-            // IMPORTANT: force Y=0. Passing quartY reintroduces warm_ocean-on-land + harsh seams/infinite plains
-            try {
-                picked = LatitudeBiomes.pick(biomes, base, blockX, blockZ, borderRadiusBlocks, sampler, "MIXIN");
-            } catch (Throwable t) {
-                logPickFailOnce(blockX, blockZ, "exception", t.toString());
-                if (DEBUG_BIOME_PICK) {
-                    LOGGER.debug("[Latitude] Biome pick exception", t);
-                }
-            }
-            if (picked == null) {
-                logPickFailOnce(blockX, blockZ, "null", null);
-                if (DEBUG_BIOME_PICK) {
-                    LOGGER.debug("[Latitude] Biome pick returned null at x={} z={}", blockX, blockZ);
-                }
-                return pickSafeFallback(biomes, blockZ);
-            }
-            return picked;
-        };
-
-        globe$populateBiomes(chunk, wrapped, sampler);
+        ColumnDecisionCache cache = ((LatitudeContextHolder) this).globe$getColumnCache();
+        if (cache != null && cache.registry() != biomes) {
+            cache = null;
+        }
+        globe$populateBiomes(chunk, originalSupplier, sampler, biomes, catalog, latitude, cache);
     }
 
     @Unique
-    private static boolean isCaveBiome(Registry<Biome> biomes, RegistryEntry<Biome> entry) {
-        Identifier actual = biomes.getId(entry.value());
-        if (actual == null) {
-            actual = entry.getKey().map(key -> key.getValue()).orElse(null);
+    private static RegistryEntry<Biome> pickSurfaceReplacement(Registry<Biome> biomes, BiomeCatalog catalog,
+                                                               RegistryEntry<Biome> base, RegistryEntry<Biome> pick, int blockZ) {
+        if (pick == null) {
+            return pickSafeFallback(biomes, blockZ);
         }
-        if (actual == null) {
-            return false;
+        if (!catalog.is(pick, BiomeCatalog.SURFACE_CAVE)) {
+            return pick;
+        }
+        if (base != null && !catalog.is(base, BiomeCatalog.SURFACE_CAVE)) {
+            return base;
         }
-        return actual.equals(LUSH_CAVES_ID)
-                || actual.equals(DRIPSTONE_CAVES_ID)
-                || actual.equals(DEEP_DARK_ID);
+        return pickSafeFallback(biomes, blockZ);
     }
 
+    /**
+     * Picks the masked columns of a chunk (index {@code localZ << 2 | localX}) in one {@link LatitudeBiomes#pickChunk}
+     * call and stores them in {@code picks} and the cache, as the columns' low or {@code deck} picks. A failed pick
+     * leaves the column {@code null}.
+     */
     @Unique
-    private static RegistryEntry<Biome> pickSurfaceReplacement(Registry<Biome> biomes, RegistryEntry<Biome> base,
-                                                               int blockX, int blockZ, int borderRadiusBlocks,
-                                                               MultiNoiseUtil.MultiNoiseSampler sampler) {
-        RegistryEntry<Biome> pick;
+    private static void pickColumns(Registry<Biome> biomes, int chunkX, int chunkZ, boolean deck, RegistryEntry<Biome>[] bases, int mask,
+                                    LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler,
+                                    ColumnDecisionCache cache, int generation, RegistryEntry<Biome>[] picks) {
+        if (mask == 0) {
+            return;
+        }
+        IndexedIterable<RegistryEntry<Biome>> entries = biomes.getIndexedEntries();
+        int[] baseIds = new int[16];
+        int[] pickIds = new int[16];
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            int column = Integer.numberOfTrailingZeros(bits);
+            baseIds[column] = entries.getRawId(bases[column]);
+            if (baseIds[column] < 0) {
+                mask &= ~(1 << column);
+            }
+        }
+
+        // IMPORTANT: force Y=0. Passing quartY reintroduces warm_ocean-on-land + harsh seams/infinite plains
+        Throwable failure = null;
         try {
-            pick = LatitudeBiomes.pick(biomes, base, blockX, blockZ, borderRadiusBlocks, sampler, "CAVE_CLAMP");
+            LatitudeBiomes.pickChunk(latitude, biomes, chunkX, chunkZ, baseIds, mask, sampler, pickIds);
         } catch (Throwable t) {
-            pick = null;
-            logPickFailOnce(blockX, blockZ, "clamp_exception", t.toString());
+            failure = t;
             if (DEBUG_BIOME_PICK) {
-                LOGGER.debug("[Latitude] Clamp pick exception", t);
+                LOGGER.debug("[Latitude] Biome pick exception", t);
             }
         }
-        if (pick == null) {
-            logPickFailOnce(blockX, blockZ, "clamp_null", null);
-            pick = pickSafeFallback(biomes, blockZ);
-        }
-        if (!isCaveBiome(biomes, pick)) {
-            return pick;
-        }
-        if (base != null && !isCaveBiome(biomes, base)) {
-            return base;
+
+        for (int column = 0; column < 16; column++) {
+            if (bases[column] == null || picks[column] != null) {
+                continue;
+            }
+            boolean batched = (mask & (1 << column)) != 0;
+            boolean requested = batched || baseIds[column] < 0;
+            if (!requested) {
+                continue;
+            }
+            int quartX = (chunkX << 2) + (column & 3);
+            int quartZ = (chunkZ << 2) + (column >> 2);
+            int blockX = (quartX << 2) + 2;
+            int blockZ = (quartZ << 2) + 2;
+            RegistryEntry<Biome> picked = null;
+            if (!batched) {
+                // Not a registry entry, so it has no raw id for the batch; decide it on its own.
+                try {
+                    picked = LatitudeBiomes.pick(biomes, bases[column], blockX, blockZ, latitude, sampler);
+                } catch (Throwable t) {
+                    logPickFailOnce(blockX, blockZ, "exception", t.toString());
+                }
+            } else if (failure != null) {
+                logPickFailOnce(blockX, blockZ, "exception", failure.toString());
+            } else if (pickIds[column] >= 0) {
+                picked = entries.get(pickIds[column]);
+            }
+            if (picked == null) {
+                logPickFailOnce(blockX, blockZ, "null", null);
+                if (DEBUG_BIOME_PICK) {
+                    LOGGER.debug("[Latitude] Biome pick returned null at x={} z={}", blockX, blockZ);
+                }
+            } else if (cache != null) {
+                cache.put(quartX, quartZ, deck, bases[column], picked, generation);
+            }
+            picks[column] = picked;
         }
-        return pickSafeFallback(biomes, blockZ);
     }
 
+    /**
+     * The latitude pick only depends on the column (it always reads the y=0 base biome), so each quart column
+     * resolves its base and pick once: one pick for cells at or below the hard deck and, only when the base is
+     * a cave biome, a second pick against plains for cells above it. The original supplier is sampled at the
+     * cell's own Y only where the surface-cave clamp could change the outcome, i.e. where the column pick is
+     * itself missing or a cave biome and the cell lies above the deep-dark floor. Picks go through the world's
+     * {@link ColumnDecisionCache}, so columns the biome source already decided for structure checks are reused; the
+     * columns still missing are decided together by {@link LatitudeBiomes#pickChunk}, once for the low picks and
+     * once for the deck picks.
+     * <p>
+     * Sections are then filled one at a time: the 64 decisions are collected and the finished biome container
+     * is built and installed in one step instead of swapping cell by cell into the live container.
+     */
     @Unique
-    private static void globe$populateBiomes(Chunk chunk, BiomeSupplier supplier, MultiNoiseUtil.MultiNoiseSampler sampler) {
+    private static void globe$populateBiomes(Chunk chunk, BiomeSupplier originalSupplier, MultiNoiseUtil.MultiNoiseSampler sampler,
+                                             Registry<Biome> biomes, BiomeCatalog catalog, LatitudeContext latitude,
+                                             ColumnDecisionCache cache) {
         int minQuartY = chunk.getBottomY() >> 2;
-        int heightQuarts = chunk.getHeight() >> 2;
         int startQuartX = chunk.getPos().x << 2;
         int startQuartZ = chunk.getPos().z << 2;
+
+        RegistryEntry<Biome>[] bases = newColumnArray();
+        RegistryEntry<Biome>[] deckBases = newColumnArray();
+        RegistryEntry<Biome>[] lowPicks = newColumnArray();
+        RegistryEntry<Biome>[] deckPicks = newColumnArray();
+        int lowMask = 0;
+        int deckMask = 0;
         for (int localX = 0; localX < 4; localX++) {
             int quartX = startQuartX + localX;
+            // x/z are "noise biome coords" (4-block). Convert to block coords for your latitude math.
+            int blockX = (quartX << 2) + 2;
             for (int localZ = 0; localZ < 4; localZ++) {
                 int quartZ = startQuartZ + localZ;
-                for (int localY = 0; localY < heightQuarts; localY++) {
-                    int quartY = minQuartY + localY;
-                    if (localY < 0 || localY >= heightQuarts) {
-                        if (DEBUG_CAVE_CLAMP) {
-                            LOGGER.warn("[Latitude] Skipping out-of-range biome Y quartY={} minQuartY={} localY={} heightQuarts={}",
-                                    quartY, minQuartY, localY, heightQuarts);
+                int blockZ = (quartZ << 2) + 2;
+                int column = localZ << 2 | localX;
+
+                RegistryEntry<Biome> base = originalSupplier.getBiome(quartX, 0, quartZ, sampler);
+                RegistryEntry<Biome> deckBase = base;
+                if (catalog.is(base, BiomeCatalog.SURFACE_CAVE)) {
+                    RegistryEntry<Biome> plains = catalog.get(BiomeCatalog.Handle.PLAINS);
+                    if (DEBUG_CAVE_DECK) {
+                        LOGGER.info("[LAT_CAVE_DECK] replaced {} above blockY={} x={} z={}",
+                                biomeId(biomes, base), HARD_DECK_SURFACE_Y, blockX, blockZ);
+                    }
+                    if (plains != null) {
+                        deckBase = plains;
+                    }
+                }
+                bases[column] = base;
+                deckBases[column] = deckBase;
+                lowPicks[column] = cache != null ? cache.get(quartX, quartZ, false, base) : null;
+                if (lowPicks[column] == null) {
+                    lowMask |= 1 << column;
+                }
+                if (deckBase != base) {
+                    deckPicks[column] = cache != null ? cache.get(quartX, quartZ, true, deckBase) : null;
+                    if (deckPicks[column] == null) {
+                        deckMask |= 1 << column;
+                    }
+                }
+            }
+        }
+
+        int generation = cache != null ? cache.generation() : 0;
+        pickColumns(biomes, chunk.getPos().x, chunk.getPos().z, false, bases, lowMask, latitude, sampler, cache, generation, lowPicks);
+        pickColumns(biomes, chunk.getPos().x, chunk.getPos().z, true, deckBases, deckMask, latitude, sampler, cache, generation, deckPicks);
+        for (int column = 0; column < 16; column++) {
+            if (deckBases[column] == bases[column]) {
+                deckPicks[column] = lowPicks[column];
+            }
+        }
+
+        ChunkSection[] sections = chunk.getSectionArray();
+        RegistryEntry<Biome>[] cells = newSectionArray();
+        for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
+            for (int sectionLocalY = 0; sectionLocalY < 4; sectionLocalY++) {
+                int quartY = minQuartY + (sectionIndex << 2) + sectionLocalY;
+                int blockY = (quartY << 2) + 2;
+                boolean aboveDeck = blockY > HARD_DECK_SURFACE_Y;
+                for (int localZ = 0; localZ < 4; localZ++) {
+                    int quartZ = startQuartZ + localZ;
+                    int blockZ = (quartZ << 2) + 2;
+                    for (int localX = 0; localX < 4; localX++) {
+                        int quartX = startQuartX + localX;
+                        int column = localZ << 2 | localX;
+                        RegistryEntry<Biome> cellBase = aboveDeck ? deckBases[column] : bases[column];
+                        RegistryEntry<Biome> picked = aboveDeck ? deckPicks[column] : lowPicks[column];
+                        RegistryEntry<Biome> biome = picked;
+
+                        if (FIX_SURFACE_CAVE_BIOMES && blockY > -16
+                                && (picked == null || catalog.is(picked, BiomeCatalog.SURFACE_CAVE))) {
+                            RegistryEntry<Biome> current = originalSupplier.getBiome(quartX, quartY, quartZ, sampler);
+                            if (catalog.is(current, BiomeCatalog.SURFACE_CAVE)) {
+                                boolean hardDeck = blockY >= 0;
+                                boolean tooHigh = blockY > MAX_CAVE_BIOME_Y;
+                                boolean deepDarkIllegal = current.matchesKey(BiomeKeys.DEEP_DARK);
+                                if (hardDeck || tooHigh || deepDarkIllegal) {
+                                    biome = pickSurfaceReplacement(biomes, catalog, cellBase, picked, blockZ);
+                                    if (DEBUG_CAVE_CLAMP) {
+                                        int blockX = (quartX << 2) + 2;
+                                        LOGGER.info("[Latitude] Clamped {} at x={} y={} z={} (hardDeckY=0 maxY={} deepDarkIllegal={}) -> {}",
+                                                biomeId(biomes, current), blockX, blockY, blockZ,
+                                                MAX_CAVE_BIOME_Y, deepDarkIllegal, biomeId(biomes, biome));
+                                    }
+                                }
+                            }
+                        }
+                        if (biome == null) {
+                            biome = pickSafeFallback(biomes, blockZ);
                         }
-                        continue;
+                        cells[(sectionLocalY << 2 | localZ) << 2 | localX] = biome;
                     }
-                    RegistryEntry<Biome> biome = supplier.getBiome(quartX, quartY, quartZ, sampler);
-                    int sectionIndex = localY >> 2;
-                    int sectionLocalY = localY & 3;
-                    ChunkSection section = chunk.getSection(sectionIndex);
-                    PalettedContainer<RegistryEntry<Biome>> container =
-                            (PalettedContainer<RegistryEntry<Biome>>) section.getBiomeContainer();
-                    container.swap(localX, sectionLocalY, localZ, biome);
                 }
             }
+            writeSection(sections[sectionIndex], cells);
         }
     }
 
     @Unique
-    private static boolean isDeepDark(Registry<Biome> biomes, RegistryEntry<Biome> entry) {
-        Identifier actual = biomes.getId(entry.value());
-        if (actual == null) {
-            actual = entry.getKey().map(key -> key.getValue()).orElse(null);
+    @SuppressWarnings("unchecked")
+    private static RegistryEntry<Biome>[] newColumnArray() {
+        return new RegistryEntry[16];
+    }
+
+    @Unique
+    @SuppressWarnings("unchecked")
+    private static RegistryEntry<Biome>[] newSectionArray() {
+        return new RegistryEntry[64];
+    }
+
+    /**
+     * Installs a section's 64 biomes (indexed {@code (y << 2 | z) << 2 | x}) as one freshly built container.
+     * Falls back to per-cell swaps if a biome has no raw id in the section's palette (a non-registry entry)
+     * or the container cannot be built.
+     */
+    @Unique
+    @SuppressWarnings("unchecked")
+    private static void writeSection(ChunkSection section, RegistryEntry<Biome>[] cells) {
+        PalettedContainer<RegistryEntry<Biome>> container =
+                (PalettedContainer<RegistryEntry<Biome>>) section.getBiomeContainer();
+        if (BULK_BIOME_WRITES) {
+            PaletteProvider<RegistryEntry<Biome>> provider =
+                    ((PalettedContainerAccessor<RegistryEntry<Biome>>) (Object) container).globe$getPaletteProvider();
+            SectionPaletteWriter<RegistryEntry<Biome>> writer = globe$sectionWriterTL.get();
+            if (writer == null || writer.provider() != provider) {
+                writer = new SectionPaletteWriter<>(provider);
+                globe$sectionWriterTL.set(writer);
+            }
+            writer.clear();
+            boolean bulk = true;
+            for (int i = 0; i < cells.length && bulk; i++) {
+                bulk = writer.set(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
+            }
+            if (bulk) {
+                PalettedContainer<RegistryEntry<Biome>> built = writer.build().result().orElse(null);
+                if (built != null) {
+                    ((ChunkSectionAccessor) section).globe$setBiomeContainer(built);
+                    return;
+                }
+            }
+        }
+        for (int i = 0; i < cells.length; i++) {
+            container.swap(i & 3, i >> 4, (i >> 2) & 3, cells[i]);
         }
-        return DEEP_DARK_ID.equals(actual);
     }
 
     @Unique
@@ -376,29 +428,6 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
                 settingsLabel, chunk.getPos(), borderRadiusBlocks);
     }
 
-    @Unique
-    private String globe$matchedSettingsLabel() {
-        if (this.matchesSettings(GLOBE_SETTINGS_KEY)) {
-            return "overworld";
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_XSMALL_KEY)) {
-            return "overworld_xsmall";
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_SMALL_KEY)) {
-            return "overworld_small";
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_REGULAR_KEY)) {
-            return "overworld_regular";
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_LARGE_KEY)) {
-            return "overworld_large";
-        }
-        if (this.matchesSettings(GLOBE_SETTINGS_MASSIVE_KEY)) {
-            return "overworld_massive";
-        }
-        return "unknown";
-    }
-
     @Unique
     private static void logPickFailOnce(int blockX, int blockZ, String reason, String detail) {
         long key = (((long) blockX) << 32) ^ (blockZ & 0xFFFF_FFFFL);
@@ -430,12 +459,12 @@ public abstract class ChunkGeneratorPopulateBiomesMixin {
     @Unique
     private static RegistryEntry<Biome> pickSafeFallback(Registry<Biome> biomes, int blockZ) {
         boolean farNorth = Math.abs(blockZ) > 8000;
-        Identifier id = Identifier.of("minecraft", farNorth ? "snowy_plains" : "plains");
-        RegistryEntry<Biome> entry = biomes.getEntry(id).orElse(null);
+        BiomeCatalog catalog = BiomeCatalog.of(biomes);
+        RegistryEntry<Biome> entry = catalog.get(farNorth ? BiomeCatalog.Handle.SNOWY_PLAINS : BiomeCatalog.Handle.PLAINS);
         if (entry != null) {
             return entry;
         }
-        return biomes.getEntry(Identifier.of("minecraft", "plains")).orElse(null);
+        return catalog.get(BiomeCatalog.Handle.PLAINS);
     }
 
     @Unique
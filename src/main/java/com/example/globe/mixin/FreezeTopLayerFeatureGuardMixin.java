@@ -1,8 +1,7 @@
 package com.example.globe.mixin;
 
-import com.example.globe.GlobeMod;
-import com.example.globe.util.LatitudeMath;
-import com.example.globe.world.LatitudeBiomes;
+import com.example.globe.world.ChunkGenGate;
+import com.example.globe.world.LatitudeContext;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.gen.feature.DefaultFeatureConfig;
 import net.minecraft.world.gen.feature.FreezeTopLayerFeature;
@@ -27,28 +26,14 @@ public class FreezeTopLayerFeatureGuardMixin {
     @Unique
     private static final java.util.concurrent.atomic.AtomicInteger GUARD_LOG_COUNT = new java.util.concurrent.atomic.AtomicInteger();
 
-    @Unique
-    private static boolean globe$isWarmBand(int blockZ) {
-        int borderRadius = GlobeMod.BORDER_RADIUS;
-        int activeRadius = LatitudeBiomes.getActiveRadiusBlocks();
-        if (activeRadius > 0) borderRadius = activeRadius;
-        LatitudeMath.LatitudeZone zone = LatitudeMath.zoneForRadius(borderRadius, blockZ);
-        return zone == LatitudeMath.LatitudeZone.EQUATOR
-                || zone == LatitudeMath.LatitudeZone.TROPICAL
-                || zone == LatitudeMath.LatitudeZone.SUBTROPICAL
-                || zone == LatitudeMath.LatitudeZone.TEMPERATE;
-    }
-
     @Inject(method = "generate", at = @At("HEAD"), cancellable = true)
     private void globe$blockFreezeInWarmBands(FeatureContext<DefaultFeatureConfig> context, CallbackInfoReturnable<Boolean> cir) {
         BlockPos origin = context.getOrigin();
-        if (globe$isWarmBand(origin.getZ())) {
+        LatitudeContext latitude = LatitudeContext.forGenerator(context.getGenerator());
+        if (!ChunkGenGate.allows(context.getWorld().getChunk(origin), latitude, ChunkGenGate.FREEZE_TOP_LAYER)) {
             if (GUARD_LOG_COUNT.incrementAndGet() <= 10) {
                 LOGGER.warn("[FREEZE_GUARD] Blocked FreezeTopLayer at chunk origin x={} z={} band={}",
-                        origin.getX(), origin.getZ(),
-                        LatitudeMath.zoneForRadius(
-                                LatitudeBiomes.getActiveRadiusBlocks() > 0 ? LatitudeBiomes.getActiveRadiusBlocks() : GlobeMod.BORDER_RADIUS,
-                                origin.getZ()));
+                        origin.getX(), origin.getZ(), latitude != null ? latitude.zone(origin.getZ()) : null);
             }
             cir.setReturnValue(false);
         }
@@ -0,0 +1,42 @@
+package com.example.globe.mixin;
+
+import com.example.globe.GlobeMod;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldProperties;
+import net.minecraft.world.chunk.ChunkLoadProgress;
+import net.minecraft.world.level.ServerWorldProperties;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Puts a new globe world's spawn in the zone the player picked on the create-world screen instead of running
+ * vanilla's spawn search, which generates chunks around the equator one by one until it finds land. The spot is
+ * predicted from noise, so nothing generates here; the area around it loads when the player joins, and the join-time
+ * spawn choice picks the same column. Worlds with a bonus chest keep vanilla's setup, which places the chest.
+ */
+@Mixin(MinecraftServer.class)
+public abstract class MinecraftServerChosenZoneSpawnMixin {
+
+    @Inject(method = "setupSpawn", at = @At("HEAD"), cancellable = true)
+    private static void globe$spawnInChosenZone(ServerWorld world, ServerWorldProperties worldProperties, boolean bonusChest,
+                                                boolean debugWorld, ChunkLoadProgress loadProgress, CallbackInfo ci) {
+        if (bonusChest || debugWorld) {
+            return;
+        }
+        BlockPos spawn = GlobeMod.chosenZoneInitialSpawn(world);
+        if (spawn == null) {
+            return;
+        }
+        loadProgress.init(ChunkLoadProgress.Stage.PREPARE_GLOBAL_SPAWN, 0);
+        loadProgress.initSpawnPos(world.getRegistryKey(), new ChunkPos(spawn));
+        worldProperties.setSpawnPoint(WorldProperties.SpawnPoint.create(world.getRegistryKey(), spawn, 0.0F, 0.0F));
+        loadProgress.finish(ChunkLoadProgress.Stage.PREPARE_GLOBAL_SPAWN);
+        GlobeMod.LOGGER.info("[Latitude] Initial spawn placed in the chosen zone at {}", spawn.toShortString());
+        ci.cancel();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.ColumnDecisionCache;
+import com.example.globe.world.GlobeProfile;
+import com.example.globe.world.GlobeProfiles;
+import com.example.globe.world.LatitudeContext;
+import com.example.globe.world.LatitudeContextHolder;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
+import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Gives every {@link NoiseChunkGenerator} its {@link GlobeProfile}, looked up once from its noise settings, and a slot
+ * for the {@link LatitudeContext} of the world it generates. GlobeMod binds the context on world load; until then the
+ * populate hook binds a seed-0 context from the profile.
+ */
+@Mixin(NoiseChunkGenerator.class)
+public abstract class NoiseChunkGeneratorLatitudeContextMixin implements LatitudeContextHolder {
+
+    @Shadow
+    @Final
+    private RegistryEntry<ChunkGeneratorSettings> settings;
+
+    @Unique
+    private volatile boolean globe$profileResolved;
+
+    @Unique
+    private GlobeProfile globe$profile;
+
+    @Unique
+    private volatile LatitudeContext globe$latitudeContext;
+
+    @Unique
+    private volatile ColumnDecisionCache globe$columnCache;
+
+    @Override
+    public GlobeProfile globe$getProfile() {
+        if (this.globe$profileResolved) {
+            return this.globe$profile;
+        }
+        // The ChunkGenerator constructor already asks for the biome source, before this class has assigned settings.
+        if (this.settings == null) {
+            return null;
+        }
+        this.globe$profile = GlobeProfiles.forSettings(this.settings);
+        this.globe$profileResolved = true;
+        return this.globe$profile;
+    }
+
+    @Override
+    public LatitudeContext globe$getLatitudeContext() {
+        return this.globe$latitudeContext;
+    }
+
+    @Override
+    public void globe$setLatitudeContext(LatitudeContext context) {
+        this.globe$latitudeContext = context;
+    }
+
+    @Override
+    public ColumnDecisionCache globe$getColumnCache() {
+        return this.globe$columnCache;
+    }
+
+    @Override
+    public void globe$setColumnCache(ColumnDecisionCache cache) {
+        this.globe$columnCache = cache;
+    }
+}
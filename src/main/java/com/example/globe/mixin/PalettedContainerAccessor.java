@@ -0,0 +1,12 @@
+package com.example.globe.mixin;
+
+import net.minecraft.world.chunk.PaletteProvider;
+import net.minecraft.world.chunk.PalettedContainer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(PalettedContainer.class)
+public interface PalettedContainerAccessor<T> {
+    @Accessor("paletteProvider")
+    PaletteProvider<T> globe$getPaletteProvider();
+}
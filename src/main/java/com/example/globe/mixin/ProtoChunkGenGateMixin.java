@@ -0,0 +1,25 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.ChunkGenGate;
+import com.example.globe.world.ChunkGenGateHolder;
+import net.minecraft.world.chunk.ProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/** Gives every {@link ProtoChunk} a slot for its {@link ChunkGenGate}. */
+@Mixin(ProtoChunk.class)
+public abstract class ProtoChunkGenGateMixin implements ChunkGenGateHolder {
+
+    @Unique
+    private volatile int globe$genGate;
+
+    @Override
+    public int globe$getGenGate() {
+        return this.globe$genGate;
+    }
+
+    @Override
+    public void globe$setGenGate(int gate) {
+        this.globe$genGate = gate;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.SurfaceSnapshot;
+import com.example.globe.world.SurfaceSnapshotHolder;
+import net.minecraft.world.chunk.ProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/** Gives every {@link ProtoChunk} a slot for its {@link SurfaceSnapshot}. */
+@Mixin(ProtoChunk.class)
+public abstract class ProtoChunkSurfaceSnapshotMixin implements SurfaceSnapshotHolder {
+
+    @Unique
+    private volatile SurfaceSnapshot globe$surfaceSnapshot;
+
+    @Override
+    public SurfaceSnapshot globe$getSurfaceSnapshot() {
+        return this.globe$surfaceSnapshot;
+    }
+
+    @Override
+    public void globe$setSurfaceSnapshot(SurfaceSnapshot snapshot) {
+        this.globe$surfaceSnapshot = snapshot;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.globe.mixin;
+
+import com.example.globe.HazardViewDistance;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerChunkLoadingManager;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Applies {@link HazardViewDistance} caps. The per-player view distance feeds the chunk filter that decides which
+ * chunks are sent (re-evaluated for every player each tick) and the entity tracking range; {@code canTickChunk}
+ * decides which chunks a player keeps random-ticking and spawning.
+ */
+@Mixin(ServerChunkLoadingManager.class)
+public abstract class ServerChunkLoadingManagerHazardViewMixin {
+
+    @Inject(method = "getViewDistance(Lnet/minecraft/server/network/ServerPlayerEntity;)I", at = @At("RETURN"), cancellable = true)
+    private void globe$capHazardViewDistance(ServerPlayerEntity player, CallbackInfoReturnable<Integer> cir) {
+        int chunks = cir.getReturnValueI();
+        int capped = HazardViewDistance.viewDistance(player, chunks);
+        if (capped != chunks) {
+            cir.setReturnValue(capped);
+        }
+    }
+
+    @Inject(method = "canTickChunk", at = @At("RETURN"), cancellable = true)
+    private void globe$capHazardTickRadius(ServerPlayerEntity player, ChunkPos pos, CallbackInfoReturnable<Boolean> cir) {
+        if (!cir.getReturnValueZ()) {
+            return;
+        }
+        double dx = pos.getStartX() + 8 - player.getX();
+        double dz = pos.getStartZ() + 8 - player.getZ();
+        double squared = dx * dx + dz * dz;
+        if (squared >= HazardViewDistance.tickRadiusSquared(player, Double.POSITIVE_INFINITY)) {
+            cir.setReturnValue(false);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.globe.mixin;
+
+import com.example.globe.HazardViewHolder;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/** Gives every {@link ServerPlayerEntity} a slot for its hazard view cap and stage. */
+@Mixin(ServerPlayerEntity.class)
+public abstract class ServerPlayerEntityHazardViewMixin implements HazardViewHolder {
+
+    @Unique
+    private int globe$hazardViewCap;
+
+    @Unique
+    private int globe$hazardViewStage;
+
+    @Override
+    public int globe$getHazardViewCap() {
+        return this.globe$hazardViewCap;
+    }
+
+    @Override
+    public void globe$setHazardViewCap(int chunks) {
+        this.globe$hazardViewCap = chunks;
+    }
+
+    @Override
+    public int globe$getHazardViewStage() {
+        return this.globe$hazardViewStage;
+    }
+
+    @Override
+    public void globe$setHazardViewStage(int stage) {
+        this.globe$hazardViewStage = stage;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.PrecipitationBands;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/** Scopes the ice, snow and cauldron precipitation checks of a random tick to the ticking world's latitude bands. */
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldPrecipitationScopeMixin {
+
+    @Inject(method = "tickIceAndSnow", at = @At("HEAD"))
+    private void globe$scopeIceAndSnow(BlockPos pos, CallbackInfo ci) {
+        PrecipitationBands.enter((ServerWorld) (Object) this);
+    }
+
+    @Inject(method = "tickIceAndSnow", at = @At("RETURN"))
+    private void globe$unscopeIceAndSnow(BlockPos pos, CallbackInfo ci) {
+        PrecipitationBands.exit();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.globe.mixin;
+
+import com.example.globe.world.PrecipitationBands;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/** Scopes the biome precipitation queries a world makes to that world's latitude bands (see {@link PrecipitationBands}). */
+@Mixin(World.class)
+public abstract class WorldPrecipitationScopeMixin {
+
+    @Inject(method = "getPrecipitation", at = @At("HEAD"))
+    private void globe$scopePrecipitation(BlockPos pos, CallbackInfoReturnable<Biome.Precipitation> cir) {
+        PrecipitationBands.enter((World) (Object) this);
+    }
+
+    @Inject(method = "getPrecipitation", at = @At("RETURN"))
+    private void globe$unscopePrecipitation(BlockPos pos, CallbackInfoReturnable<Biome.Precipitation> cir) {
+        PrecipitationBands.exit();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.globe.mixin.client;
+
+import com.example.globe.world.PrecipitationBands;
+import net.minecraft.client.render.WeatherRendering;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/** Rain and snow columns are drawn from the biome's precipitation; scope those queries to the client world's bands. */
+@Mixin(WeatherRendering.class)
+public abstract class WeatherRenderingPrecipitationScopeMixin {
+
+    @Inject(method = "getPrecipitationAt", at = @At("HEAD"))
+    private void globe$scopePrecipitation(World world, BlockPos pos, CallbackInfoReturnable<Biome.Precipitation> cir) {
+        PrecipitationBands.enter(world);
+    }
+
+    @Inject(method = "getPrecipitationAt", at = @At("RETURN"))
+    private void globe$unscopePrecipitation(World world, BlockPos pos, CallbackInfoReturnable<Biome.Precipitation> cir) {
+        PrecipitationBands.exit();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.globe.util;
+
+/**
+ * Smooth 2D "blob" noise in [0, 1): salted corner hashes on a square lattice of {@code patchSize} cells, blended with
+ * smoothstep. Unit-agnostic; the latitude picker samples it in chunks (blend jitter, patch masks) and in blocks
+ * (swamp mask).
+ */
+public final class BlobNoise2D {
+    private BlobNoise2D() {
+    }
+
+    private static long key(long seed, int x, int z, long salt) {
+        long h = seed ^ salt;
+        h ^= (long) x * 0x9E3779B97F4A7C15L;
+        h ^= (long) z * 0xC2B2AE3D27D4EB4FL;
+        return h;
+    }
+
+    private static double toUnit(long h) {
+        return ((h >>> 11) * (1.0 / (1L << 53)));
+    }
+
+    private static double hash01(long seed, int x, int z, long salt) {
+        return toUnit(ValueNoise2D.mix64(key(seed, x, z, salt)));
+    }
+
+    private static double smoothstep(double t) {
+        t = Math.max(0.0, Math.min(1.0, t));
+        return t * t * (3.0 - 2.0 * t);
+    }
+
+    public static double sample(long seed, int x, int z, int patchSize, long salt) {
+        int gx = Math.floorDiv(x, patchSize);
+        int gz = Math.floorDiv(z, patchSize);
+
+        int x0 = gx * patchSize;
+        int z0 = gz * patchSize;
+        int x1 = x0 + patchSize;
+        int z1 = z0 + patchSize;
+
+        double fx = (x - x0) / (double) patchSize;
+        double fz = (z - z0) / (double) patchSize;
+
+        double u = smoothstep(fx);
+        double v = smoothstep(fz);
+
+        double n00 = hash01(seed, x0, z0, salt);
+        double n10 = hash01(seed, x1, z0, salt);
+        double n01 = hash01(seed, x0, z1, salt);
+        double n11 = hash01(seed, x1, z1, salt);
+
+        double nx0 = n00 + (n10 - n00) * u;
+        double nx1 = n01 + (n11 - n01) * u;
+        return nx0 + (nx1 - nx0) * v;
+    }
+
+    /**
+     * {@link #sample} at {@code (x0 + i * stepX, z0 + j * stepZ)} for {@code i < w}, {@code j < h}, written row-major
+     * to {@code out[j * w + i]}, hashing each lattice corner once per grid. Bit-for-bit equal to {@link #sample}.
+     */
+    public static void sampleGrid(long seed, int x0, int z0, int stepX, int stepZ, int w, int h, int patchSize, long salt, double[] out) {
+        ValueNoise2D.checkGrid(stepX, stepZ, w, h, out);
+
+        int[] latticeX = new int[2 * w];
+        int[] cornerX = new int[w];
+        double[] u = new double[w];
+        int nx = axis(x0, stepX, w, patchSize, latticeX, cornerX, u);
+
+        int[] latticeZ = new int[2 * h];
+        int[] cornerZ = new int[h];
+        double[] v = new double[h];
+        int nz = axis(z0, stepZ, h, patchSize, latticeZ, cornerZ, v);
+
+        long[] hashes = new long[nx * nz];
+        for (int zi = 0; zi < nz; zi++) {
+            int cz = latticeZ[zi] * patchSize;
+            for (int xi = 0; xi < nx; xi++) {
+                hashes[zi * nx + xi] = key(seed, latticeX[xi] * patchSize, cz, salt);
+            }
+        }
+        ValueNoise2D.mix64All(hashes, hashes.length);
+        double[] values = new double[hashes.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toUnit(hashes[i]);
+        }
+
+        for (int j = 0; j < h; j++) {
+            int row0 = cornerZ[j] * nx;
+            int row1 = row0 + nx;
+            double t = v[j];
+            int base = j * w;
+            for (int i = 0; i < w; i++) {
+                int c = cornerX[i];
+                double s = u[i];
+                double n00 = values[row0 + c];
+                double n10 = values[row0 + c + 1];
+                double n01 = values[row1 + c];
+                double n11 = values[row1 + c + 1];
+                double nx0 = n00 + (n10 - n00) * s;
+                double nx1 = n01 + (n11 - n01) * s;
+                out[base + i] = nx0 + (nx1 - nx0) * t;
+            }
+        }
+    }
+
+    /** Patch indices along one grid axis; see {@code ValueNoise2D.axis}. Corners are {@code index * patchSize}. */
+    private static int axis(int origin, int step, int count, int patchSize, int[] lattice, int[] corner, double[] t) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int p = origin + i * step;
+            int g = Math.floorDiv(p, patchSize);
+            t[i] = smoothstep((p - g * patchSize) / (double) patchSize);
+            n = ValueNoise2D.appendCorner(lattice, n, g, corner, i);
+        }
+        return n;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.globe.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded, lock-free "have I logged this key" filter for log lines that fire from worldgen threads. Each key hashes to
+ * one slot of a fixed table; a key is reported as new unless its slot still holds it. Memory never grows, and a key
+ * can be reported again after another key sharing its slot displaced it, which is fine for diagnostics.
+ */
+public final class LogOnce {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /** {@code capacity} is rounded up to a power of two. */
+    public LogOnce(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots.set(i, EMPTY);
+        }
+    }
+
+    /** {@code true} the first time {@code key} is seen (or the first time since it was displaced). */
+    public boolean first(long key) {
+        if (key == EMPTY) {
+            key = EMPTY + 1;
+        }
+        long h = key * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h >>> 32) & mask;
+        return slots.getAndSet(slot, key) != key;
+    }
+
+    /** Key for a chunk or column position. */
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFF_FFFFL);
+    }
+}
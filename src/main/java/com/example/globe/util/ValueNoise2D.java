@@ -4,7 +4,7 @@ public final class ValueNoise2D {
     private ValueNoise2D() {
     }
 
-    private static long mix64(long z) {
+    static long mix64(long z) {
         z ^= (z >>> 33);
         z *= 0xff51afd7ed558ccdL;
         z ^= (z >>> 33);
@@ -13,6 +13,13 @@ public final class ValueNoise2D {
         return z;
     }
 
+    /** {@link #mix64} over the first {@code count} keys, in place. */
+    static void mix64All(long[] keys, int count) {
+        for (int i = 0; i < count; i++) {
+            keys[i] = mix64(keys[i]);
+        }
+    }
+
     private static double toUnit(long h) {
         return ((h >>> 11) * 0x1.0p-53);
     }
@@ -25,9 +32,12 @@ public final class ValueNoise2D {
         return a + (b - a) * t;
     }
 
+    private static long key(long seed, int x, int z) {
+        return seed ^ (((long) x) << 32) ^ (z & 0xffffffffL);
+    }
+
     private static double valueAt(long seed, int x, int z) {
-        long h = seed ^ (((long) x) << 32) ^ (z & 0xffffffffL);
-        return toUnit(mix64(h));
+        return toUnit(mix64(key(seed, x, z)));
     }
 
     public static double sampleBlocks(long seed, int blockX, int blockZ, int scaleBlocks) {
@@ -47,4 +57,88 @@ public final class ValueNoise2D {
 
         return lerp(lerp(v00, v10, tx), lerp(v01, v11, tx), tz);
     }
+
+    /**
+     * {@link #sampleBlocks} at {@code (x0 + i * stepX, z0 + j * stepZ)} for {@code i < w}, {@code j < h}, written
+     * row-major to {@code out[j * w + i]}. Each lattice corner is hashed once per grid rather than once per cell;
+     * results are bit-for-bit those of {@link #sampleBlocks}.
+     */
+    public static void sampleGrid(long seed, int x0, int z0, int stepX, int stepZ, int w, int h, int scaleBlocks, double[] out) {
+        checkGrid(stepX, stepZ, w, h, out);
+
+        int[] latticeX = new int[2 * w];
+        int[] cornerX = new int[w];
+        double[] tx = new double[w];
+        int nx = axis(x0, stepX, w, scaleBlocks, latticeX, cornerX, tx);
+
+        int[] latticeZ = new int[2 * h];
+        int[] cornerZ = new int[h];
+        double[] tz = new double[h];
+        int nz = axis(z0, stepZ, h, scaleBlocks, latticeZ, cornerZ, tz);
+
+        long[] hashes = new long[nx * nz];
+        for (int zi = 0; zi < nz; zi++) {
+            for (int xi = 0; xi < nx; xi++) {
+                hashes[zi * nx + xi] = key(seed, latticeX[xi], latticeZ[zi]);
+            }
+        }
+        mix64All(hashes, hashes.length);
+        double[] values = new double[hashes.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = toUnit(hashes[i]);
+        }
+
+        for (int j = 0; j < h; j++) {
+            int row0 = cornerZ[j] * nx;
+            int row1 = row0 + nx;
+            double t = tz[j];
+            int base = j * w;
+            for (int i = 0; i < w; i++) {
+                int c = cornerX[i];
+                double s = tx[i];
+                out[base + i] = lerp(lerp(values[row0 + c], values[row0 + c + 1], s), lerp(values[row1 + c], values[row1 + c + 1], s), t);
+            }
+        }
+    }
+
+    /**
+     * Lattice cells along one grid axis. {@code lattice} receives the distinct corners in ascending pairs
+     * {@code (c, c + 1)}, {@code corner[i]} the index of sample {@code i}'s lower corner in it; returns the corner count.
+     */
+    private static int axis(int origin, int step, int count, int scaleBlocks, int[] lattice, int[] corner, double[] t) {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            double p = (origin + i * step) / (double) scaleBlocks;
+            int c = (int) Math.floor(p);
+            t[i] = smooth(p - c);
+            n = appendCorner(lattice, n, c, corner, i);
+        }
+        return n;
+    }
+
+    /** Adds {@code c} and {@code c + 1} to the ascending corner list unless already at its end. */
+    static int appendCorner(int[] lattice, int n, int c, int[] corner, int i) {
+        if (n >= 2 && lattice[n - 2] == c) {
+            corner[i] = n - 2;
+            return n;
+        }
+        if (n >= 1 && lattice[n - 1] == c) {
+            corner[i] = n - 1;
+            lattice[n] = c + 1;
+            return n + 1;
+        }
+        corner[i] = n;
+        lattice[n] = c;
+        lattice[n + 1] = c + 1;
+        return n + 2;
+    }
+
+    static void checkGrid(int stepX, int stepZ, int w, int h, double[] out) {
+        if (stepX <= 0 || stepZ <= 0 || w <= 0 || h <= 0) {
+            throw new IllegalArgumentException("Grid needs positive steps and size, got step " + stepX + "x" + stepZ + " size " + w + "x" + h);
+        }
+        if (out.length < w * h) {
+            throw new IllegalArgumentException("Output holds " + out.length + " values, grid has " + (w * h));
+        }
+    }
 }
@@ -0,0 +1,261 @@
+package com.example.globe.world;
+
+import java.util.Collection;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.BiomeTags;
+import net.minecraft.util.collection.IdList;
+import net.minecraft.util.collection.IndexedIterable;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
+
+/**
+ * Per-biome classification bits plus pre-resolved entries for every vanilla biome the picker
+ * names directly.
+ * <p>
+ * Built once per biome source (the server {@link Registry} or a {@link LatitudeBiomeSource}
+ * collection) alongside its tag pools in a {@link BiomeCompilation} and rebuilt when tags reload, so the per-cell pick path tests an int mask and
+ * reads an array slot instead of parsing identifiers and matching path substrings.
+ * <p>
+ * Flags are stored by biome raw id: the registry's own ids, and for a collection the ids of the registry its
+ * entries belong to (or ids assigned once at compile time when there is no such registry). An entry outside the
+ * id space has no flags; it is never classified on the query path.
+ */
+public final class BiomeCatalog {
+    /** Snow, ice or frozen variant (by identifier path). */
+    public static final int SNOWY = 1;
+    public static final int OCEAN = 1 << 1;
+    public static final int DEEP_OCEAN = 1 << 2;
+    public static final int RIVER = 1 << 3;
+    /** {@code #minecraft:is_beach}, or any biome whose path names a beach or shore. */
+    public static final int BEACH = 1 << 4;
+    /** Underground biomes that must never reach the surface (dripstone, lush caves, deep dark). */
+    public static final int SURFACE_CAVE = 1 << 5;
+    public static final int MANGROVE = 1 << 6;
+    public static final int SWAMP = 1 << 7;
+    public static final int MOUNTAIN = 1 << 8;
+    /** Hot biomes that are clamped out of subpolar and polar latitudes. */
+    public static final int WARM = 1 << 9;
+    /** Jungles that may be swapped for mangrove swamp in wet lowland. */
+    public static final int JUNGLE = 1 << 10;
+    /** Plain temperate lowland that is re-themed at the equator and in the subpolar band. */
+    public static final int MILD_LOWLAND = 1 << 11;
+    /** Wooded or grove biomes that are replaced in the polar band. */
+    public static final int POLAR_MISFIT = 1 << 12;
+    public static final int GROVE = 1 << 13;
+
+    public enum Handle {
+        PLAINS(BiomeKeys.PLAINS),
+        SUNFLOWER_PLAINS(BiomeKeys.SUNFLOWER_PLAINS),
+        SNOWY_PLAINS(BiomeKeys.SNOWY_PLAINS),
+        ICE_SPIKES(BiomeKeys.ICE_SPIKES),
+        DESERT(BiomeKeys.DESERT),
+        SWAMP(BiomeKeys.SWAMP),
+        MANGROVE_SWAMP(BiomeKeys.MANGROVE_SWAMP),
+        FOREST(BiomeKeys.FOREST),
+        BIRCH_FOREST(BiomeKeys.BIRCH_FOREST),
+        TAIGA(BiomeKeys.TAIGA),
+        SNOWY_TAIGA(BiomeKeys.SNOWY_TAIGA),
+        OLD_GROWTH_PINE_TAIGA(BiomeKeys.OLD_GROWTH_PINE_TAIGA),
+        PALE_GARDEN(BiomeKeys.PALE_GARDEN),
+        SAVANNA(BiomeKeys.SAVANNA),
+        JUNGLE(BiomeKeys.JUNGLE),
+        SPARSE_JUNGLE(BiomeKeys.SPARSE_JUNGLE),
+        BADLANDS(BiomeKeys.BADLANDS),
+        MEADOW(BiomeKeys.MEADOW),
+        GROVE(BiomeKeys.GROVE),
+        WINDSWEPT_HILLS(BiomeKeys.WINDSWEPT_HILLS),
+        STONY_PEAKS(BiomeKeys.STONY_PEAKS),
+        RIVER(BiomeKeys.RIVER),
+        FROZEN_RIVER(BiomeKeys.FROZEN_RIVER),
+        BEACH(BiomeKeys.BEACH),
+        SNOWY_BEACH(BiomeKeys.SNOWY_BEACH),
+        STONY_SHORE(BiomeKeys.STONY_SHORE),
+        WARM_OCEAN(BiomeKeys.WARM_OCEAN),
+        LUKEWARM_OCEAN(BiomeKeys.LUKEWARM_OCEAN),
+        DEEP_LUKEWARM_OCEAN(BiomeKeys.DEEP_LUKEWARM_OCEAN),
+        OCEAN(BiomeKeys.OCEAN),
+        DEEP_OCEAN(BiomeKeys.DEEP_OCEAN),
+        COLD_OCEAN(BiomeKeys.COLD_OCEAN),
+        DEEP_COLD_OCEAN(BiomeKeys.DEEP_COLD_OCEAN),
+        FROZEN_OCEAN(BiomeKeys.FROZEN_OCEAN),
+        DEEP_FROZEN_OCEAN(BiomeKeys.DEEP_FROZEN_OCEAN),
+        MUSHROOM_FIELDS(BiomeKeys.MUSHROOM_FIELDS);
+
+        private final RegistryKey<Biome> key;
+
+        Handle(RegistryKey<Biome> key) {
+            this.key = key;
+        }
+
+        public RegistryKey<Biome> key() {
+            return key;
+        }
+    }
+
+    private static final Handle[] HANDLES = Handle.values();
+
+    private final RegistryEntry<Biome>[] handles;
+    private final IndexedIterable<RegistryEntry<Biome>> ids;
+    private final int[] flagsByRawId;
+
+    @SuppressWarnings("unchecked")
+    private BiomeCatalog(IndexedIterable<RegistryEntry<Biome>> ids) {
+        this.handles = new RegistryEntry[HANDLES.length];
+        this.ids = ids;
+        this.flagsByRawId = new int[ids.size()];
+    }
+
+    public static BiomeCatalog of(Registry<Biome> registry) {
+        return BiomeCompilation.of(registry).catalog();
+    }
+
+    public static BiomeCatalog of(Collection<RegistryEntry<Biome>> biomes) {
+        return BiomeCompilation.of(biomes).catalog();
+    }
+
+    /** See {@link BiomeCompilation#generation()}. */
+    public static int generation() {
+        return BiomeCompilation.generation();
+    }
+
+    /**
+     * Resolved entry for a vanilla biome, or {@code null} when this source does not contain it
+     * (a {@link LatitudeBiomeSource} only offers the biomes its parent source can produce).
+     */
+    public RegistryEntry<Biome> get(Handle handle) {
+        return handles[handle.ordinal()];
+    }
+
+    /** First resolved entry among {@code options}, or {@code fallback} when none resolve. */
+    public RegistryEntry<Biome> firstOf(Handle[] options, RegistryEntry<Biome> fallback) {
+        for (Handle option : options) {
+            RegistryEntry<Biome> entry = handles[option.ordinal()];
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return fallback;
+    }
+
+    public int flags(RegistryEntry<Biome> entry) {
+        if (entry == null) {
+            return 0;
+        }
+        int rawId = ids.getRawId(entry);
+        return rawId >= 0 && rawId < flagsByRawId.length ? flagsByRawId[rawId] : 0;
+    }
+
+    public boolean is(RegistryEntry<Biome> entry, int mask) {
+        return (flags(entry) & mask) != 0;
+    }
+
+    static BiomeCatalog compileRegistry(Registry<Biome> registry) {
+        IndexedIterable<RegistryEntry<Biome>> ids = registry.getIndexedEntries();
+        BiomeCatalog catalog = new BiomeCatalog(ids);
+        for (RegistryEntry<Biome> entry : ids) {
+            catalog.flagsByRawId[ids.getRawId(entry)] = classify(entry);
+        }
+        for (Handle handle : HANDLES) {
+            catalog.handles[handle.ordinal()] = registry.getOptional(handle.key()).orElse(null);
+        }
+        return catalog;
+    }
+
+    /** As {@link #compileRegistry}, keyed by {@code registry}'s raw ids when every entry belongs to it. */
+    static BiomeCatalog compileCollection(Collection<RegistryEntry<Biome>> biomes, Registry<Biome> registry) {
+        BiomeCatalog catalog = new BiomeCatalog(idSpace(biomes, registry));
+        for (RegistryEntry<Biome> entry : biomes) {
+            int rawId = catalog.ids.getRawId(entry);
+            if (rawId >= 0) {
+                catalog.flagsByRawId[rawId] = classify(entry);
+            }
+            for (Handle handle : HANDLES) {
+                if (catalog.handles[handle.ordinal()] == null && entry.matchesKey(handle.key())) {
+                    catalog.handles[handle.ordinal()] = entry;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    private static IndexedIterable<RegistryEntry<Biome>> idSpace(Collection<RegistryEntry<Biome>> biomes, Registry<Biome> registry) {
+        if (registry != null && biomes.stream().allMatch(entry -> entry.ownerEquals(registry))) {
+            return registry.getIndexedEntries();
+        }
+        IdList<RegistryEntry<Biome>> ids = new IdList<>(biomes.size());
+        for (RegistryEntry<Biome> entry : biomes) {
+            if (ids.getRawId(entry) < 0) {
+                ids.add(entry);
+            }
+        }
+        return ids;
+    }
+
+    private static int classify(RegistryEntry<Biome> entry) {
+        String path = entry.getKey().map(key -> key.getValue().getPath()).orElse("");
+        int flags = 0;
+        if (path.contains("snow") || path.contains("ice") || path.contains("frozen")) {
+            flags |= SNOWY;
+        }
+        if (entry.isIn(BiomeTags.IS_OCEAN)) {
+            flags |= OCEAN;
+        }
+        if (path.contains("ocean") && path.contains("deep")) {
+            flags |= DEEP_OCEAN;
+        }
+        if (entry.isIn(BiomeTags.IS_RIVER)) {
+            flags |= RIVER;
+        }
+        if (entry.isIn(BiomeTags.IS_BEACH) || path.contains("beach") || path.contains("shore")) {
+            flags |= BEACH;
+        }
+        if (entry.isIn(BiomeTags.IS_MOUNTAIN)) {
+            flags |= MOUNTAIN;
+        }
+        if (entry.matchesKey(BiomeKeys.DRIPSTONE_CAVES)
+                || entry.matchesKey(BiomeKeys.LUSH_CAVES)
+                || entry.matchesKey(BiomeKeys.DEEP_DARK)) {
+            flags |= SURFACE_CAVE;
+        }
+        if (entry.matchesKey(BiomeKeys.MANGROVE_SWAMP)) {
+            flags |= MANGROVE;
+        }
+        if (entry.matchesKey(BiomeKeys.SWAMP)) {
+            flags |= SWAMP;
+        }
+        if (entry.matchesKey(BiomeKeys.JUNGLE) || entry.matchesKey(BiomeKeys.SPARSE_JUNGLE)) {
+            flags |= JUNGLE;
+        }
+        if (entry.matchesKey(BiomeKeys.JUNGLE)
+                || entry.matchesKey(BiomeKeys.SPARSE_JUNGLE)
+                || entry.matchesKey(BiomeKeys.BAMBOO_JUNGLE)
+                || entry.matchesKey(BiomeKeys.SAVANNA)
+                || entry.matchesKey(BiomeKeys.SAVANNA_PLATEAU)
+                || entry.matchesKey(BiomeKeys.DESERT)
+                || entry.matchesKey(BiomeKeys.BADLANDS)
+                || entry.matchesKey(BiomeKeys.WOODED_BADLANDS)
+                || entry.matchesKey(BiomeKeys.ERODED_BADLANDS)
+                || entry.matchesKey(BiomeKeys.MANGROVE_SWAMP)) {
+            flags |= WARM;
+        }
+        if (entry.matchesKey(BiomeKeys.PLAINS)
+                || entry.matchesKey(BiomeKeys.FOREST)
+                || entry.matchesKey(BiomeKeys.BIRCH_FOREST)
+                || entry.matchesKey(BiomeKeys.OLD_GROWTH_BIRCH_FOREST)
+                || entry.matchesKey(BiomeKeys.FLOWER_FOREST)) {
+            flags |= MILD_LOWLAND;
+        }
+        if (entry.matchesKey(BiomeKeys.GROVE)) {
+            flags |= GROVE;
+        }
+        if (path.contains("forest") || path.contains("taiga")
+                || entry.matchesKey(BiomeKeys.GROVE)
+                || entry.matchesKey(BiomeKeys.CHERRY_GROVE)) {
+            flags |= POLAR_MISFIT;
+        }
+        return flags;
+    }
+}
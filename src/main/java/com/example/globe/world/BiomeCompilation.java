@@ -0,0 +1,84 @@
+package com.example.globe.world;
+
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * The {@link BiomeCatalog} and {@link CompiledTagPools} of one biome source, compiled together and cached as a pair
+ * so a pick never mixes flags from one tag load with pools from another.
+ * <p>
+ * {@link #reload} compiles the new pair first and then publishes it with a single generation bump; until then every
+ * reader keeps getting the old pair under the old generation. A pick that reads {@link #generation()} before asking
+ * for its pair therefore either sees both old or is told (by the bumped generation) not to store its result.
+ */
+public final class BiomeCompilation {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeBiomes");
+
+    private static final PerSourceCache<BiomeCompilation> CACHE = new PerSourceCache<>();
+
+    /** The biome registry of the last tag load; collection catalogs borrow its raw ids. */
+    private static volatile Registry<Biome> registry;
+
+    private final BiomeCatalog catalog;
+    private final CompiledTagPools pools;
+
+    private BiomeCompilation(BiomeCatalog catalog, CompiledTagPools pools) {
+        this.catalog = catalog;
+        this.pools = pools;
+    }
+
+    public static BiomeCompilation of(Registry<Biome> registry) {
+        return CACHE.get(registry, BiomeCompilation::compileRegistry);
+    }
+
+    public static BiomeCompilation of(Collection<RegistryEntry<Biome>> biomes) {
+        return CACHE.get(biomes, BiomeCompilation::compileCollection);
+    }
+
+    /**
+     * Compiles {@code registry} against the tags just loaded and swaps it in, dropping every other source's pair, so
+     * the first worldgen pick after a reload does not pay for the compile.
+     */
+    public static void reload(Registry<Biome> registry) {
+        BiomeCompilation.registry = registry;
+        if (registry == null) {
+            CACHE.invalidate();
+            return;
+        }
+        CACHE.replace(registry, compileRegistry(registry));
+        LOGGER.info("[Latitude] Compiled biome catalog and {} tag pools (generation {})",
+                CompiledTagPools.Pool.values().length, CACHE.generation());
+    }
+
+    public static void clear() {
+        registry = null;
+        CACHE.invalidate();
+    }
+
+    /** Bumped by every {@link #reload}/{@link #clear}; anything derived from catalogs or tag pools keys on it. */
+    public static int generation() {
+        return CACHE.generation();
+    }
+
+    public BiomeCatalog catalog() {
+        return catalog;
+    }
+
+    public CompiledTagPools pools() {
+        return pools;
+    }
+
+    private static BiomeCompilation compileRegistry(Registry<Biome> registry) {
+        return new BiomeCompilation(BiomeCatalog.compileRegistry(registry), CompiledTagPools.compileRegistry(registry));
+    }
+
+    private static BiomeCompilation compileCollection(Collection<RegistryEntry<Biome>> biomes) {
+        return new BiomeCompilation(BiomeCatalog.compileCollection(biomes, registry), CompiledTagPools.compileCollection(biomes));
+    }
+}
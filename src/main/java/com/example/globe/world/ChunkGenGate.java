@@ -0,0 +1,77 @@
+package com.example.globe.world;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Which latitude-gated generation stages may run in one chunk, decided once per chunk and kept on the
+ * {@code ProtoChunk} (see {@link ChunkGenGateHolder}), so the carver and feature guards each test one bit instead of
+ * re-deriving latitude and profile on every call.
+ * <p>
+ * Computed when the chunk starts NOISE. A proto chunk reloaded from disk mid-generation has no gate; the first guard
+ * to ask computes it from the generator's context. Chunks of worlds without a globe generator never get one and
+ * every stage is allowed.
+ */
+public final class ChunkGenGate {
+    /** Carvers run; off from the profile's polar cap start outwards. */
+    public static final int CARVERS = 1;
+    /** {@code freeze_top_layer} runs; off where the chunk's first row is in a warm band. */
+    public static final int FREEZE_TOP_LAYER = 1 << 1;
+    /** Dripstone features may place near the surface; off unless {@code latitude.fixSurfaceDripstone=false}. */
+    public static final int SURFACE_DRIPSTONE = 1 << 2;
+    /** {@link PolarCapSurface} shapes the chunk; on for chunks reaching into the polar band when it is enabled. */
+    public static final int POLAR_SURFACE = 1 << 3;
+
+    public static final int ALL = CARVERS | FREEZE_TOP_LAYER | SURFACE_DRIPSTONE | POLAR_SURFACE;
+
+    // Set on every computed gate, so a chunk that allows nothing still reads as computed.
+    private static final int COMPUTED = 1 << 31;
+
+    private static final boolean FIX_SURFACE_DRIPSTONE =
+            Boolean.parseBoolean(System.getProperty("latitude.fixSurfaceDripstone", "true"));
+
+    private ChunkGenGate() {
+    }
+
+    public static int compute(LatitudeContext latitude, ChunkPos pos) {
+        int gate = COMPUTED;
+        if (Math.abs(pos.getStartZ() + 8) < latitude.profile().polarCapStartAbsZ()) {
+            gate |= CARVERS;
+        }
+        if (!WarmSnowCleanup.isWarm(latitude.zone(pos.getStartZ()))) {
+            gate |= FREEZE_TOP_LAYER;
+        }
+        if (!FIX_SURFACE_DRIPSTONE) {
+            gate |= SURFACE_DRIPSTONE;
+        }
+        if (PolarCapSurface.ENABLED && PolarCapSurface.touches(latitude, pos)) {
+            gate |= POLAR_SURFACE;
+        }
+        return gate;
+    }
+
+    /** Computes and attaches the gate of a chunk about to generate. */
+    public static void attach(LatitudeContext latitude, Chunk chunk) {
+        if (chunk instanceof ChunkGenGateHolder holder) {
+            holder.globe$setGenGate(compute(latitude, chunk.getPos()));
+        }
+    }
+
+    /**
+     * Whether {@code stage} may run in {@code chunk}. Computes and stores a missing gate when {@code latitude} is
+     * known; with neither a gate nor a context the chunk is not a globe chunk and everything runs.
+     */
+    public static boolean allows(Chunk chunk, LatitudeContext latitude, int stage) {
+        int gate = 0;
+        if (chunk instanceof ChunkGenGateHolder holder) {
+            gate = holder.globe$getGenGate();
+            if (gate == 0 && latitude != null) {
+                gate = compute(latitude, chunk.getPos());
+                holder.globe$setGenGate(gate);
+            }
+        } else if (latitude != null) {
+            gate = compute(latitude, chunk.getPos());
+        }
+        return gate == 0 || (gate & stage) != 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.globe.world;
+
+/**
+ * Implemented by {@code ProtoChunk} through a mixin: the chunk's {@link ChunkGenGate} bits, or 0 before they have been
+ * computed (a chunk that has not reached NOISE yet, or one reloaded from disk mid-generation).
+ */
+public interface ChunkGenGateHolder {
+    int globe$getGenGate();
+
+    void globe$setGenGate(int gate);
+}
@@ -0,0 +1,236 @@
+package com.example.globe.world;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.collection.IndexedIterable;
+import net.minecraft.world.biome.Biome;
+
+/**
+ * Latitude pick per quart column, shared by terrain population and {@link LatitudeBiomeSource} (structure placement,
+ * jigsaw biome checks, {@code /locate}) so a column is decided once however often it is probed.
+ * <p>
+ * A column whose y=0 base is a cave biome has two picks: the low one from that base, used at or below the hard deck
+ * and by the biome source, and the deck one from plains, used above it. They are stored as separate entries told
+ * apart by the deck bit, so neither overwrites the other.
+ * <p>
+ * One world's columns live in a single {@link AtomicLongArray}. Each slot packs the whole entry into one long, so
+ * readers and writers never take a lock and never see half an entry:
+ * <pre>
+ *   63..48 quartX   47..32 quartZ   31 referenced   30 deck   29..16 base raw id   15..0 pick raw id + 1
+ * </pre>
+ * The key is quartX, quartZ and the deck bit.
+ * A zero slot is empty. The array is split into stripes of {@value #PROBE}-slot windows; a column probes only its
+ * own window, and when that is full a CLOCK sweep starting at the stripe's hand evicts the first entry not
+ * referenced since the last sweep. Columns beyond +/-32767 quarts (globes over 131 km across) are not cached.
+ * <p>
+ * Values are biome registry raw ids, so both call sites resolve to the same entries. A biome tag reload
+ * ({@link BiomeCatalog#generation()}) empties the table.
+ * <p>
+ * With a {@link LatitudeAtlas} attached, picks are also written through to the world save and a table miss reads
+ * the atlas before the caller falls back to a full pick.
+ */
+public final class ColumnDecisionCache {
+    /** Slots per world, rounded up to a power of two; 0 disables the cache. */
+    public static final String SIZE_PROPERTY = "latitude.columnCacheSlots";
+
+    private static final int DEFAULT_SLOTS = 1 << 18;
+    private static final int PROBE = 8;
+    private static final int STRIPES = 64;
+    private static final int QUART_LIMIT = 1 << 15;
+    private static final int MAX_RAW_ID = (1 << 14) - 1;
+    private static final long REFERENCED = 1L << 31;
+    private static final long DECK = 1L << 30;
+    private static final long KEY_MASK = 0xFFFF_FFFF_0000_0000L | DECK;
+
+    private final Registry<Biome> registry;
+    private final IndexedIterable<RegistryEntry<Biome>> entries;
+    private final AtomicLongArray slots;
+    private final int windowMask;
+    private final int stripeShift;
+    private final AtomicIntegerArray hands;
+    private final LatitudeAtlas atlas;
+    private volatile int generation;
+
+    private ColumnDecisionCache(Registry<Biome> registry, int slotCount, LatitudeAtlas atlas) {
+        this.registry = registry;
+        this.atlas = atlas;
+        this.entries = registry.getIndexedEntries();
+        this.slots = new AtomicLongArray(slotCount);
+        int windows = slotCount / PROBE;
+        this.windowMask = windows - 1;
+        this.stripeShift = Integer.numberOfTrailingZeros(Math.max(1, windows / STRIPES));
+        this.hands = new AtomicIntegerArray(STRIPES);
+        this.generation = BiomeCatalog.generation();
+    }
+
+    /**
+     * A cache over {@code registry}'s biomes backed by {@code atlas} (may be {@code null}), or {@code null} when
+     * disabled or the registry is too large to pack.
+     */
+    public static ColumnDecisionCache create(Registry<Biome> registry, LatitudeAtlas atlas) {
+        int requested = Integer.getInteger(SIZE_PROPERTY, DEFAULT_SLOTS);
+        if (registry == null || requested <= 0 || registry.size() > MAX_RAW_ID) {
+            return null;
+        }
+        int slotCount = Math.max(PROBE * STRIPES, Integer.highestOneBit(Math.min(requested, 1 << 26) - 1) << 1);
+        return new ColumnDecisionCache(registry, slotCount, atlas);
+    }
+
+    public Registry<Biome> registry() {
+        return registry;
+    }
+
+    /**
+     * Current tag generation; read it before computing a pick and hand it to {@link #put} so a pick made against
+     * tags that reloaded in the meantime is not stored.
+     */
+    public int generation() {
+        int current = BiomeCatalog.generation();
+        if (current != generation) {
+            reset(current);
+        }
+        return current;
+    }
+
+    /**
+     * The cached low ({@code deck} false) or deck pick for this column if it was decided from the same {@code base},
+     * else {@code null}.
+     */
+    public RegistryEntry<Biome> get(int quartX, int quartZ, boolean deck, RegistryEntry<Biome> base) {
+        if (!cacheable(quartX, quartZ)) {
+            return null;
+        }
+        int current = generation();
+        long key = key(quartX, quartZ, deck);
+        RegistryEntry<Biome> hit = probe(key, base);
+        if (hit != null || atlas == null) {
+            return hit;
+        }
+
+        int cell = atlas.read(quartX, quartZ, deck);
+        int baseId = LatitudeAtlas.baseRawId(cell);
+        if (cell == 0 || entries.get(baseId) != base) {
+            return null;
+        }
+        int pickId = LatitudeAtlas.pickRawId(cell);
+        RegistryEntry<Biome> pick = entries.get(pickId);
+        if (pick != null) {
+            insert(key, key | ((long) baseId << 16) | (long) (pickId + 1), current);
+        }
+        return pick;
+    }
+
+    private RegistryEntry<Biome> probe(long key, RegistryEntry<Biome> base) {
+        int start = window(key);
+        for (int i = 0; i < PROBE; i++) {
+            int index = start + i;
+            long slot = slots.get(index);
+            if (slot == 0L) {
+                return null;
+            }
+            if ((slot & KEY_MASK) != key) {
+                continue;
+            }
+            RegistryEntry<Biome> cachedBase = entries.get((int) (slot >>> 16) & MAX_RAW_ID);
+            if (cachedBase != base) {
+                return null;
+            }
+            if ((slot & REFERENCED) == 0L) {
+                slots.compareAndSet(index, slot, slot | REFERENCED);
+            }
+            return entries.get((int) (slot & 0xFFFF) - 1);
+        }
+        return null;
+    }
+
+    public void put(int quartX, int quartZ, boolean deck, RegistryEntry<Biome> base, RegistryEntry<Biome> pick, int pickGeneration) {
+        if (pick == null || !cacheable(quartX, quartZ) || pickGeneration != generation()) {
+            return;
+        }
+        int baseId = entries.getRawId(base);
+        int pickId = entries.getRawId(pick);
+        if (baseId < 0 || baseId > MAX_RAW_ID || pickId < 0 || pickId >= MAX_RAW_ID) {
+            return;
+        }
+        if (atlas != null) {
+            atlas.write(quartX, quartZ, deck, baseId, pickId);
+        }
+        long key = key(quartX, quartZ, deck);
+        insert(key, key | ((long) baseId << 16) | (long) (pickId + 1), pickGeneration);
+    }
+
+    /**
+     * Stores {@code packed}, decided under {@code pickGeneration}. A {@link #reset} can run between the caller's
+     * generation check and the store and clear the table underneath it; the tag generation is bumped before any reset
+     * starts, so reading it again after the store catches that case and takes the stale entry back out.
+     */
+    private void insert(long key, long packed, int pickGeneration) {
+        int index = store(key, packed);
+        if (index >= 0 && BiomeCatalog.generation() != pickGeneration) {
+            slots.compareAndSet(index, packed, 0L);
+        }
+    }
+
+    /** Slot {@code packed} was written to, or -1 if it lost every race. */
+    private int store(long key, long packed) {
+        int start = window(key);
+
+        for (int i = 0; i < PROBE; i++) {
+            int index = start + i;
+            long slot = slots.get(index);
+            if (slot == 0L || (slot & KEY_MASK) == key) {
+                // Losing a race here only means another thread stored its own pick for this window slot.
+                return slots.compareAndSet(index, slot, packed) ? index : -1;
+            }
+        }
+
+        // Window full: CLOCK from the stripe's hand, clearing reference bits until one is found unset.
+        int stripe = ((start / PROBE) >>> stripeShift) & (STRIPES - 1);
+        int hand = hands.getAndIncrement(stripe);
+        for (int step = 0; step < PROBE * 2; step++) {
+            int index = start + ((hand + step) & (PROBE - 1));
+            long slot = slots.get(index);
+            if ((slot & REFERENCED) == 0L) {
+                return slots.compareAndSet(index, slot, packed) ? index : -1;
+            }
+            slots.compareAndSet(index, slot, slot & ~REFERENCED);
+        }
+        return -1;
+    }
+
+    private synchronized void reset(int current) {
+        if (generation == current) {
+            return;
+        }
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0L);
+        }
+        if (atlas != null) {
+            atlas.rebind(registry);
+        }
+        generation = current;
+    }
+
+    /** Flushes and releases the atlas, if any; the in-memory table stays usable. */
+    public void close() {
+        if (atlas != null) {
+            atlas.close();
+        }
+    }
+
+    private static boolean cacheable(int quartX, int quartZ) {
+        return quartX >= -QUART_LIMIT && quartX < QUART_LIMIT && quartZ >= -QUART_LIMIT && quartZ < QUART_LIMIT;
+    }
+
+    private static long key(int quartX, int quartZ, boolean deck) {
+        return ((long) (quartX & 0xFFFF) << 48) | ((long) (quartZ & 0xFFFF) << 32) | (deck ? DECK : 0L);
+    }
+
+    private int window(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return ((int) (h >>> 40) & windowMask) * PROBE;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.globe.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
+
+/**
+ * Identifier-sorted biome arrays for every globe:lat_* pool the picker consults.
+ * <p>
+ * Pools are compiled once per biome source (the server {@link Registry} or a
+ * {@link LatitudeBiomeSource} collection), together with its catalog in a {@link BiomeCompilation},
+ * and replaced whenever tags reload, so the
+ * per-cell pick path only indexes into a prebuilt array.
+ */
+public final class CompiledTagPools {
+    public enum Pool {
+        EQUATOR_PRIMARY("lat_equator_primary"),
+        EQUATOR_SECONDARY("lat_equator_secondary"),
+        EQUATOR_ACCENT("lat_equator_accent"),
+        TROPICS_PRIMARY("lat_tropics_primary"),
+        TROPICS_SECONDARY("lat_tropics_secondary"),
+        TROPICS_ACCENT("lat_tropics_accent"),
+        ARID_PRIMARY("lat_arid_primary"),
+        ARID_SECONDARY("lat_arid_secondary"),
+        ARID_ACCENT("lat_arid_accent"),
+        TRANS_ARID_TROPICS_1_PRIMARY("lat_trans_arid_tropics_1_primary"),
+        TRANS_ARID_TROPICS_1_SECONDARY("lat_trans_arid_tropics_1_secondary"),
+        TRANS_ARID_TROPICS_1_ACCENT("lat_trans_arid_tropics_1_accent"),
+        TRANS_ARID_TROPICS_2_PRIMARY("lat_trans_arid_tropics_2_primary"),
+        TRANS_ARID_TROPICS_2_SECONDARY("lat_trans_arid_tropics_2_secondary"),
+        TRANS_ARID_TROPICS_2_ACCENT("lat_trans_arid_tropics_2_accent"),
+        TEMPERATE_PRIMARY("lat_temperate_primary"),
+        TEMPERATE_SECONDARY("lat_temperate_secondary"),
+        TEMPERATE_ACCENT("lat_temperate_accent"),
+        TEMPERATE_MOUNTAIN("lat_temperate_mountain"),
+        SUBPOLAR_PRIMARY("lat_subpolar_primary"),
+        SUBPOLAR_SECONDARY("lat_subpolar_secondary"),
+        SUBPOLAR_ACCENT("lat_subpolar_accent"),
+        POLAR_PRIMARY("lat_polar_primary"),
+        POLAR_SECONDARY("lat_polar_secondary"),
+        POLAR_ACCENT("lat_polar_accent"),
+        OCEAN_TROPICAL("lat_ocean_tropical"),
+        OCEAN_TEMPERATE("lat_ocean_temperate"),
+        OCEAN_SUBPOLAR("lat_ocean_subpolar"),
+        OCEAN_POLAR("lat_ocean_polar");
+
+        private final TagKey<Biome> tag;
+
+        Pool(String path) {
+            this.tag = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", path));
+        }
+
+        public TagKey<Biome> tag() {
+            return tag;
+        }
+    }
+
+    private static final Pool[] POOLS = Pool.values();
+    private static final Comparator<RegistryEntry<Biome>> BY_ID = Comparator.comparing(entry -> entry.getKey()
+            .map(key -> key.getValue().toString())
+            .orElse(""));
+
+    private final RegistryEntry<Biome>[][] all;
+    private final RegistryEntry<Biome>[][] noMangrove;
+    private final RegistryEntry<Biome>[][] noSwamp;
+
+    @SuppressWarnings("unchecked")
+    private CompiledTagPools() {
+        this.all = new RegistryEntry[POOLS.length][];
+        this.noMangrove = new RegistryEntry[POOLS.length][];
+        this.noSwamp = new RegistryEntry[POOLS.length][];
+    }
+
+    public static CompiledTagPools of(Registry<Biome> registry) {
+        return BiomeCompilation.of(registry).pools();
+    }
+
+    public static CompiledTagPools of(Collection<RegistryEntry<Biome>> biomes) {
+        return BiomeCompilation.of(biomes).pools();
+    }
+
+    static CompiledTagPools compileRegistry(Registry<Biome> registry) {
+        CompiledTagPools pools = new CompiledTagPools();
+        for (Pool pool : POOLS) {
+            List<RegistryEntry<Biome>> entries = new ArrayList<>();
+            for (RegistryEntry<Biome> entry : registry.iterateEntries(pool.tag())) {
+                entries.add(entry);
+            }
+            pools.fill(pool, entries);
+        }
+        return pools;
+    }
+
+    static CompiledTagPools compileCollection(Collection<RegistryEntry<Biome>> biomes) {
+        CompiledTagPools pools = new CompiledTagPools();
+        for (Pool pool : POOLS) {
+            List<RegistryEntry<Biome>> entries = new ArrayList<>();
+            for (RegistryEntry<Biome> entry : biomes) {
+                if (entry.isIn(pool.tag())) {
+                    entries.add(entry);
+                }
+            }
+            pools.fill(pool, entries);
+        }
+        return pools;
+    }
+
+    public RegistryEntry<Biome>[] entries(Pool pool) {
+        return all[pool.ordinal()];
+    }
+
+    public RegistryEntry<Biome>[] entriesNoMangrove(Pool pool) {
+        return noMangrove[pool.ordinal()];
+    }
+
+    public RegistryEntry<Biome>[] entriesNoSwamp(Pool pool) {
+        return noSwamp[pool.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fill(Pool pool, List<RegistryEntry<Biome>> entries) {
+        entries.sort(BY_ID);
+        List<RegistryEntry<Biome>> withoutMangrove = new ArrayList<>(entries.size());
+        List<RegistryEntry<Biome>> withoutSwamp = new ArrayList<>(entries.size());
+        for (RegistryEntry<Biome> entry : entries) {
+            if (!entry.matchesKey(BiomeKeys.MANGROVE_SWAMP)) {
+                withoutMangrove.add(entry);
+            }
+            if (!entry.matchesKey(BiomeKeys.SWAMP)) {
+                withoutSwamp.add(entry);
+            }
+        }
+        int i = pool.ordinal();
+        all[i] = entries.toArray(new RegistryEntry[0]);
+        noMangrove[i] = withoutMangrove.toArray(new RegistryEntry[0]);
+        noSwamp[i] = withoutSwamp.toArray(new RegistryEntry[0]);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.globe.world;
+
+import java.util.Optional;
+
+import com.example.globe.util.LatitudeMath;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
+
+/**
+ * One globe world size, loaded from the {@code globe:profile} dynamic registry
+ * ({@code data/<namespace>/globe/profile/<name>.json}).
+ * <p>
+ * A profile names the noise settings it applies to; any {@code NoiseChunkGenerator} built from those settings is a
+ * globe generator with this radius, these latitude bands and these hazard thresholds. New world sizes are a
+ * noise_settings file plus a profile, no code. A size that only differs in radius can name a {@code template} instead of
+ * shipping its own noise_settings file; {@link GlobeProfiles} then registers {@code noiseSettings} as a copy of the
+ * template that shares its decoded noise router and surface rule.
+ *
+ * @param noiseSettings the noise settings this profile applies to
+ * @param template      noise settings to derive {@code noiseSettings} from when no such file exists
+ * @param radius        world border radius in blocks; |z| == radius is the pole
+ * @param bands         upper edge of each latitude band as a fraction of the radius
+ * @param hazard        border-progress thresholds of the polar/storm hazard stages
+ * @param polarCapStart |z| in blocks from which carvers are skipped; absent leaves carvers alone
+ */
+public record GlobeProfile(RegistryKey<ChunkGeneratorSettings> noiseSettings,
+                           Optional<RegistryKey<ChunkGeneratorSettings>> template,
+                           int radius,
+                           Bands bands,
+                           HazardThresholds hazard,
+                           Optional<Integer> polarCapStart) {
+
+    public static final Codec<GlobeProfile> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            RegistryKey.createCodec(RegistryKeys.CHUNK_GENERATOR_SETTINGS).fieldOf("noise_settings").forGetter(GlobeProfile::noiseSettings),
+            RegistryKey.createCodec(RegistryKeys.CHUNK_GENERATOR_SETTINGS).optionalFieldOf("template").forGetter(GlobeProfile::template),
+            Codec.intRange(1, 30_000_000).fieldOf("radius").forGetter(GlobeProfile::radius),
+            Bands.CODEC.optionalFieldOf("bands", Bands.DEFAULT).forGetter(GlobeProfile::bands),
+            HazardThresholds.CODEC.optionalFieldOf("hazard_thresholds", HazardThresholds.DEFAULT).forGetter(GlobeProfile::hazard),
+            Codec.intRange(0, 30_000_000).optionalFieldOf("polar_cap_start").forGetter(GlobeProfile::polarCapStart)
+    ).apply(instance, GlobeProfile::new));
+
+    /** A profile with the built-in bands and thresholds, for generators that have none bound yet. */
+    public static GlobeProfile withDefaults(RegistryKey<ChunkGeneratorSettings> noiseSettings, int radius) {
+        return new GlobeProfile(noiseSettings, Optional.empty(), radius, Bands.DEFAULT, HazardThresholds.DEFAULT, Optional.empty());
+    }
+
+    /** |z| from which carvers are skipped, or {@link Integer#MAX_VALUE} when the profile has no polar cap. */
+    public int polarCapStartAbsZ() {
+        return polarCapStart.orElse(Integer.MAX_VALUE);
+    }
+
+    /** Upper edge of each latitude band as a fraction of the radius; polar is everything past {@code subpolar}. */
+    public record Bands(double equator, double tropical, double subtropical, double temperate, double subpolar) {
+        public static final Bands DEFAULT = new Bands(
+                LatitudeMath.EQUATOR_MAX_FRAC,
+                LatitudeMath.TROPICAL_MAX_FRAC,
+                LatitudeMath.SUBTROPICAL_MAX_FRAC,
+                LatitudeMath.TEMPERATE_MAX_FRAC,
+                LatitudeMath.SUBPOLAR_MAX_FRAC);
+
+        public static final Codec<Bands> CODEC = RecordCodecBuilder.<Bands>create(instance -> instance.group(
+                Codec.doubleRange(0.0, 1.0).fieldOf("equator").forGetter(Bands::equator),
+                Codec.doubleRange(0.0, 1.0).fieldOf("tropical").forGetter(Bands::tropical),
+                Codec.doubleRange(0.0, 1.0).fieldOf("subtropical").forGetter(Bands::subtropical),
+                Codec.doubleRange(0.0, 1.0).fieldOf("temperate").forGetter(Bands::temperate),
+                Codec.doubleRange(0.0, 1.0).fieldOf("subpolar").forGetter(Bands::subpolar)
+        ).apply(instance, Bands::new)).validate(Bands::validate);
+
+        private static DataResult<Bands> validate(Bands bands) {
+            if (bands.equator < bands.tropical
+                    && bands.tropical < bands.subtropical
+                    && bands.subtropical < bands.temperate
+                    && bands.temperate < bands.subpolar) {
+                return DataResult.success(bands);
+            }
+            return DataResult.error(() -> "Latitude bands must increase from equator to subpolar: " + bands);
+        }
+    }
+
+    /** Border progress (|coord| / radius) at which each hazard stage starts. */
+    public record HazardThresholds(double stage1, double stage2, double stage3, double lethal) {
+        public static final HazardThresholds DEFAULT = new HazardThresholds(
+                LatitudeMath.POLAR_STAGE_1_PROGRESS,
+                LatitudeMath.POLAR_STAGE_2_PROGRESS,
+                LatitudeMath.POLAR_STAGE_3_PROGRESS,
+                LatitudeMath.POLAR_STAGE_LETHAL_PROGRESS);
+
+        public static final Codec<HazardThresholds> CODEC = RecordCodecBuilder.<HazardThresholds>create(instance -> instance.group(
+                Codec.doubleRange(0.0, 1.0).fieldOf("stage_1").forGetter(HazardThresholds::stage1),
+                Codec.doubleRange(0.0, 1.0).fieldOf("stage_2").forGetter(HazardThresholds::stage2),
+                Codec.doubleRange(0.0, 1.0).fieldOf("stage_3").forGetter(HazardThresholds::stage3),
+                Codec.doubleRange(0.0, 1.0).fieldOf("lethal").forGetter(HazardThresholds::lethal)
+        ).apply(instance, HazardThresholds::new)).validate(HazardThresholds::validate);
+
+        private static DataResult<HazardThresholds> validate(HazardThresholds hazard) {
+            if (hazard.stage1 <= hazard.stage2 && hazard.stage2 <= hazard.stage3 && hazard.stage3 <= hazard.lethal) {
+                return DataResult.success(hazard);
+            }
+            return DataResult.error(() -> "Hazard thresholds must not decrease: " + hazard);
+        }
+
+        /** Same stages as {@link LatitudeMath#hazardStageIndexEW(double)}, 0 (none) to 4 (lethal). */
+        public int stageIndex(double progress) {
+            if (progress >= lethal) return 4;
+            if (progress >= stage3) return 3;
+            if (progress >= stage2) return 2;
+            if (progress >= stage1) return 1;
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.globe.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
+import net.fabricmc.fabric.api.event.registry.DynamicRegistrySetupCallback;
+import net.minecraft.registry.MutableRegistry;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.entry.RegistryEntryInfo;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.dimension.DimensionOptions;
+import net.minecraft.world.gen.WorldPreset;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+import net.minecraft.world.gen.chunk.ChunkGeneratorSettings;
+import net.minecraft.world.gen.chunk.NoiseChunkGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@code globe:profile} dynamic registry and the noise-settings index generators resolve their profile from.
+ * <p>
+ * Generators are decoded right after the worldgen registries load and may be asked for their biome source before
+ * any world (and so any registry manager) is reachable from them. The index is therefore filled while the profile
+ * registry itself loads, and each generator looks itself up in it once (see {@link LatitudeContextHolder#globe$getProfile()}).
+ * <p>
+ * The same pass registers templated size variants: a profile whose noise settings have no file of their own gets a
+ * copy of its template's {@link ChunkGeneratorSettings}, sharing the decoded noise router and surface rule, so the
+ * 111 KB overworld settings are parsed and decoded once instead of once per size.
+ */
+public final class GlobeProfiles {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeBiomes");
+
+    public static final RegistryKey<Registry<GlobeProfile>> REGISTRY_KEY =
+            RegistryKey.ofRegistry(Identifier.of("globe", "profile"));
+
+    private static volatile Map<RegistryKey<ChunkGeneratorSettings>, GlobeProfile> bySettings = new ConcurrentHashMap<>();
+
+    private GlobeProfiles() {
+    }
+
+    public static void init() {
+        DynamicRegistries.register(REGISTRY_KEY, GlobeProfile.CODEC);
+
+        // Fires for every registry layer that loads; only the worldgen layer carries the profile registry.
+        // Fabric loads modded dynamic registries after the vanilla worldgen ones, so every noise_settings file is
+        // already registered (and the registry not yet frozen) when profiles arrive.
+        DynamicRegistrySetupCallback.EVENT.register(registryView -> registryView.getOptional(REGISTRY_KEY).ifPresent(registry -> {
+            Map<RegistryKey<ChunkGeneratorSettings>, GlobeProfile> index = new ConcurrentHashMap<>();
+            bySettings = index;
+            Registry<ChunkGeneratorSettings> settingsRegistry = registryView.getOptional(RegistryKeys.CHUNK_GENERATOR_SETTINGS).orElse(null);
+            registryView.registerEntryAdded(REGISTRY_KEY, (rawId, id, profile) -> {
+                if (settingsRegistry != null) {
+                    registerTemplatedSettings(settingsRegistry, id, profile);
+                }
+                index.put(profile.noiseSettings(), profile);
+            });
+        }));
+    }
+
+    private static void registerTemplatedSettings(Registry<ChunkGeneratorSettings> settingsRegistry, Identifier profileId, GlobeProfile profile) {
+        RegistryKey<ChunkGeneratorSettings> target = profile.noiseSettings();
+        if (profile.template().isEmpty() || settingsRegistry.contains(target)) {
+            return;
+        }
+        RegistryKey<ChunkGeneratorSettings> templateKey = profile.template().get();
+        ChunkGeneratorSettings template = settingsRegistry.get(templateKey);
+        if (template == null) {
+            LOGGER.warn("[Latitude] Profile {} names template {} but no such noise settings are loaded", profileId, templateKey.getValue());
+            return;
+        }
+
+        // A new record around the same components: registries key values by identity, so the copy is a distinct
+        // entry while the router, surface rule and spawn targets stay shared.
+        ChunkGeneratorSettings variant = new ChunkGeneratorSettings(
+                template.generationShapeConfig(),
+                template.defaultBlock(),
+                template.defaultFluid(),
+                template.noiseRouter(),
+                template.surfaceRule(),
+                template.spawnTarget(),
+                template.seaLevel(),
+                template.mobGenerationDisabled(),
+                template.aquifers(),
+                template.oreVeins(),
+                template.usesLegacyRandom());
+        RegistryEntryInfo info = settingsRegistry.getEntryInfo(templateKey).orElse(RegistryEntryInfo.DEFAULT);
+        ((MutableRegistry<ChunkGeneratorSettings>) settingsRegistry).add(target, variant, info);
+    }
+
+    /**
+     * Checks the templated variants against what actually uses them: every world preset's overworld generator and
+     * the running overworld's must hold the copy registered under the variant's key (bound, and the same value the
+     * noise settings registry returns), and logs how many variants share their template's noise router. Freezing
+     * already rejects a preset reference that was never bound; this also catches one bound to some other value.
+     */
+    public static void verifyTemplatedSettings(MinecraftServer server) {
+        Registry<ChunkGeneratorSettings> settingsRegistry = server.getRegistryManager().getOrThrow(RegistryKeys.CHUNK_GENERATOR_SETTINGS);
+        List<String> problems = new ArrayList<>();
+        int checked = 0;
+        int shared = 0;
+        for (Map.Entry<RegistryKey<WorldPreset>, WorldPreset> preset : server.getRegistryManager().getOrThrow(RegistryKeys.WORLD_PRESET).getEntrySet()) {
+            ChunkGenerator generator = preset.getValue().getOverworld().map(DimensionOptions::chunkGenerator).orElse(null);
+            int result = verifyTemplated(settingsRegistry, preset.getKey().getValue().toString(), generator, problems);
+            checked += result >= 0 ? 1 : 0;
+            shared += result > 0 ? 1 : 0;
+        }
+        ServerWorld overworld = server.getOverworld();
+        if (overworld != null) {
+            verifyTemplated(settingsRegistry, "the running overworld", overworld.getChunkManager().getChunkGenerator(), problems);
+        }
+
+        if (problems.isEmpty()) {
+            LOGGER.info("[Latitude] Templated noise settings: {} preset(s) checked, {} sharing their template's noise router", checked, shared);
+        } else {
+            problems.forEach(problem -> LOGGER.error("[Latitude] Templated noise settings: {}", problem));
+        }
+    }
+
+    /** -1 if {@code generator} does not use a templated variant, else 1 if the variant shares its template's router, 0 if not. */
+    private static int verifyTemplated(Registry<ChunkGeneratorSettings> settingsRegistry, String owner, ChunkGenerator generator, List<String> problems) {
+        if (!(generator instanceof NoiseChunkGenerator noise)) {
+            return -1;
+        }
+        RegistryEntry<ChunkGeneratorSettings> settings = noise.getSettings();
+        GlobeProfile profile = forSettings(settings);
+        if (profile == null || profile.template().isEmpty()) {
+            return -1;
+        }
+        ChunkGeneratorSettings registered = settingsRegistry.get(profile.noiseSettings());
+        if (!settings.hasKeyAndValue() || settings.value() != registered) {
+            problems.add(owner + " holds " + profile.noiseSettings().getValue() + " but not the registered copy");
+            return 0;
+        }
+        ChunkGeneratorSettings template = settingsRegistry.get(profile.template().get());
+        return template != null && registered.noiseRouter() == template.noiseRouter() ? 1 : 0;
+    }
+
+    /** The profile for generators built from {@code settings}, or {@code null} if they are not globe generators. */
+    public static GlobeProfile forSettings(RegistryEntry<ChunkGeneratorSettings> settings) {
+        return settings.getKey().map(bySettings::get).orElse(null);
+    }
+
+    /** The profile {@code generator} resolved, or {@code null} if it is not a globe generator. */
+    public static GlobeProfile forGenerator(ChunkGenerator generator) {
+        return generator instanceof LatitudeContextHolder holder ? holder.globe$getProfile() : null;
+    }
+
+    public static GlobeProfile forWorld(ServerWorld world) {
+        return world != null ? forGenerator(world.getChunkManager().getChunkGenerator()) : null;
+    }
+
+    public static boolean isGlobe(ServerWorld world) {
+        return forWorld(world) != null;
+    }
+}
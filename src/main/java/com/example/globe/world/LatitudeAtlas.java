@@ -0,0 +1,338 @@
+package com.example.globe.world;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.util.Util;
+import net.minecraft.world.biome.Biome;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk second tier behind {@link ColumnDecisionCache}: the latitude pick for every quart column a world has
+ * generated, kept in the save ({@code <dimension>/data/latitude_atlas/r.<x>.<z>.bin}) so a restarted server reads
+ * decided columns back instead of running {@link LatitudeBiomes#pick} again.
+ * <p>
+ * Each file is one {@value #TILE_QUARTS}x{@value #TILE_QUARTS}-quart tile (512x512 blocks), memory-mapped whole: a
+ * fixed header followed by two little-endian ints per column, its low pick and then its deck pick (the two only
+ * differ for cave-base columns, see {@link ColumnDecisionCache}),
+ * <pre>
+ *   31 decided   30..28 latitude band   27..14 base raw id   13..0 pick raw id
+ * </pre>
+ * Cells are read and written with plain aligned int accesses through a {@link VarHandle}, so worldgen threads fill
+ * them lock-free as they decide columns. A tile is mapped on the IO worker the first time it is touched; until then
+ * lookups miss and fall through to a normal pick.
+ * <p>
+ * At most {@value #CAPACITY_PROPERTY} tiles (default 32, about 4 MB of mappings) stay mapped. Each lookup stamps its
+ * tile with the clock, which advances whenever a tile is mapped; past the capacity the least recently stamped tile is
+ * forced to disk and dropped, and its mapping is released when the buffer is collected. Buffers are never unmapped
+ * by hand, since worldgen threads may still be reading one they looked up just before.
+ * <p>
+ * The header records seed, radius, bands and a fingerprint of the biome registry order and every biome's tags. A tile
+ * whose header does not match the running world (other seed, resized globe, changed datapack) is cleared on open, and
+ * a tag reload that changes the fingerprint drops every mapped tile. Off unless {@code -Dlatitude.atlas=true}.
+ */
+public final class LatitudeAtlas {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeBiomes");
+
+    public static final String ENABLE_PROPERTY = "latitude.atlas";
+    /** Tiles kept mapped at once per world. */
+    public static final String CAPACITY_PROPERTY = "latitude.atlasTiles";
+
+    private static final int MAGIC = 0x4C415441; // "LATA"
+    // Bump whenever LatitudeBiomes.pick changes what it returns for the same inputs, or the cell layout changes.
+    private static final int FORMAT = 2;
+    private static final int TILE_SHIFT = 7;
+    private static final int TILE_QUARTS = 1 << TILE_SHIFT;
+    private static final int HEADER_BYTES = 64;
+    private static final int FILE_BYTES = HEADER_BYTES + TILE_QUARTS * TILE_QUARTS * 2 * Integer.BYTES;
+    private static final int MAX_RAW_ID = (1 << 14) - 1;
+    private static final int DECIDED = 1 << 31;
+    private static final int CAPACITY = Math.max(1, Integer.getInteger(CAPACITY_PROPERTY, 32));
+
+    private static final VarHandle CELLS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final Tile PENDING = new Tile(null, 0L);
+    private static final Tile FAILED = new Tile(null, 0L);
+
+    private final Path directory;
+    private final LatitudeContext latitude;
+    private final long worldHash;
+    private final Map<Long, Tile> tiles = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long fingerprint;
+    private volatile boolean closed;
+
+    private LatitudeAtlas(Path directory, LatitudeContext latitude, Registry<Biome> registry) {
+        this.directory = directory;
+        this.latitude = latitude;
+        this.worldHash = worldHash(latitude);
+        this.fingerprint = fingerprint(registry);
+    }
+
+    /** The atlas for one world, or {@code null} when disabled, the registry is too large to pack, or the directory is unusable. */
+    public static LatitudeAtlas open(Path directory, LatitudeContext latitude, Registry<Biome> registry) {
+        if (!Boolean.getBoolean(ENABLE_PROPERTY) || latitude == null || registry == null || registry.size() > MAX_RAW_ID + 1) {
+            return null;
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            LOGGER.warn("[Latitude] Atlas disabled: cannot create {}", directory, e);
+            return null;
+        }
+        LOGGER.info("[Latitude] Atlas for {} at {}", latitude, directory);
+        return new LatitudeAtlas(directory, latitude, registry);
+    }
+
+    /** The stored low or {@code deck} cell for this column, or 0 when it is undecided or its tile is not mapped yet. */
+    public int read(int quartX, int quartZ, boolean deck) {
+        Tile tile = tile(quartX, quartZ);
+        if (tile == null) {
+            return 0;
+        }
+        return (int) CELLS.getOpaque(tile.buffer, offset(quartX, quartZ, deck));
+    }
+
+    public void write(int quartX, int quartZ, boolean deck, int baseRawId, int pickRawId) {
+        if (baseRawId < 0 || baseRawId > MAX_RAW_ID || pickRawId < 0 || pickRawId > MAX_RAW_ID) {
+            return;
+        }
+        Tile tile = tile(quartX, quartZ);
+        if (tile == null) {
+            return;
+        }
+        int band = latitude.zone((quartZ << 2) + 2).ordinal();
+        int cell = DECIDED | (band << 28) | (baseRawId << 14) | pickRawId;
+        CELLS.setOpaque(tile.buffer, offset(quartX, quartZ, deck), cell);
+    }
+
+    public static int baseRawId(int cell) {
+        return (cell >>> 14) & MAX_RAW_ID;
+    }
+
+    public static int pickRawId(int cell) {
+        return cell & MAX_RAW_ID;
+    }
+
+    /** Latitude band ordinal ({@code LatitudeMath.LatitudeZone}) of the column the cell was decided for. */
+    public static int band(int cell) {
+        return (cell >>> 28) & 0x7;
+    }
+
+    /**
+     * Re-fingerprints after a tag reload. Mapped tiles are flushed and dropped when the fingerprint changed; they are
+     * cleared as they are reopened under the new header.
+     */
+    public void rebind(Registry<Biome> registry) {
+        long next = fingerprint(registry);
+        if (next == fingerprint) {
+            return;
+        }
+        fingerprint = next;
+        flushAndDrop();
+    }
+
+    public void close() {
+        closed = true;
+        flushAndDrop();
+    }
+
+    private void flushAndDrop() {
+        for (Tile tile : tiles.values()) {
+            if (tile.buffer != null) {
+                tile.buffer.force();
+            }
+        }
+        tiles.clear();
+    }
+
+    private Tile tile(int quartX, int quartZ) {
+        if (closed) {
+            return null;
+        }
+        int tileX = quartX >> TILE_SHIFT;
+        int tileZ = quartZ >> TILE_SHIFT;
+        long key = ((long) tileX << 32) | (tileZ & 0xFFFF_FFFFL);
+        long expected = fingerprint;
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            if (tiles.putIfAbsent(key, PENDING) == null) {
+                Util.getIoWorkerExecutor().execute(() -> {
+                    Tile opened = map(tileX, tileZ, expected);
+                    // A rebind may have dropped this tile's placeholder meanwhile; never resurrect a stale mapping.
+                    if (!closed && fingerprint == expected) {
+                        if (opened != FAILED) {
+                            opened.lastUse = clock.incrementAndGet();
+                        }
+                        if (tiles.replace(key, PENDING, opened) && tiles.size() > CAPACITY) {
+                            evict();
+                        }
+                    } else {
+                        tiles.remove(key, PENDING);
+                    }
+                });
+            }
+            return null;
+        }
+        if (tile.buffer == null || tile.fingerprint != expected) {
+            return null;
+        }
+        // The clock only advances when a tile is mapped, so the stamp is a plain read and rarely a write.
+        long now = clock.get();
+        if (tile.lastUse != now) {
+            tile.lastUse = now;
+        }
+        return tile;
+    }
+
+    /** Drops the least recently used mapped tiles, flushing each, until the capacity is met. */
+    private synchronized void evict() {
+        while (tiles.size() > CAPACITY) {
+            Map.Entry<Long, Tile> oldest = null;
+            for (Map.Entry<Long, Tile> entry : tiles.entrySet()) {
+                Tile tile = entry.getValue();
+                if (tile != PENDING && (oldest == null || tile.lastUse < oldest.getValue().lastUse)) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null || !tiles.remove(oldest.getKey(), oldest.getValue())) {
+                return;
+            }
+            if (oldest.getValue().buffer != null) {
+                oldest.getValue().buffer.force();
+            }
+        }
+    }
+
+    private Tile map(int tileX, int tileZ, long expected) {
+        Path path = directory.resolve("r." + tileX + "." + tileZ + ".bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean sized = channel.size() == FILE_BYTES;
+            if (channel.size() > FILE_BYTES) {
+                channel.truncate(FILE_BYTES);
+            }
+            // The mapping stays valid after the channel closes.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, FILE_BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (!sized || !headerMatches(buffer, tileX, tileZ, expected)) {
+                // Invalidate the header first so a crash mid-clear cannot leave old cells under a matching header.
+                buffer.putInt(0, 0);
+                for (int offset = HEADER_BYTES; offset < FILE_BYTES; offset += Long.BYTES) {
+                    buffer.putLong(offset, 0L);
+                }
+                writeHeader(buffer, tileX, tileZ, expected);
+            }
+            return new Tile(buffer, expected);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("[Latitude] Atlas tile {} unusable, deciding its columns without it", path, e);
+            return FAILED;
+        }
+    }
+
+    private boolean headerMatches(MappedByteBuffer buffer, int tileX, int tileZ, long expected) {
+        return buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == FORMAT
+                && buffer.getLong(8) == latitude.seed()
+                && buffer.getInt(16) == latitude.radius()
+                && buffer.getInt(20) == tileX
+                && buffer.getInt(24) == tileZ
+                && buffer.getLong(32) == worldHash
+                && buffer.getLong(40) == expected;
+    }
+
+    private void writeHeader(MappedByteBuffer buffer, int tileX, int tileZ, long expected) {
+        buffer.putInt(4, FORMAT);
+        buffer.putLong(8, latitude.seed());
+        buffer.putInt(16, latitude.radius());
+        buffer.putInt(20, tileX);
+        buffer.putInt(24, tileZ);
+        buffer.putLong(32, worldHash);
+        buffer.putLong(40, expected);
+        buffer.putInt(0, MAGIC);
+    }
+
+    private static int offset(int quartX, int quartZ, boolean deck) {
+        int localX = quartX & (TILE_QUARTS - 1);
+        int localZ = quartZ & (TILE_QUARTS - 1);
+        int cell = ((localZ << TILE_SHIFT) | localX) << 1 | (deck ? 1 : 0);
+        return HEADER_BYTES + cell * Integer.BYTES;
+    }
+
+    /** Band edges of the world's profile; the seed and radius are stored in the header as they are. */
+    private static long worldHash(LatitudeContext latitude) {
+        GlobeProfile.Bands bands = latitude.profile().bands();
+        long h = 0xCBF2_9CE4_8422_2325L;
+        for (double edge : new double[] {bands.equator(), bands.tropical(), bands.subtropical(), bands.temperate(), bands.subpolar()}) {
+            h = mix(h, Double.doubleToLongBits(edge));
+        }
+        return h;
+    }
+
+    /**
+     * Stored cells are raw ids decided from tag pools, so the fingerprint covers the registry's raw-id order and the
+     * tags of every biome. Uses string hashes only; identity hashes differ between runs.
+     */
+    private static long fingerprint(Registry<Biome> registry) {
+        long h = 0xCBF2_9CE4_8422_2325L;
+        for (int rawId = 0; rawId < registry.size(); rawId++) {
+            RegistryEntry<Biome> entry = registry.getEntry(rawId).orElse(null);
+            if (entry == null) {
+                h = mix(h, -1L);
+                continue;
+            }
+            h = mix(h, hashString(entry.getIdAsString()));
+            List<String> tags = entry.streamTags()
+                    .map(TagKey::id)
+                    .map(Object::toString)
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+            for (String tag : tags) {
+                h = mix(h, hashString(tag));
+            }
+            h = mix(h, tags.size());
+        }
+        return h;
+    }
+
+    private static long hashString(String value) {
+        long h = 0xCBF2_9CE4_8422_2325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = (h ^ (b & 0xFF)) * 0x100_0000_01B3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        h ^= value;
+        h *= 0x9E37_79B9_7F4A_7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    // Not a record: the PENDING and FAILED placeholders must stay distinct under replace(key, PENDING, ...).
+    private static final class Tile {
+        final MappedByteBuffer buffer;
+        final long fingerprint;
+        volatile long lastUse;
+
+        Tile(MappedByteBuffer buffer, long fingerprint) {
+            this.buffer = buffer;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
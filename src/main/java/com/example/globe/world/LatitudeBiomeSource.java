@@ -17,12 +17,18 @@ import java.util.stream.Stream;
 public final class LatitudeBiomeSource extends BiomeSource {
     private final BiomeSource original;
     private final Collection<RegistryEntry<Biome>> biomes;
-    private final int borderRadiusBlocks;
+    private final LatitudeContextHolder generator;
+    private final LatitudeContext unbound;
 
-    public LatitudeBiomeSource(BiomeSource original, Collection<RegistryEntry<Biome>> biomes, int borderRadiusBlocks) {
+    /**
+     * Picks against {@code generator}'s bound {@link LatitudeContext}; until its world loads, a seed-0
+     * context for {@code profile} stands in.
+     */
+    public LatitudeBiomeSource(BiomeSource original, Collection<RegistryEntry<Biome>> biomes, LatitudeContextHolder generator, GlobeProfile profile) {
         this.original = original;
         this.biomes = biomes;
-        this.borderRadiusBlocks = borderRadiusBlocks;
+        this.generator = generator;
+        this.unbound = LatitudeContext.of(0L, profile);
     }
 
     public BiomeSource original() {
@@ -57,11 +63,29 @@ public final class LatitudeBiomeSource extends BiomeSource {
         return original.getBiomes().stream();
     }
 
+    /**
+     * Decides the column the way terrain population does below the hard deck: y=0 base, quart-centre block coordinates,
+     * registry pool. Once the world is bound both share its {@link ColumnDecisionCache}, so structure probes and
+     * terrain agree and each column is picked once. Before that the biome source's own pool stands in, uncached.
+     */
     @Override
     public RegistryEntry<Biome> getBiome(int x, int y, int z, MultiNoiseUtil.MultiNoiseSampler sampler) {
         RegistryEntry<Biome> base = original.getBiome(x, 0, z, sampler);
-        int blockX = x << 2;
-        int blockZ = z << 2;
-        return LatitudeBiomes.pick(biomes, base, blockX, blockZ, borderRadiusBlocks, sampler, "SOURCE");
+        int blockX = (x << 2) + 2;
+        int blockZ = (z << 2) + 2;
+        LatitudeContext latitude = generator.globe$getLatitudeContext();
+        ColumnDecisionCache cache = generator.globe$getColumnCache();
+        if (latitude == null || cache == null) {
+            return LatitudeBiomes.pick(biomes, base, blockX, blockZ, latitude != null ? latitude : unbound, sampler);
+        }
+
+        RegistryEntry<Biome> cached = cache.get(x, z, false, base);
+        if (cached != null) {
+            return cached;
+        }
+        int generation = cache.generation();
+        RegistryEntry<Biome> picked = LatitudeBiomes.pick(cache.registry(), base, blockX, blockZ, latitude, sampler);
+        cache.put(x, z, false, base, picked, generation);
+        return picked != null ? picked : base;
     }
 }
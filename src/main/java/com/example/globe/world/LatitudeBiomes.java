@@ -1,112 +1,45 @@
 package com.example.globe.world;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.example.globe.util.BlobNoise2D;
 import com.example.globe.util.LatitudeMath;
-import com.example.globe.util.ValueNoise2D;
+import com.example.globe.world.BiomeCatalog.Handle;
+import com.example.globe.world.CompiledTagPools.Pool;
 
 import net.minecraft.registry.Registry;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.entry.RegistryEntry;
-import net.minecraft.registry.tag.BiomeTags;
-import net.minecraft.registry.tag.TagKey;
-import net.minecraft.util.Identifier;
+import net.minecraft.util.collection.IndexedIterable;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeKeys;
 import net.minecraft.world.biome.source.util.MultiNoiseUtil;
 
+/**
+ * The latitude biome picker. Decisions run as stages over a set of quart columns held in a {@link PickContext}
+ * (water, land band, patches, band pools, then the post-passes), so per-chunk and grid noise is computed once for
+ * every column that needs it. {@link #pickChunk} decides up to 16 columns of a chunk in one call; the single-column
+ * {@code pick} overloads run the same stages over one column.
+ */
 public final class LatitudeBiomes {
     private LatitudeBiomes() {
     }
 
-    private static RegistryEntry<Biome> pickTropicalGradientNoSwamp(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
+    private static final int BAND_EQUATOR = LatitudeProfile.BAND_EQUATOR;
+    private static final int BAND_TROPICAL = LatitudeProfile.BAND_TROPICAL;
+    private static final int BAND_TEMPERATE = LatitudeProfile.BAND_TEMPERATE;
+    private static final int BAND_SUBPOLAR = LatitudeProfile.BAND_SUBPOLAR;
+    private static final int BAND_POLAR = LatitudeProfile.BAND_POLAR;
 
-        long seed = WORLD_SEED;
+    // Pool variant a band picker draws from; the mangrove and swamp fallbacks re-pick without the biome they replace.
+    private static final int POOLS_ALL = 0;
+    private static final int POOLS_NO_MANGROVE = 1;
+    private static final int POOLS_NO_SWAMP = 2;
 
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
-        }
-
-        return switch (step) {
-            case 1 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 101, 0x7A11,
-                    LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 102, 0x7A22,
-                    LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 103, 0x7A33,
-                    LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 100, 0x7A00,
-                    LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> pickTropicalGradientNoSwamp(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
-
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
-        }
-
-        return switch (step) {
-            case 1 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 101, 0x7A11,
-                    LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 102, 0x7A22,
-                    LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 103, 0x7A33,
-                    LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, 100, 0x7A00,
-                    LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
-        };
-    }
-
-    private static final int BAND_EQUATOR = 0;
-    private static final int BAND_TROPICAL = 1;
-    private static final int BAND_TEMPERATE = 2;
-    private static final int BAND_SUBPOLAR = 3;
-    private static final int BAND_POLAR = 4;
+    private static final int POOL_NOISE_SCALE_BLOCKS = 2048;
 
     private static int bandIndexForZone(LatitudeMath.LatitudeZone zone) {
         return switch (zone) {
@@ -118,138 +51,12 @@ public final class LatitudeBiomes {
         };
     }
 
-    private static RegistryEntry<Biome> pickBeachForBand(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        if (bandIndex <= 2) {
-            try {
-                return biome(biomes, "minecraft:beach");
-            } catch (Throwable ignored) {
-                return base;
-            }
-        }
-
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        long roll = hash64(chunkX, chunkZ, 0xBEEFBEEF);
-        boolean snowy = Long.remainderUnsigned(roll, 100L) < 70L;
-
-        String target = snowy ? "minecraft:snowy_beach" : "minecraft:stony_shore";
-        try {
-            return biome(biomes, target);
-        } catch (Throwable ignored) {
-            return base;
-        }
-    }
-
-    private static RegistryEntry<Biome> pickBeachForBand(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        if (bandIndex <= 2) {
-            RegistryEntry<Biome> entry = entryById(biomes, "minecraft:beach");
-            return entry != null ? entry : base;
-        }
-
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        long roll = hash64(chunkX, chunkZ, 0xBEEFBEEF);
-        boolean snowy = Long.remainderUnsigned(roll, 100L) < 70L;
-
-        String target = snowy ? "minecraft:snowy_beach" : "minecraft:stony_shore";
-        RegistryEntry<Biome> entry = entryById(biomes, target);
-        return entry != null ? entry : base;
-    }
-
-    private static RegistryEntry<Biome> applyLandOverrides(Registry<Biome> biomes, RegistryEntry<Biome> pick, int blockX, int blockZ, int bandIndex) {
-        if (bandIndex == BAND_EQUATOR || bandIndex == BAND_TEMPERATE) {
-            if (isBiomeId(pick, "minecraft:plains") && rollChance(blockX, blockZ, 0x7F4A7C15, 60L)) {
-                try {
-                    pick = biome(biomes, "minecraft:sunflower_plains");
-                } catch (Throwable ignored) {
-                    // Keep original pick.
-                }
-            }
-        }
-
-        if (bandIndex == BAND_TEMPERATE) {
-            if (isBiomeId(pick, "minecraft:dark_forest") && rollChance(blockX, blockZ, 0x51ED270B, 12000L)) {
-                try {
-                    pick = biome(biomes, "minecraft:pale_garden");
-                } catch (Throwable ignored) {
-                    // Keep original pick.
-                }
-            }
-
-            if ((isBiomeId(pick, "minecraft:meadow") || isBiomeId(pick, "minecraft:windswept_hills"))
-                    && rollChance(blockX, blockZ, 0x31415926, 120L)) {
-                try {
-                    pick = biome(biomes, "minecraft:stony_peaks");
-                } catch (Throwable ignored) {
-                    // Keep original pick.
-                }
-            }
-        }
-
-        return pick;
-    }
-
-    private static RegistryEntry<Biome> applyLandOverrides(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> pick, int blockX, int blockZ, int bandIndex) {
-        if (bandIndex == BAND_EQUATOR || bandIndex == BAND_TEMPERATE) {
-            if (isBiomeId(pick, "minecraft:plains") && rollChance(blockX, blockZ, 0x7F4A7C15, 60L)) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:sunflower_plains");
-                if (entry != null) {
-                    pick = entry;
-                }
-            }
-        }
-
-        if (bandIndex == BAND_TEMPERATE) {
-            if (isBiomeId(pick, "minecraft:dark_forest") && rollChance(blockX, blockZ, 0x51ED270B, 12000L)) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:pale_garden");
-                if (entry != null) {
-                    pick = entry;
-                }
-            }
-
-            if ((isBiomeId(pick, "minecraft:meadow") || isBiomeId(pick, "minecraft:windswept_hills"))
-                    && rollChance(blockX, blockZ, 0x31415926, 120L)) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:stony_peaks");
-                if (entry != null) {
-                    pick = entry;
-                }
-            }
-        }
-
-        return pick;
-    }
-
     private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeBiomes");
-    private static final boolean DEBUG_BIOMES = Boolean.getBoolean("latitude.debugBiomes")
-            || Boolean.getBoolean("latitude.debugBiomePick");
-    private static final boolean DEBUG_BLEND = Boolean.getBoolean("latitude.debugBlend");
     private static final int DEBUG_LIMIT = Integer.getInteger("latitude.debugBiomes.limit", 200);
-    private static volatile long WORLD_SEED = 0L;
-    public static volatile int ACTIVE_RADIUS_BLOCKS = 0;
     private static final AtomicInteger DEBUG_COUNT = new AtomicInteger();
     private static final AtomicInteger BLEND_DEBUG_COUNT = new AtomicInteger();
-    private static final AtomicBoolean RADIUS_MISMATCH_LOGGED = new AtomicBoolean(false);
     private static boolean TAG_LOGGED = false;
 
-    public static void setWorldSeed(long seed) {
-        WORLD_SEED = seed;
-    }
-
-    public static void setRadius(int radius) {
-        ACTIVE_RADIUS_BLOCKS = radius;
-    }
-
-    public static void setActiveRadiusBlocks(int radiusBlocks) {
-        ACTIVE_RADIUS_BLOCKS = Math.max(0, radiusBlocks);
-    }
-
-    public static int getActiveRadiusBlocks() {
-        return ACTIVE_RADIUS_BLOCKS;
-    }
-
-    private static final String MANGROVE_ID = "minecraft:mangrove_swamp";
-    private static final String SWAMP_ID = "minecraft:swamp";
-    private static final String BADLANDS_ID = "minecraft:badlands";
     private static final int MANGROVE_PATCH_CELL_BLOCKS = 1024;
     private static final int MANGROVE_PATCH_PERCENT = 20;
     private static final int MANGROVE_PATCH_SALT = 0x2F7A3B1C;
@@ -264,43 +71,43 @@ public final class LatitudeBiomes {
     private static final double SWAMP_PATCH_CHANCE = 0.55;
     private static final long SWAMP_PATCH_SALT = 0x53A95A4DL;
 
-    private static final TagKey<Biome> LAT_EQUATOR_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_equator_primary"));
-    private static final TagKey<Biome> LAT_EQUATOR_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_equator_secondary"));
-    private static final TagKey<Biome> LAT_EQUATOR_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_equator_accent"));
+    private static final Pool LAT_EQUATOR_PRIMARY = Pool.EQUATOR_PRIMARY;
+    private static final Pool LAT_EQUATOR_SECONDARY = Pool.EQUATOR_SECONDARY;
+    private static final Pool LAT_EQUATOR_ACCENT = Pool.EQUATOR_ACCENT;
 
-    private static final TagKey<Biome> LAT_TROPICS_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_tropics_primary"));
-    private static final TagKey<Biome> LAT_TROPICS_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_tropics_secondary"));
-    private static final TagKey<Biome> LAT_TROPICS_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_tropics_accent"));
+    private static final Pool LAT_TROPICS_PRIMARY = Pool.TROPICS_PRIMARY;
+    private static final Pool LAT_TROPICS_SECONDARY = Pool.TROPICS_SECONDARY;
+    private static final Pool LAT_TROPICS_ACCENT = Pool.TROPICS_ACCENT;
 
-    private static final TagKey<Biome> LAT_ARID_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_arid_primary"));
-    private static final TagKey<Biome> LAT_ARID_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_arid_secondary"));
-    private static final TagKey<Biome> LAT_ARID_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_arid_accent"));
+    private static final Pool LAT_ARID_PRIMARY = Pool.ARID_PRIMARY;
+    private static final Pool LAT_ARID_SECONDARY = Pool.ARID_SECONDARY;
+    private static final Pool LAT_ARID_ACCENT = Pool.ARID_ACCENT;
 
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_1_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_1_primary"));
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_1_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_1_secondary"));
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_1_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_1_accent"));
+    private static final Pool LAT_TRANS_ARID_TROPICS_1_PRIMARY = Pool.TRANS_ARID_TROPICS_1_PRIMARY;
+    private static final Pool LAT_TRANS_ARID_TROPICS_1_SECONDARY = Pool.TRANS_ARID_TROPICS_1_SECONDARY;
+    private static final Pool LAT_TRANS_ARID_TROPICS_1_ACCENT = Pool.TRANS_ARID_TROPICS_1_ACCENT;
 
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_2_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_2_primary"));
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_2_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_2_secondary"));
-    private static final TagKey<Biome> LAT_TRANS_ARID_TROPICS_2_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_trans_arid_tropics_2_accent"));
+    private static final Pool LAT_TRANS_ARID_TROPICS_2_PRIMARY = Pool.TRANS_ARID_TROPICS_2_PRIMARY;
+    private static final Pool LAT_TRANS_ARID_TROPICS_2_SECONDARY = Pool.TRANS_ARID_TROPICS_2_SECONDARY;
+    private static final Pool LAT_TRANS_ARID_TROPICS_2_ACCENT = Pool.TRANS_ARID_TROPICS_2_ACCENT;
 
-    private static final TagKey<Biome> LAT_TEMPERATE_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_temperate_primary"));
-    private static final TagKey<Biome> LAT_TEMPERATE_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_temperate_secondary"));
-    private static final TagKey<Biome> LAT_TEMPERATE_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_temperate_accent"));
-    private static final TagKey<Biome> LAT_TEMPERATE_MOUNTAIN = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_temperate_mountain"));
+    private static final Pool LAT_TEMPERATE_PRIMARY = Pool.TEMPERATE_PRIMARY;
+    private static final Pool LAT_TEMPERATE_SECONDARY = Pool.TEMPERATE_SECONDARY;
+    private static final Pool LAT_TEMPERATE_ACCENT = Pool.TEMPERATE_ACCENT;
+    private static final Pool LAT_TEMPERATE_MOUNTAIN = Pool.TEMPERATE_MOUNTAIN;
 
-    private static final TagKey<Biome> LAT_SUBPOLAR_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_subpolar_primary"));
-    private static final TagKey<Biome> LAT_SUBPOLAR_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_subpolar_secondary"));
-    private static final TagKey<Biome> LAT_SUBPOLAR_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_subpolar_accent"));
+    private static final Pool LAT_SUBPOLAR_PRIMARY = Pool.SUBPOLAR_PRIMARY;
+    private static final Pool LAT_SUBPOLAR_SECONDARY = Pool.SUBPOLAR_SECONDARY;
+    private static final Pool LAT_SUBPOLAR_ACCENT = Pool.SUBPOLAR_ACCENT;
 
-    private static final TagKey<Biome> LAT_POLAR_PRIMARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_polar_primary"));
-    private static final TagKey<Biome> LAT_POLAR_SECONDARY = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_polar_secondary"));
-    private static final TagKey<Biome> LAT_POLAR_ACCENT = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_polar_accent"));
+    private static final Pool LAT_POLAR_PRIMARY = Pool.POLAR_PRIMARY;
+    private static final Pool LAT_POLAR_SECONDARY = Pool.POLAR_SECONDARY;
+    private static final Pool LAT_POLAR_ACCENT = Pool.POLAR_ACCENT;
 
-    private static final TagKey<Biome> LAT_OCEAN_TROPICAL = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_ocean_tropical"));
-    private static final TagKey<Biome> LAT_OCEAN_TEMPERATE = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_ocean_temperate"));
-    private static final TagKey<Biome> LAT_OCEAN_SUBPOLAR = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_ocean_subpolar"));
-    private static final TagKey<Biome> LAT_OCEAN_POLAR = TagKey.of(RegistryKeys.BIOME, Identifier.of("globe", "lat_ocean_polar"));
+    private static final Pool LAT_OCEAN_TROPICAL = Pool.OCEAN_TROPICAL;
+    private static final Pool LAT_OCEAN_TEMPERATE = Pool.OCEAN_TEMPERATE;
+    private static final Pool LAT_OCEAN_SUBPOLAR = Pool.OCEAN_SUBPOLAR;
+    private static final Pool LAT_OCEAN_POLAR = Pool.OCEAN_POLAR;
 
     private enum TransitionMode {
         SMOOTH_WARP,
@@ -331,24 +138,14 @@ public final class LatitudeBiomes {
     private static final double SNOWY_RAMP_FULL_DEG = 66.0;
     private static final double GROVE_MIN_DEG = 66.0;
 
-    private static final Set<String> SURFACE_CAVE_DENYLIST = Set.of(
-            "minecraft:dripstone_caves",
-            "minecraft:lush_caves",
-            "minecraft:deep_dark"
-    );
-
-    private static final Set<String> WARM_BIOME_BLOCKLIST = Set.of(
-            "minecraft:jungle",
-            "minecraft:sparse_jungle",
-            "minecraft:bamboo_jungle",
-            "minecraft:savanna",
-            "minecraft:savanna_plateau",
-            "minecraft:desert",
-            "minecraft:badlands",
-            "minecraft:wooded_badlands",
-            "minecraft:eroded_badlands",
-            "minecraft:mangrove_swamp"
-    );
+    private static final Handle[] OCEAN_TROPICAL_FALLBACKS = {Handle.WARM_OCEAN, Handle.LUKEWARM_OCEAN, Handle.DEEP_LUKEWARM_OCEAN};
+    private static final Handle[] OCEAN_TEMPERATE_FALLBACKS = {Handle.OCEAN, Handle.DEEP_OCEAN};
+    private static final Handle[] OCEAN_SUBPOLAR_FALLBACKS = {Handle.COLD_OCEAN, Handle.DEEP_COLD_OCEAN};
+    private static final Handle[] OCEAN_POLAR_FALLBACKS = {Handle.FROZEN_OCEAN, Handle.DEEP_FROZEN_OCEAN};
+    private static final Handle[] CHERRY_GROVE_REPLACEMENTS = {Handle.MEADOW, Handle.GROVE, Handle.WINDSWEPT_HILLS, Handle.STONY_PEAKS};
+    private static final Handle[] NON_SNOWY_TEMPERATE_FALLBACKS = {Handle.TAIGA, Handle.FOREST, Handle.PLAINS, Handle.MEADOW};
+    private static final Handle[] NON_SNOWY_COLD_FALLBACKS = {Handle.TAIGA, Handle.OLD_GROWTH_PINE_TAIGA, Handle.MEADOW, Handle.FOREST, Handle.PLAINS};
+    private static final Handle[] SNOWY_FALLBACKS = {Handle.SNOWY_TAIGA, Handle.SNOWY_PLAINS};
 
     // --- Blend noise helpers (chunk-stable, 2D, smooth "blobs") ---
 
@@ -358,14 +155,6 @@ public final class LatitudeBiomes {
         return z ^ (z >>> 33);
     }
 
-    private static double hash01(long seed, int x, int z, long salt) {
-        long h = seed ^ salt;
-        h ^= (long) x * 0x9E3779B97F4A7C15L;
-        h ^= (long) z * 0xC2B2AE3D27D4EB4FL;
-        h = mix64(h);
-        return ((h >>> 11) * (1.0 / (1L << 53)));
-    }
-
     private static double cellHash01(long seed, int cellX, int cellZ) {
         long x = seed;
         x ^= 0x9E3779B97F4A7C15L * (long) cellX;
@@ -384,518 +173,419 @@ public final class LatitudeBiomes {
     }
 
     private static double blobNoise01(long seed, int chunkX, int chunkZ, int patchSizeChunks, long salt) {
-        int gx = Math.floorDiv(chunkX, patchSizeChunks);
-        int gz = Math.floorDiv(chunkZ, patchSizeChunks);
-
-        int x0 = gx * patchSizeChunks;
-        int z0 = gz * patchSizeChunks;
-        int x1 = x0 + patchSizeChunks;
-        int z1 = z0 + patchSizeChunks;
-
-        double fx = (chunkX - x0) / (double) patchSizeChunks;
-        double fz = (chunkZ - z0) / (double) patchSizeChunks;
-
-        double u = smoothstep(fx);
-        double v = smoothstep(fz);
-
-        double n00 = hash01(seed, x0, z0, salt);
-        double n10 = hash01(seed, x1, z0, salt);
-        double n01 = hash01(seed, x0, z1, salt);
-        double n11 = hash01(seed, x1, z1, salt);
-
-        double nx0 = n00 + (n10 - n00) * u;
-        double nx1 = n01 + (n11 - n01) * u;
-        return nx0 + (nx1 - nx0) * v;
-    }
-
-    /** Block-space version for swamp patch mask; avoids chunk/block mismatch. */
-    private static double blobNoise01Blocks(long seed, int blockX, int blockZ, int patchSizeBlocks, long salt) {
-        int gx = Math.floorDiv(blockX, patchSizeBlocks);
-        int gz = Math.floorDiv(blockZ, patchSizeBlocks);
-        int x0 = gx * patchSizeBlocks;
-        int z0 = gz * patchSizeBlocks;
-        int x1 = x0 + patchSizeBlocks;
-        int z1 = z0 + patchSizeBlocks;
-        double fx = (blockX - x0) / (double) patchSizeBlocks;
-        double fz = (blockZ - z0) / (double) patchSizeBlocks;
-        double u = smoothstep(fx);
-        double v = smoothstep(fz);
-        double n00 = hash01(seed, x0, z0, salt);
-        double n10 = hash01(seed, x1, z0, salt);
-        double n01 = hash01(seed, x0, z1, salt);
-        double n11 = hash01(seed, x1, z1, salt);
-        double nx0 = n00 + (n10 - n00) * u;
-        double nx1 = n01 + (n11 - n01) * u;
-        return nx0 + (nx1 - nx0) * v;
-    }
-
-    public static RegistryEntry<Biome> pick(Registry<Biome> biomeRegistry, RegistryEntry<Biome> base, int blockX, int blockZ, int borderRadiusBlocks,
-                                            MultiNoiseUtil.MultiNoiseSampler sampler, String callerContext) {
-        int activeRadius = ACTIVE_RADIUS_BLOCKS;
-        boolean overrideDisabled = Boolean.getBoolean("latitude.disableRadiusOverride");
-
-        if (activeRadius > 0 && borderRadiusBlocks != activeRadius && RADIUS_MISMATCH_LOGGED.compareAndSet(false, true)) {
-            LOGGER.warn("[Latitude] RADIUS MISMATCH detected from {}! Arg: {}, Active: {}", callerContext, borderRadiusBlocks, activeRadius);
-        }
-
-        int effectiveRadius = (!overrideDisabled && activeRadius > 0) ? activeRadius : borderRadiusBlocks;
-        if (effectiveRadius <= 0) {
-            return base;
-        }
-
-        int lat = Math.abs(blockZ);
-        double t = (double) lat / (double) effectiveRadius;
-        LatitudeMath.LatitudeZone zone = LatitudeMath.zoneForRadius(effectiveRadius, blockZ);
-        int bandIndex = bandIndexForZone(zone);
+        return BlobNoise2D.sample(seed, chunkX, chunkZ, patchSizeChunks, salt);
+    }
 
-        if (isBeachLike(base)) {
-            RegistryEntry<Biome> out = pickBeachForBand(biomeRegistry, base, blockX, blockZ, bandIndex);
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, true, false, null);
-            return out;
+    /** Per-chunk blob noise for the bound chunk, read from its noise tile when that cache is on. */
+    private static double chunkBlob(PickContext ctx, long seed, int patchSizeChunks, long salt) {
+        if (ctx.tile != null) {
+            return ctx.tile.chunkBlob(seed, patchSizeChunks, salt, ctx.chunkX, ctx.chunkZ);
         }
+        return blobNoise01(seed, ctx.chunkX, ctx.chunkZ, patchSizeChunks, salt);
+    }
 
-        if (base.isIn(BiomeTags.IS_RIVER)) {
-            if (bandIndex >= 3) {
-                try {
-                    RegistryEntry<Biome> out = biome(biomeRegistry, "minecraft:frozen_river");
-                    debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-                    return out;
-                } catch (Throwable ignored) {
-                    debugPick(blockX, blockZ, effectiveRadius, t, zone, base, base, false, false, null);
-                    return base;
-                }
-            } else {
-                try {
-                    RegistryEntry<Biome> out = biome(biomeRegistry, "minecraft:river");
-                    debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-                    return out;
-                } catch (Throwable ignored) {
-                    debugPick(blockX, blockZ, effectiveRadius, t, zone, base, base, false, false, null);
-                    return base;
-                }
-            }
+    public static RegistryEntry<Biome> pick(Registry<Biome> biomeRegistry, RegistryEntry<Biome> base, int blockX, int blockZ,
+                                            LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler) {
+        if (latitude.radius() <= 0) {
+            return base;
         }
+        BiomeCompilation compiled = BiomeCompilation.of(biomeRegistry);
+        return pickColumn(compiled.catalog(), compiled.pools(), base, blockX, blockZ, latitude, sampler);
+    }
 
-        if (base.isIn(BiomeTags.IS_OCEAN)) {
-            RegistryEntry<Biome> oceanPick = oceanByLatitudeBandOrBase(biomeRegistry, base, blockX, blockZ, bandIndex);
-            RegistryEntry<Biome> out = mushroomIslandOverride(biomeRegistry, oceanPick, blockX, blockZ);
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-            return out;
+    public static RegistryEntry<Biome> pick(Collection<RegistryEntry<Biome>> biomePool, RegistryEntry<Biome> base, int blockX, int blockZ,
+                                            LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler) {
+        if (latitude.radius() <= 0) {
+            return base;
         }
 
-        int landBandIndex = latitudeBandIndexWithBlend(blockX, blockZ, effectiveRadius, zone, t);
-        boolean forcedBadlands = false;
-        RegistryEntry<Biome> chosen = null;
-        if (landBandIndex == BAND_TROPICAL && isAridTropicalStep(blockX, blockZ, t) && badlandsPatchHere(WORLD_SEED, blockX, blockZ)) {
-            try {
-                chosen = biome(biomeRegistry, BADLANDS_ID);
-                forcedBadlands = true;
-            } catch (Throwable ignored) {
-                // fall through to normal selection
-            }
-        }
-        if (forcedBadlands) {
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, chosen, false, false, null);
-            return chosen;
-        }
-        if (chosen == null && (landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) && sampler != null) {
-            int noiseX = blockX >> 2;
-            int noiseZ = blockZ >> 2;
-            MultiNoiseUtil.NoiseValuePoint p = sampler.sample(noiseX, 0, noiseZ);
-            double cont = MultiNoiseUtil.toFloat(p.continentalnessNoise());
-            double erosion = MultiNoiseUtil.toFloat(p.erosionNoise());
-            double weird = MultiNoiseUtil.toFloat(p.weirdnessNoise());
-            if (swampPatchHere(WORLD_SEED, blockX, blockZ) && swampOkInPatch(cont, erosion, weird)) {
-                try {
-                    chosen = biome(biomeRegistry, SWAMP_ID);
-                } catch (Throwable ignored) {
-                    // keep null to fall through
-                }
-            }
-        }
-        if (chosen == null) {
-            chosen = switch (landBandIndex) {
-                case BAND_EQUATOR -> pickFromWeightedTags(biomeRegistry, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-                case BAND_TROPICAL -> pickTropicalGradient(biomeRegistry, base, blockX, blockZ, t);
-                case BAND_TEMPERATE -> pickFromWeightedTags(biomeRegistry, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-                case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomeRegistry, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-                default -> pickFromWeightedTags(biomeRegistry, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-            };
-        }
-        String mangroveDecision = null;
-        RegistryEntry<Biome> sanitized = chosen;
-        RegistryEntry<Biome> safe = chosen;
-        RegistryEntry<Biome> out = chosen;
-        if (!forcedBadlands) {
-            if (shouldTryMangroveOverride(chosen, landBandIndex)) {
-                MangroveDecision decision = evaluateMangrove(blockX, blockZ, sampler);
-                mangroveDecision = decision.logLabel();
-                if (decision.allow()) {
-                    try {
-                        chosen = biome(biomeRegistry, MANGROVE_ID);
-                    } catch (Throwable ignored) {
-                        // keep current choice
-                    }
-                }
-            } else if (isMangroveCandidate(chosen)) {
-                MangroveDecision decision = evaluateMangrove(blockX, blockZ, sampler);
-                mangroveDecision = decision.logLabel();
-                if (!decision.allow()) {
-                    chosen = pickMangroveFallback(biomeRegistry, base, blockX, blockZ, t, landBandIndex);
-                }
+        logTagPools(biomePool);
+        BiomeCompilation compiled = BiomeCompilation.of(biomePool);
+        return pickColumn(compiled.catalog(), compiled.pools(), base, blockX, blockZ, latitude, sampler);
+    }
+
+    /**
+     * Decides the quart columns of chunk {@code (chunkX, chunkZ)} set in {@code columnMask} (bit {@code localZ << 2 | localX},
+     * sampled at the quart centre, y = 0) in one pass. {@code baseIds} and {@code out} hold biome raw ids of
+     * {@code biomeRegistry} at the same column index; a column whose pick is {@code null} gets -1. Columns outside the
+     * mask are neither read nor written. Equivalent to calling {@link #pick(Registry, RegistryEntry, int, int, LatitudeContext,
+     * MultiNoiseUtil.MultiNoiseSampler)} per column.
+     */
+    public static void pickChunk(LatitudeContext latitude, Registry<Biome> biomeRegistry, int chunkX, int chunkZ,
+                                 int[] baseIds, int columnMask, MultiNoiseUtil.MultiNoiseSampler sampler, int[] out) {
+        columnMask &= (1 << PickContext.COLUMNS) - 1;
+        if (latitude.radius() <= 0) {
+            for (int bits = columnMask; bits != 0; bits &= bits - 1) {
+                int c = Integer.numberOfTrailingZeros(bits);
+                out[c] = baseIds[c];
             }
-            if (isSwampCandidate(chosen)) {
-                SwampDecision decision = evaluateSwamp(blockX, blockZ, sampler);
-                if (!decision.allow()) {
-                    chosen = pickSwampFallback(biomeRegistry, base, blockX, blockZ, t, landBandIndex);
-                }
+            return;
+        }
+
+        IndexedIterable<RegistryEntry<Biome>> entries = biomeRegistry.getIndexedEntries();
+        PickContext ctx = PickContext.forChunk(chunkX, chunkZ, latitude, sampler);
+        for (int bits = columnMask; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            ctx.base[c] = entries.get(baseIds[c]);
+        }
+        BiomeCompilation compiled = BiomeCompilation.of(biomeRegistry);
+        decide(ctx, compiled.catalog(), compiled.pools(), columnMask);
+        for (int bits = columnMask; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            RegistryEntry<Biome> pick = ctx.out[c];
+            out[c] = pick != null ? entries.getRawId(pick) : -1;
+        }
+    }
+
+    private static RegistryEntry<Biome> pickColumn(BiomeCatalog catalog, CompiledTagPools pools, RegistryEntry<Biome> base,
+                                                   int blockX, int blockZ, LatitudeContext latitude,
+                                                   MultiNoiseUtil.MultiNoiseSampler sampler) {
+        PickContext ctx = PickContext.forColumn(blockX, blockZ, latitude, sampler);
+        int column = ctx.columnOf(blockX, blockZ);
+        ctx.base[column] = base;
+        decide(ctx, catalog, pools, 1 << column);
+        return ctx.out[column];
+    }
+
+    /**
+     * Runs the pick stages over the masked columns of {@code ctx}, leaving each decision in {@code ctx.out}. Every
+     * stage narrows the mask to the columns it leaves undecided, so later stages never touch finished columns.
+     */
+    private static void decide(PickContext ctx, BiomeCatalog catalog, CompiledTagPools pools, int columns) {
+        int land = decideWater(ctx, catalog, pools, columns);
+        if (land == 0) {
+            return;
+        }
+        land = decidePatches(ctx, catalog, land);
+        pickBandPools(ctx, pools, land);
+        resolveMangroveAndSwamp(ctx, catalog, pools, land);
+        pickTemperateMountains(ctx, catalog, pools, land);
+        sanitizeAndOverride(ctx, catalog, pools, land);
+        enforceClimate(ctx, catalog, land);
+    }
+
+    /** Beach, river and ocean columns are finished here; returns the land columns. */
+    private static int decideWater(PickContext ctx, BiomeCatalog catalog, CompiledTagPools pools, int columns) {
+        int land = 0;
+        for (int bits = columns; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            RegistryEntry<Biome> base = ctx.base[c];
+            int baseFlags = catalog.flags(base);
+            int bandIndex = bandIndexForZone(ctx.zone[c]);
+            RegistryEntry<Biome> out;
+            boolean beach = false;
+            if ((baseFlags & BiomeCatalog.BEACH) != 0) {
+                out = pickBeachForBand(ctx, catalog, base, bandIndex);
+                beach = true;
+            } else if ((baseFlags & BiomeCatalog.RIVER) != 0) {
+                RegistryEntry<Biome> river = catalog.get(bandIndex >= 3 ? Handle.FROZEN_RIVER : Handle.RIVER);
+                out = river != null ? river : base;
+            } else if ((baseFlags & BiomeCatalog.OCEAN) != 0) {
+                RegistryEntry<Biome> oceanPick = oceanByLatitudeBandOrBase(ctx, c, catalog, pools, base, bandIndex);
+                out = mushroomIslandOverride(ctx, catalog, oceanPick);
+            } else {
+                land |= 1 << c;
+                continue;
             }
-            if (landBandIndex == BAND_TEMPERATE && isMountainLike(sampler, blockX, blockZ)) {
-                chosen = pickFromTagNoiseOrBase(biomeRegistry, LAT_TEMPERATE_MOUNTAIN, base, blockX, blockZ, landBandIndex);
-                if (isBiomeId(chosen, "minecraft:cherry_grove") && !rollChance(blockX, blockZ, 0xC7E22E55, 6L)) {
-                    chosen = pickFrom(biomeRegistry, blockX, blockZ, landBandIndex,
-                            "minecraft:meadow",
-                            "minecraft:grove",
-                            "minecraft:windswept_hills",
-                            "minecraft:stony_peaks");
+            ctx.out[c] = out;
+            debugPick(ctx, c, base, out, beach, false, null);
+        }
+        return land;
+    }
+
+    /**
+     * Forced badlands patches in the arid tropics are finished here; swamp patches pre-select swamp for the band stage.
+     * Returns the columns still undecided.
+     */
+    private static int decidePatches(PickContext ctx, BiomeCatalog catalog, int land) {
+        int[] landBands = landBands(ctx);
+        int undecided = land;
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int landBandIndex = landBands[c];
+            ctx.chosen[c] = null;
+            ctx.mangroveLabel[c] = null;
+            if (landBandIndex == BAND_TROPICAL && tropicalSteps(ctx)[c] == 0 && patches(ctx).badlandsPatch[c]) {
+                RegistryEntry<Biome> badlands = catalog.get(Handle.BADLANDS);
+                if (badlands != null) {
+                    ctx.out[c] = badlands;
+                    debugPick(ctx, c, ctx.base[c], badlands, false, false, null);
+                    undecided &= ~(1 << c);
+                    continue;
                 }
             }
-            sanitized = sanitizeLandBiome(biomeRegistry, chosen, landBandIndex);
-            safe = repickIfSurfaceCave(biomeRegistry, base, sanitized, blockX, blockZ, t, landBandIndex);
-            out = applyLandOverrides(biomeRegistry, safe, blockX, blockZ, landBandIndex);
-        }
-        if (landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) {
-            if (isColdBiome(out)) {
-                out = pickWarmFallback(biomeRegistry, landBandIndex);
+            if ((landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) && ctx.hasClimate()
+                    && patches(ctx).swampPatch[c]
+                    && swampOkInPatch(ctx.continentalness(c), ctx.erosion(c), ctx.weirdness(c))) {
+                ctx.chosen[c] = catalog.get(Handle.SWAMP);
             }
         }
-        out = enforceSnowyLatitudeRamp(biomeRegistry, out, base, blockX, blockZ, effectiveRadius, landBandIndex);
-        out = clampWarmInColdZone(biomeRegistry, base, out, zone, blockX, blockZ);
-        debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, out != sanitized, mangroveDecision);
-        return out;
+        return undecided;
     }
 
-    public static RegistryEntry<Biome> pick(Collection<RegistryEntry<Biome>> biomePool, RegistryEntry<Biome> base, int blockX, int blockZ, int borderRadiusBlocks,
-                                            MultiNoiseUtil.MultiNoiseSampler sampler, String callerContext) {
-        int activeRadius = ACTIVE_RADIUS_BLOCKS;
-        boolean overrideDisabled = Boolean.getBoolean("latitude.disableRadiusOverride");
-
-        if (activeRadius > 0 && borderRadiusBlocks != activeRadius && RADIUS_MISMATCH_LOGGED.compareAndSet(false, true)) {
-            LOGGER.warn("[Latitude] RADIUS MISMATCH detected from {}! Arg: {}, Active: {}", callerContext, borderRadiusBlocks, activeRadius);
-        }
-
-        int effectiveRadius = (!overrideDisabled && activeRadius > 0) ? activeRadius : borderRadiusBlocks;
-        if (effectiveRadius <= 0) {
-            return base;
-        }
-
-        logTagPools(biomePool);
-
-        int lat = Math.abs(blockZ);
-        double t = (double) lat / (double) effectiveRadius;
-        LatitudeMath.LatitudeZone zone = LatitudeMath.zoneForRadius(effectiveRadius, blockZ);
-        int bandIndex = bandIndexForZone(zone);
-
-        if (isBeachLike(base)) {
-            RegistryEntry<Biome> out = pickBeachForBand(biomePool, base, blockX, blockZ, bandIndex);
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, true, false, null);
-            return out;
-        }
-
-        if (base.isIn(BiomeTags.IS_RIVER)) {
-            if (bandIndex >= 3) {
-                RegistryEntry<Biome> frozen = entryById(biomePool, "minecraft:frozen_river");
-                RegistryEntry<Biome> out = frozen != null ? frozen : base;
-                debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-                return out;
+    private static void pickBandPools(PickContext ctx, CompiledTagPools pools, int land) {
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            if (ctx.chosen[c] == null) {
+                ctx.chosen[c] = pickForBand(ctx, c, pools, ctx.base[c], ctx.landBand[c], POOLS_ALL);
             }
-            RegistryEntry<Biome> river = entryById(biomePool, "minecraft:river");
-            RegistryEntry<Biome> out = river != null ? river : base;
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-            return out;
-        }
-
-        if (base.isIn(BiomeTags.IS_OCEAN)) {
-            RegistryEntry<Biome> oceanPick = oceanByLatitudeBandOrBase(biomePool, base, blockX, blockZ, bandIndex);
-            RegistryEntry<Biome> out = mushroomIslandOverride(biomePool, oceanPick, blockX, blockZ);
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, false, null);
-            return out;
         }
+    }
 
-        int landBandIndex = latitudeBandIndexWithBlend(blockX, blockZ, effectiveRadius, zone, t);
-        boolean forcedBadlands = false;
-        RegistryEntry<Biome> chosen = null;
-        if (landBandIndex == BAND_TROPICAL && isAridTropicalStep(blockX, blockZ, t) && badlandsPatchHere(WORLD_SEED, blockX, blockZ)) {
-            chosen = entryById(biomePool, BADLANDS_ID);
-            forcedBadlands = chosen != null;
-        }
-        if (forcedBadlands) {
-            debugPick(blockX, blockZ, effectiveRadius, t, zone, base, chosen, false, false, null);
-            return chosen;
-        }
-        if (chosen == null && (landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) && sampler != null) {
-            int noiseX = blockX >> 2;
-            int noiseZ = blockZ >> 2;
-            MultiNoiseUtil.NoiseValuePoint p = sampler.sample(noiseX, 0, noiseZ);
-            double cont = MultiNoiseUtil.toFloat(p.continentalnessNoise());
-            double erosion = MultiNoiseUtil.toFloat(p.erosionNoise());
-            double weird = MultiNoiseUtil.toFloat(p.weirdnessNoise());
-            if (swampPatchHere(WORLD_SEED, blockX, blockZ) && swampOkInPatch(cont, erosion, weird)) {
-                chosen = entryById(biomePool, SWAMP_ID);
-            }
-        }
-        if (chosen == null) {
-            chosen = switch (landBandIndex) {
-                case BAND_EQUATOR -> pickFromWeightedTags(biomePool, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-                case BAND_TROPICAL -> pickTropicalGradient(biomePool, base, blockX, blockZ, t);
-                case BAND_TEMPERATE -> pickFromWeightedTags(biomePool, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-                case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomePool, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-                default -> pickFromWeightedTags(biomePool, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-            };
-        }
-        String mangroveDecision = null;
-        RegistryEntry<Biome> sanitized = chosen;
-        RegistryEntry<Biome> safe = chosen;
-        RegistryEntry<Biome> out = chosen;
-        if (!forcedBadlands) {
-            if (shouldTryMangroveOverride(chosen, landBandIndex)) {
-                MangroveDecision decision = evaluateMangrove(blockX, blockZ, sampler);
-                mangroveDecision = decision.logLabel();
+    private static void resolveMangroveAndSwamp(PickContext ctx, BiomeCatalog catalog, CompiledTagPools pools, int land) {
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int landBandIndex = ctx.landBand[c];
+            RegistryEntry<Biome> chosen = ctx.chosen[c];
+            if (landBandIndex <= BAND_TROPICAL && catalog.is(chosen, BiomeCatalog.JUNGLE)) {
+                MangroveDecision decision = evaluateMangrove(ctx, c);
+                ctx.mangroveLabel[c] = decisionLabel(ctx, decision);
                 if (decision.allow()) {
-                    RegistryEntry<Biome> mangrove = entryById(biomePool, MANGROVE_ID);
+                    RegistryEntry<Biome> mangrove = catalog.get(Handle.MANGROVE_SWAMP);
                     if (mangrove != null) {
                         chosen = mangrove;
                     }
                 }
-            } else if (isMangroveCandidate(chosen)) {
-                MangroveDecision decision = evaluateMangrove(blockX, blockZ, sampler);
-                mangroveDecision = decision.logLabel();
-                if (!decision.allow()) {
-                    chosen = pickMangroveFallback(biomePool, base, blockX, blockZ, t, landBandIndex);
-                }
-            }
-            if (isSwampCandidate(chosen)) {
-                SwampDecision decision = evaluateSwamp(blockX, blockZ, sampler);
+            } else if (catalog.is(chosen, BiomeCatalog.MANGROVE)) {
+                MangroveDecision decision = evaluateMangrove(ctx, c);
+                ctx.mangroveLabel[c] = decisionLabel(ctx, decision);
                 if (!decision.allow()) {
-                    chosen = pickSwampFallback(biomePool, base, blockX, blockZ, t, landBandIndex);
+                    chosen = pickForBand(ctx, c, pools, ctx.base[c], landBandIndex, POOLS_NO_MANGROVE);
                 }
             }
-            if (landBandIndex == BAND_TEMPERATE && isMountainLike(sampler, blockX, blockZ)) {
-                chosen = pickFromTagNoiseOrBase(biomePool, LAT_TEMPERATE_MOUNTAIN, base, blockX, blockZ, landBandIndex);
-                if (isBiomeId(chosen, "minecraft:cherry_grove") && !rollChance(blockX, blockZ, 0xC7E22E55, 6L)) {
-                    chosen = pickFromFallbacks(biomePool, base,
-                            "minecraft:meadow",
-                            "minecraft:grove",
-                            "minecraft:windswept_hills",
-                            "minecraft:stony_peaks");
-                }
+            if (catalog.is(chosen, BiomeCatalog.SWAMP) && !swampAllowed(ctx, c)) {
+                chosen = pickForBand(ctx, c, pools, ctx.base[c], landBandIndex, POOLS_NO_SWAMP);
             }
-            sanitized = sanitizeLandBiome(biomePool, chosen, landBandIndex);
-            safe = repickIfSurfaceCave(biomePool, base, sanitized, blockX, blockZ, t, landBandIndex);
-            out = applyLandOverrides(biomePool, safe, blockX, blockZ, landBandIndex);
+            ctx.chosen[c] = chosen;
         }
-        if (landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) {
-            if (isColdBiome(out)) {
-                out = pickWarmFallback(biomePool, landBandIndex);
+    }
+
+    private static void pickTemperateMountains(PickContext ctx, BiomeCatalog catalog, CompiledTagPools pools, int land) {
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int landBandIndex = ctx.landBand[c];
+            if (landBandIndex != BAND_TEMPERATE || !isMountainLike(ctx, c)) {
+                continue;
+            }
+            RegistryEntry<Biome> chosen = pickFromPool(ctx, c, pools.entries(LAT_TEMPERATE_MOUNTAIN), ctx.base[c], landBandIndex, 0L);
+            if (chosen.matchesKey(BiomeKeys.CHERRY_GROVE) && !rollChance(ctx, 0xC7E22E55, 6L)) {
+                chosen = pickFrom(ctx, c, catalog, chosen, landBandIndex, CHERRY_GROVE_REPLACEMENTS);
             }
+            ctx.chosen[c] = chosen;
         }
-        out = enforceSnowyLatitudeRamp(biomePool, out, base, blockX, blockZ, effectiveRadius, landBandIndex);
-        out = clampWarmInColdZone(biomePool, base, out, zone, blockX, blockZ);
-        debugPick(blockX, blockZ, effectiveRadius, t, zone, base, out, false, out != sanitized, mangroveDecision);
-        return out;
     }
 
-    private static RegistryEntry<Biome> pickTropicalGradient(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
-
-        // Tropical band is [EQUATOR_MAX_FRAC..SUBTROPICAL_MAX_FRAC]. Wet near equator, arid near the edge.
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
+    private static void sanitizeAndOverride(PickContext ctx, BiomeCatalog catalog, CompiledTagPools pools, int land) {
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int landBandIndex = ctx.landBand[c];
+            RegistryEntry<Biome> sanitized = sanitizeLandBiome(catalog, ctx.chosen[c], landBandIndex);
+            RegistryEntry<Biome> safe = repickIfSurfaceCave(ctx, c, catalog, pools, sanitized, landBandIndex);
+            ctx.sanitized[c] = sanitized;
+            ctx.out[c] = applyLandOverrides(ctx, catalog, safe, landBandIndex);
         }
+    }
 
-        return switch (step) {
-            case 1 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 101, 0x7A11,
+    private static void enforceClimate(PickContext ctx, BiomeCatalog catalog, int land) {
+        for (int bits = land; bits != 0; bits &= bits - 1) {
+            int c = Integer.numberOfTrailingZeros(bits);
+            int landBandIndex = ctx.landBand[c];
+            RegistryEntry<Biome> base = ctx.base[c];
+            RegistryEntry<Biome> out = ctx.out[c];
+            if (landBandIndex == BAND_EQUATOR || landBandIndex == BAND_TROPICAL) {
+                if (catalog.is(out, BiomeCatalog.SNOWY)) {
+                    out = pickWarmFallback(catalog, landBandIndex);
+                }
+            }
+            out = enforceSnowyLatitudeRamp(ctx, c, catalog, out, base, landBandIndex);
+            out = clampWarmInColdZone(catalog, base, out, ctx.zone[c]);
+            ctx.out[c] = out;
+            debugPick(ctx, c, base, out, false, out != ctx.sanitized[c], ctx.mangroveLabel[c]);
+        }
+    }
+
+    private static RegistryEntry<Biome> pickForBand(PickContext ctx, int c, CompiledTagPools pools, RegistryEntry<Biome> base,
+                                                    int landBandIndex, int variant) {
+        return switch (landBandIndex) {
+            case BAND_EQUATOR -> pickFromWeightedTags(ctx, c, pools, base, BAND_EQUATOR, 0x1A21, variant, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
+            case BAND_TROPICAL -> pickTropicalGradient(ctx, c, pools, base, variant);
+            case BAND_TEMPERATE -> pickFromWeightedTags(ctx, c, pools, base, BAND_TEMPERATE, 0x2B32, variant, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
+            // The subpolar ramp has no filtered variant; its fallbacks re-pick from the full pools.
+            case BAND_SUBPOLAR -> pickSubpolarWithRamp(ctx, c, pools, base, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
+            default -> pickFromWeightedTags(ctx, c, pools, base, BAND_POLAR, 0x4D54, variant, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
+        };
+    }
+
+    private static RegistryEntry<Biome> pickTropicalGradient(PickContext ctx, int c, CompiledTagPools pools, RegistryEntry<Biome> base, int variant) {
+        return switch (tropicalSteps(ctx)[c]) {
+            case 1 -> pickFromWeightedTags(ctx, c, pools, base, 101, 0x7A11, variant,
                     LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 102, 0x7A22,
+            case 2 -> pickFromWeightedTags(ctx, c, pools, base, 102, 0x7A22, variant,
                     LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 103, 0x7A33,
+            case 3 -> pickFromWeightedTags(ctx, c, pools, base, 103, 0x7A33, variant,
                     LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTags(biomes, base, blockX, blockZ, 100, 0x7A00,
+            default -> pickFromWeightedTags(ctx, c, pools, base, 100, 0x7A00, variant,
                     LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
         };
     }
 
-    private static boolean isAridTropicalStep(int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
-
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
+    /** Dithered tropical ladder step per column: 0 arid, 1-2 transition, 3 wet tropics. */
+    private static int[] tropicalSteps(PickContext ctx) {
+        if (ctx.tropicalStepsFilled) {
+            return ctx.tropicalStep;
         }
-
-        return step == 0;
-    }
-
-    private static RegistryEntry<Biome> pickTropicalGradient(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
+        LatitudeContext latitude = ctx.latitude;
+        long seed = latitude.seed();
 
         // Tropical band is [EQUATOR_MAX_FRAC..SUBTROPICAL_MAX_FRAC]. Wet near equator, arid near the edge.
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
+        LatitudeProfile profile = latitude.latitudeProfile();
+        double jitterN = (chunkBlob(ctx, seed, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
+        double[] dither = ctx.gridScratch;
+        ctx.valueNoise(seed ^ TROPICAL_DITHER_SALT, DITHER_SCALE_BLOCKS, dither);
+
+        for (int c = 0; c < ctx.count; c++) {
+            double ladderT = profile.tropicalLadder(ctx.blockZ[c]);
+            double tJitter = ladderT + (jitterN * 0.12);
+            tJitter = clamp(tJitter, 0.0, 1.0);
+            tJitter = smoothstep(tJitter);
+
+            double stepFloat = tJitter * 4.0;
+            int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
+            double stepFrac = stepFloat - baseStep;
+            int step = baseStep;
+            if (baseStep < 3 && dither[c] < stepFrac) {
+                step = baseStep + 1;
+            }
+            ctx.tropicalStep[c] = step;
         }
-
-        return switch (step) {
-            case 1 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 101, 0x7A11,
-                    LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 102, 0x7A22,
-                    LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTags(biomes, base, blockX, blockZ, 103, 0x7A33,
-                    LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTags(biomes, base, blockX, blockZ, 100, 0x7A00,
-                    LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
-        };
+        ctx.tropicalStepsFilled = true;
+        return ctx.tropicalStep;
     }
 
-    private static RegistryEntry<Biome> oceanByLatitudeBandOrBase(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        if (bandIndex == 0) {
-            return pickFromTagNoiseOrFallback(biomes, LAT_OCEAN_TROPICAL, blockX, blockZ, 20,
-                    "minecraft:warm_ocean",
-                    "minecraft:lukewarm_ocean",
-                    "minecraft:deep_lukewarm_ocean");
+    private static PickContext patches(PickContext ctx) {
+        if (ctx.patchesFilled) {
+            return ctx;
         }
-        if (bandIndex == 1 || bandIndex == 2) {
-            return pickFromTagNoiseOrFallback(biomes, LAT_OCEAN_TEMPERATE, blockX, blockZ, 21,
-                    "minecraft:ocean",
-                    "minecraft:deep_ocean");
+        long seed = ctx.latitude.seed();
+        if (ctx.tile != null && ctx.quartGrid()) {
+            for (int c = 0; c < ctx.count; c++) {
+                int quartX = (ctx.chunkX << 2) + (c & 3);
+                int quartZ = (ctx.chunkZ << 2) + (c >> 2);
+                ctx.badlandsPatch[c] = ctx.tile.quartBelow(seed ^ BADLANDS_PATCH_SALT, BADLANDS_PATCH_SIZE_BLOCKS, 0,
+                        BADLANDS_PATCH_CHANCE, quartX, quartZ);
+                ctx.swampPatch[c] = ctx.tile.quartBelow(seed ^ SWAMP_PATCH_SALT, SWAMP_PATCH_SIZE_BLOCKS, SWAMP_PATCH_SALT,
+                        SWAMP_PATCH_CHANCE, quartX, quartZ);
+            }
+            ctx.patchesFilled = true;
+            return ctx;
         }
-        if (bandIndex == 3) {
-            return pickFromTagNoiseOrFallback(biomes, LAT_OCEAN_SUBPOLAR, blockX, blockZ, 22,
-                    "minecraft:cold_ocean",
-                    "minecraft:deep_cold_ocean");
+        double[] n = ctx.gridScratch;
+        ctx.blobNoiseBlocks(seed ^ BADLANDS_PATCH_SALT, BADLANDS_PATCH_SIZE_BLOCKS, 0, n);
+        for (int c = 0; c < ctx.count; c++) {
+            ctx.badlandsPatch[c] = n[c] < BADLANDS_PATCH_CHANCE;
         }
-        return pickFromTagNoiseOrFallback(biomes, LAT_OCEAN_POLAR, blockX, blockZ, 23,
-                "minecraft:frozen_ocean",
-                "minecraft:deep_frozen_ocean");
+        ctx.blobNoiseBlocks(seed ^ SWAMP_PATCH_SALT, SWAMP_PATCH_SIZE_BLOCKS, SWAMP_PATCH_SALT, n);
+        for (int c = 0; c < ctx.count; c++) {
+            ctx.swampPatch[c] = n[c] < SWAMP_PATCH_CHANCE;
+        }
+        ctx.patchesFilled = true;
+        return ctx;
+    }
+
+    private static RegistryEntry<Biome> pickBeachForBand(PickContext ctx, BiomeCatalog catalog, RegistryEntry<Biome> base, int bandIndex) {
+        if (bandIndex <= 2) {
+            RegistryEntry<Biome> entry = catalog.get(Handle.BEACH);
+            return entry != null ? entry : base;
+        }
+
+        long roll = hash64(ctx.chunkX, ctx.chunkZ, 0xBEEFBEEF);
+        boolean snowy = Long.remainderUnsigned(roll, 100L) < 70L;
+
+        RegistryEntry<Biome> entry = catalog.get(snowy ? Handle.SNOWY_BEACH : Handle.STONY_SHORE);
+        return entry != null ? entry : base;
     }
 
-    private static RegistryEntry<Biome> oceanByLatitudeBandOrBase(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
+    private static RegistryEntry<Biome> oceanByLatitudeBandOrBase(PickContext ctx, int c, BiomeCatalog catalog, CompiledTagPools pools,
+                                                                  RegistryEntry<Biome> base, int bandIndex) {
         if (bandIndex == 0) {
-            return pickFromTagNoiseOrFallback(biomes, base, LAT_OCEAN_TROPICAL, blockX, blockZ, 20,
-                    "minecraft:warm_ocean",
-                    "minecraft:lukewarm_ocean",
-                    "minecraft:deep_lukewarm_ocean");
+            return pickFromTagNoiseOrFallback(ctx, c, catalog, pools, base, LAT_OCEAN_TROPICAL, 20, OCEAN_TROPICAL_FALLBACKS);
         }
         if (bandIndex == 1 || bandIndex == 2) {
-            return pickFromTagNoiseOrFallback(biomes, base, LAT_OCEAN_TEMPERATE, blockX, blockZ, 21,
-                    "minecraft:ocean",
-                    "minecraft:deep_ocean");
+            return pickFromTagNoiseOrFallback(ctx, c, catalog, pools, base, LAT_OCEAN_TEMPERATE, 21, OCEAN_TEMPERATE_FALLBACKS);
         }
         if (bandIndex == 3) {
-            return pickFromTagNoiseOrFallback(biomes, base, LAT_OCEAN_SUBPOLAR, blockX, blockZ, 22,
-                    "minecraft:cold_ocean",
-                    "minecraft:deep_cold_ocean");
+            return pickFromTagNoiseOrFallback(ctx, c, catalog, pools, base, LAT_OCEAN_SUBPOLAR, 22, OCEAN_SUBPOLAR_FALLBACKS);
         }
-        return pickFromTagNoiseOrFallback(biomes, base, LAT_OCEAN_POLAR, blockX, blockZ, 23,
-                "minecraft:frozen_ocean",
-                "minecraft:deep_frozen_ocean");
+        return pickFromTagNoiseOrFallback(ctx, c, catalog, pools, base, LAT_OCEAN_POLAR, 23, OCEAN_POLAR_FALLBACKS);
     }
 
-    private static RegistryEntry<Biome> mushroomIslandOverride(Registry<Biome> biomes, RegistryEntry<Biome> oceanPick, int blockX, int blockZ) {
-        if (!isDeepOcean(oceanPick)) {
+    private static RegistryEntry<Biome> mushroomIslandOverride(PickContext ctx, BiomeCatalog catalog, RegistryEntry<Biome> oceanPick) {
+        if (!catalog.is(oceanPick, BiomeCatalog.DEEP_OCEAN)) {
             return oceanPick;
         }
 
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        long roll = hash64(chunkX, chunkZ, 0x5F3759DF);
+        long roll = hash64(ctx.chunkX, ctx.chunkZ, 0x5F3759DF);
         if (Long.remainderUnsigned(roll, 2000L) != 0L) {
             return oceanPick;
         }
 
-        try {
-            return biome(biomes, "minecraft:mushroom_fields");
-        } catch (Throwable ignored) {
-            return oceanPick;
-        }
+        RegistryEntry<Biome> entry = catalog.get(Handle.MUSHROOM_FIELDS);
+        return entry != null ? entry : oceanPick;
     }
 
-    private static RegistryEntry<Biome> mushroomIslandOverride(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> oceanPick, int blockX, int blockZ) {
-        if (!isDeepOcean(oceanPick)) {
-            return oceanPick;
+    private static RegistryEntry<Biome> applyLandOverrides(PickContext ctx, BiomeCatalog catalog, RegistryEntry<Biome> pick, int bandIndex) {
+        if (bandIndex == BAND_EQUATOR || bandIndex == BAND_TEMPERATE) {
+            if (pick.matchesKey(BiomeKeys.PLAINS) && rollChance(ctx, 0x7F4A7C15, 60L)) {
+                RegistryEntry<Biome> entry = catalog.get(Handle.SUNFLOWER_PLAINS);
+                if (entry != null) {
+                    pick = entry;
+                }
+            }
         }
 
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        long roll = hash64(chunkX, chunkZ, 0x5F3759DF);
-        if (Long.remainderUnsigned(roll, 2000L) != 0L) {
-            return oceanPick;
+        if (bandIndex == BAND_TEMPERATE) {
+            if (pick.matchesKey(BiomeKeys.DARK_FOREST) && rollChance(ctx, 0x51ED270B, 12000L)) {
+                RegistryEntry<Biome> entry = catalog.get(Handle.PALE_GARDEN);
+                if (entry != null) {
+                    pick = entry;
+                }
+            }
+
+            if ((pick.matchesKey(BiomeKeys.MEADOW) || pick.matchesKey(BiomeKeys.WINDSWEPT_HILLS))
+                    && rollChance(ctx, 0x31415926, 120L)) {
+                RegistryEntry<Biome> entry = catalog.get(Handle.STONY_PEAKS);
+                if (entry != null) {
+                    pick = entry;
+                }
+            }
         }
 
-        RegistryEntry<Biome> entry = entryById(biomes, "minecraft:mushroom_fields");
-        return entry != null ? entry : oceanPick;
+        return pick;
     }
 
+    /** Blended land band per column; warp and blend noise are per chunk, so they are sampled once for the grid. */
+    private static int[] landBands(PickContext ctx) {
+        if (ctx.landBandsFilled) {
+            return ctx.landBand;
+        }
+        LatitudeContext latitude = ctx.latitude;
+        long warpSeed = latitude.seed() ^ WARP_NOISE_SALT;
+        double warpNoise = (chunkBlob(ctx, warpSeed, WARP_NOISE_PATCH_CHUNKS, WARP_NOISE_SALT) * 2.0) - 1.0;
+        double blendNoise = chunkBlob(ctx, latitude.seed(), BLEND_NOISE_PATCH_CHUNKS, BLEND_NOISE_SALT);
+        for (int c = 0; c < ctx.count; c++) {
+            ctx.landBand[c] = latitudeBandIndexWithBlend(latitude, ctx.blockX[c], ctx.blockZ[c], ctx.zone[c], warpNoise, blendNoise);
+        }
+        ctx.landBandsFilled = true;
+        return ctx.landBand;
+    }
 
-    private static int latitudeBandIndexWithBlend(int blockX, int blockZ, int radius, LatitudeMath.LatitudeZone zone, double t) {
-        if (radius <= 0) {
+    private static int latitudeBandIndexWithBlend(LatitudeContext latitude, int blockX, int blockZ, LatitudeMath.LatitudeZone zone,
+                                                  double warpNoise, double chunkBlendNoise) {
+        if (latitude.radius() <= 0) {
             return bandIndexForZone(zone);
         }
 
-        double latNorm = clamp(t, 0.0, 1.0);
-        int bandIndex = crispBandIndex(latNorm);
+        int bandIndex = latitude.latitudeProfile().band(blockZ);
 
         if (TRANSITION_MODE == TransitionMode.OFF) {
             return bandIndex;
@@ -908,14 +598,14 @@ public final class LatitudeBiomes {
         if (bandIndex <= BAND_EQUATOR) {
             lowerBandIndex = BAND_EQUATOR;
             upperBandIndex = BAND_TROPICAL;
-            boundaryBlocks = bandBoundaryBlocks(0, radius);
+            boundaryBlocks = latitude.bandBoundaryBlocks(0);
         } else if (bandIndex >= BAND_POLAR) {
             lowerBandIndex = BAND_SUBPOLAR;
             upperBandIndex = BAND_POLAR;
-            boundaryBlocks = bandBoundaryBlocks(3, radius);
+            boundaryBlocks = latitude.bandBoundaryBlocks(3);
         } else {
-            int loBoundary = bandBoundaryBlocks(bandIndex - 1, radius);
-            int hiBoundary = bandBoundaryBlocks(bandIndex, radius);
+            int loBoundary = latitude.bandBoundaryBlocks(bandIndex - 1);
+            int hiBoundary = latitude.bandBoundaryBlocks(bandIndex);
             int dLo = Math.abs(absZ - loBoundary);
             int dHi = Math.abs(absZ - hiBoundary);
 
@@ -934,8 +624,6 @@ public final class LatitudeBiomes {
             return bandIndex;
         }
 
-        long warpSeed = WORLD_SEED ^ WARP_NOISE_SALT;
-        double warpNoise = (blobNoise01(warpSeed, blockX >> 4, blockZ >> 4, WARP_NOISE_PATCH_CHUNKS, WARP_NOISE_SALT) * 2.0) - 1.0;
         double maxWarp = Math.min(WARP_AMPLITUDE_BLOCKS, halfWidthBlocks);
         double boundaryWarp = warpNoise * maxWarp;
         double effectiveBoundary = boundaryBlocks + boundaryWarp;
@@ -951,18 +639,18 @@ public final class LatitudeBiomes {
 
         double blendNoise;
         if (TRANSITION_MODE == TransitionMode.CELLHASH_PATCHES) {
-            long ditherSeed = WORLD_SEED ^ DITHER_NOISE_SALT;
+            long ditherSeed = latitude.seed() ^ DITHER_NOISE_SALT;
             int cellSize = BLEND_DITHER_SCALE_BLOCKS;
             int cellX = Math.floorDiv(blockX, cellSize);
             int cellZ = Math.floorDiv(blockZ, cellSize);
             blendNoise = cellHash01(ditherSeed, cellX, cellZ);
         } else {
-            blendNoise = blobNoise01(WORLD_SEED, blockX >> 4, blockZ >> 4, BLEND_NOISE_PATCH_CHUNKS, BLEND_NOISE_SALT);
+            blendNoise = chunkBlendNoise;
         }
 
         int chosenBandIndex = blendNoise < blendT ? upperBandIndex : lowerBandIndex;
 
-        if (DEBUG_BLEND
+        if (latitude.debugBlend()
                 && (blockX & 15) == 0
                 && (blockZ & 15) == 0
                 && chosenBandIndex != bandIndex
@@ -990,22 +678,6 @@ public final class LatitudeBiomes {
         return chosenBandIndex;
     }
 
-    private static int crispBandIndex(double t) {
-        if (t < LatitudeMath.EQUATOR_MAX_FRAC) return BAND_EQUATOR;
-        if (t < LatitudeMath.SUBTROPICAL_MAX_FRAC) return BAND_TROPICAL;
-        if (t < LatitudeMath.TEMPERATE_MAX_FRAC) return BAND_TEMPERATE;
-        if (t < LatitudeMath.SUBPOLAR_MAX_FRAC) return BAND_SUBPOLAR;
-        return BAND_POLAR;
-    }
-
-    private static int bandBoundaryBlocks(int boundaryIndex, int radius) {
-        return switch (boundaryIndex) {
-            case 0 -> (int) Math.round(LatitudeMath.EQUATOR_MAX_FRAC * (double) radius);
-            case 1 -> (int) Math.round(LatitudeMath.SUBTROPICAL_MAX_FRAC * (double) radius);
-            case 2 -> (int) Math.round(LatitudeMath.TEMPERATE_MAX_FRAC * (double) radius);
-            default -> (int) Math.round(LatitudeMath.SUBPOLAR_MAX_FRAC * (double) radius);
-        };
-    }
 
     private static int clampInt(int v, int lo, int hi) {
         return Math.max(lo, Math.min(hi, v));
@@ -1024,373 +696,120 @@ public final class LatitudeBiomes {
         return clamp(deg, 0.0, 90.0);
     }
 
-    private static RegistryEntry<Biome> biome(Registry<Biome> biomes, String id) {
-        Identifier ident = Identifier.of(id);
-        return biomes.getEntry(ident).orElseThrow();
-    }
-
-    private static RegistryEntry<Biome> pickFrom(Registry<Biome> biomes, int blockX, int blockZ, int bandIndex, String... options) {
-        int cellX = Math.floorDiv(blockX, VARIANT_CELL_SIZE_BLOCKS);
-        int cellZ = Math.floorDiv(blockZ, VARIANT_CELL_SIZE_BLOCKS);
+    private static RegistryEntry<Biome> pickFrom(PickContext ctx, int c, BiomeCatalog catalog, RegistryEntry<Biome> fallback, int bandIndex, Handle[] options) {
+        int cellX = Math.floorDiv(ctx.blockX[c], VARIANT_CELL_SIZE_BLOCKS);
+        int cellZ = Math.floorDiv(ctx.blockZ[c], VARIANT_CELL_SIZE_BLOCKS);
         int idx = (int) Long.remainderUnsigned(hash64(cellX, cellZ, bandIndex), options.length);
-        return biome(biomes, options[idx]);
+        RegistryEntry<Biome> entry = catalog.get(options[idx]);
+        return entry != null ? entry : catalog.firstOf(options, fallback);
     }
 
-    private static TagKey<Biome> weightedTagForRoll(int roll, TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
+    private static Pool weightedTagForRoll(int roll, Pool primary, Pool secondary, Pool accent) {
         if (roll < 70) return primary;
         if (roll < 95) return secondary;
         return accent;
     }
 
-    private static TagKey<Biome> subpolarTagForRoll(int roll, boolean snowyPool, TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
+    private static Pool subpolarTagForRoll(int roll, boolean snowyPool, Pool primary, Pool secondary, Pool accent) {
         if (roll >= 95) {
             return accent;
         }
         return snowyPool ? primary : secondary;
     }
 
-    private static double subpolarSnowProbability(double absLatFraction) {
-        double subpolarStart = LatitudeMath.TEMPERATE_MAX_FRAC;
-        double polarStart = LatitudeMath.SUBPOLAR_MAX_FRAC;
-        double t = 0.0;
-        if (polarStart > subpolarStart) {
-            t = (absLatFraction - subpolarStart) / (polarStart - subpolarStart);
-        }
-        t = LatitudeMath.clamp(t, 0.0, 1.0);
-
-        double tw = LatitudeMath.clamp((t - 0.25) / 0.50, 0.0, 1.0);
-        double pSnow = tw * tw * (3.0 - 2.0 * tw);
-
-        if (t > 0.90) pSnow = 1.0;
-        if (t < 0.10) pSnow = 0.0;
-
-        return pSnow;
-    }
-
-    private static boolean useSubpolarSnowyPool(double absLatFraction, int blockX, int blockZ) {
-        double pSnow = subpolarSnowProbability(absLatFraction);
-        int cellX = Math.floorDiv(blockX, VARIANT_CELL_SIZE_BLOCKS);
-        int cellZ = Math.floorDiv(blockZ, VARIANT_CELL_SIZE_BLOCKS);
-        double r = LatitudeMath.hash01(WORLD_SEED, cellX, cellZ, (int) SUBPOLAR_RAMP_SALT);
+    private static boolean useSubpolarSnowyPool(PickContext ctx, int c) {
+        double pSnow = ctx.latitude.latitudeProfile().subpolarSnow(ctx.blockZ[c]);
+        int cellX = Math.floorDiv(ctx.blockX[c], VARIANT_CELL_SIZE_BLOCKS);
+        int cellZ = Math.floorDiv(ctx.blockZ[c], VARIANT_CELL_SIZE_BLOCKS);
+        double r = LatitudeMath.hash01(ctx.latitude.seed(), cellX, cellZ, (int) SUBPOLAR_RAMP_SALT);
         return r < pSnow;
     }
 
-    private static RegistryEntry<Biome> pickSubpolarWithRamp(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                             double absLatFraction, int bandIndex, int weightSalt,
-                                                             TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt);
-        boolean snowyPool = useSubpolarSnowyPool(absLatFraction, blockX, blockZ);
-        TagKey<Biome> tag = subpolarTagForRoll(roll, snowyPool, primary, secondary, accent);
-        return pickFromTagNoiseOrBase(biomes, tag, base, blockX, blockZ, bandIndex);
+    private static RegistryEntry<Biome> pickSubpolarWithRamp(PickContext ctx, int c, CompiledTagPools pools, RegistryEntry<Biome> base,
+                                                             int bandIndex, int weightSalt,
+                                                             Pool primary, Pool secondary, Pool accent) {
+        int roll = weightedRoll(ctx, weightSalt);
+        boolean snowyPool = useSubpolarSnowyPool(ctx, c);
+        Pool tag = subpolarTagForRoll(roll, snowyPool, primary, secondary, accent);
+        return pickFromPool(ctx, c, pools.entries(tag), base, bandIndex, 0L);
     }
 
-    private static RegistryEntry<Biome> pickSubpolarWithRamp(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                             double absLatFraction, int bandIndex, int weightSalt,
-                                                             TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt);
-        boolean snowyPool = useSubpolarSnowyPool(absLatFraction, blockX, blockZ);
-        TagKey<Biome> tag = subpolarTagForRoll(roll, snowyPool, primary, secondary, accent);
-        return pickFromTagNoiseOrBase(biomes, tag, base, blockX, blockZ, bandIndex);
+    /** 0..99 roll shared by the whole chunk. */
+    private static int weightedRoll(PickContext ctx, int salt) {
+        int cached = ctx.roll(salt);
+        if (cached != PickContext.UNSET) {
+            return cached;
+        }
+        int patchSizeChunks = Math.max(1, VARIANT_CELL_SIZE_BLOCKS >> 4);
+        int roll = ctx.tile != null
+                ? ctx.tile.chunkRoll(ctx.latitude.seed(), patchSizeChunks, salt, ctx.chunkX, ctx.chunkZ)
+                : rollFromBlob(blobNoise01(ctx.latitude.seed(), ctx.chunkX, ctx.chunkZ, patchSizeChunks, salt));
+        ctx.roll(salt, roll);
+        return roll;
     }
 
-    private static int weightedRoll(int blockX, int blockZ, int salt) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        int patchSizeChunks = Math.max(1, VARIANT_CELL_SIZE_BLOCKS >> 4);
-        double blob = blobNoise01(WORLD_SEED, chunkX, chunkZ, patchSizeChunks, salt);
+    static int rollFromBlob(double blob) {
         int roll = (int) Math.floor(blob * 100.0);
         return clampInt(roll, 0, 99);
     }
 
-    private static RegistryEntry<Biome> pickFromWeightedTags(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                             int bandIndex, int weightSalt,
-                                                             TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBase(biomes, tag, base, blockX, blockZ, bandIndex);
-    }
-
-    private static RegistryEntry<Biome> pickFromWeightedTagsNoMangrove(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                                       int bandIndex, int weightSalt,
-                                                                       TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt + (int) MANGROVE_FALLBACK_SALT);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBaseFiltered(biomes, tag, base, blockX, blockZ, bandIndex, MANGROVE_FALLBACK_SALT, true);
-    }
-
-    private static RegistryEntry<Biome> pickFromWeightedTagsNoSwamp(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                                    int bandIndex, int weightSalt,
-                                                                    TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt + (int) SWAMP_FALLBACK_SALT);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBaseFilteredSwamp(biomes, tag, base, blockX, blockZ, bandIndex, SWAMP_FALLBACK_SALT, true);
-    }
-
-    private static RegistryEntry<Biome> pickFromWeightedTags(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                             int bandIndex, int weightSalt,
-                                                             TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBase(biomes, tag, base, blockX, blockZ, bandIndex);
-    }
-
-    private static RegistryEntry<Biome> pickFromWeightedTagsNoMangrove(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                                       int bandIndex, int weightSalt,
-                                                                       TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt + (int) MANGROVE_FALLBACK_SALT);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBaseFiltered(biomes, tag, base, blockX, blockZ, bandIndex, MANGROVE_FALLBACK_SALT, true);
-    }
-
-    private static RegistryEntry<Biome> pickFromWeightedTagsNoSwamp(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ,
-                                                                    int bandIndex, int weightSalt,
-                                                                    TagKey<Biome> primary, TagKey<Biome> secondary, TagKey<Biome> accent) {
-        int roll = weightedRoll(blockX, blockZ, weightSalt + (int) SWAMP_FALLBACK_SALT);
-        TagKey<Biome> tag = weightedTagForRoll(roll, primary, secondary, accent);
-        return pickFromTagNoiseOrBaseFilteredSwamp(biomes, tag, base, blockX, blockZ, bandIndex, SWAMP_FALLBACK_SALT, true);
+    private static RegistryEntry<Biome> pickFromWeightedTags(PickContext ctx, int c, CompiledTagPools pools, RegistryEntry<Biome> base,
+                                                             int bandIndex, int weightSalt, int variant,
+                                                             Pool primary, Pool secondary, Pool accent) {
+        return switch (variant) {
+            case POOLS_NO_MANGROVE -> {
+                int roll = weightedRoll(ctx, weightSalt + (int) MANGROVE_FALLBACK_SALT);
+                Pool tag = weightedTagForRoll(roll, primary, secondary, accent);
+                yield pickFromPool(ctx, c, pools.entriesNoMangrove(tag), base, bandIndex, MANGROVE_FALLBACK_SALT);
+            }
+            case POOLS_NO_SWAMP -> {
+                int roll = weightedRoll(ctx, weightSalt + (int) SWAMP_FALLBACK_SALT);
+                Pool tag = weightedTagForRoll(roll, primary, secondary, accent);
+                yield pickFromPool(ctx, c, pools.entriesNoSwamp(tag), base, bandIndex, SWAMP_FALLBACK_SALT);
+            }
+            default -> {
+                int roll = weightedRoll(ctx, weightSalt);
+                Pool tag = weightedTagForRoll(roll, primary, secondary, accent);
+                yield pickFromPool(ctx, c, pools.entries(tag), base, bandIndex, 0L);
+            }
+        };
     }
 
-    private static RegistryEntry<Biome> pickFromTagNoiseOrFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, TagKey<Biome> tag, int blockX, int blockZ, int bandIndex, String... fallbackOptions) {
-        List<RegistryEntry<Biome>> entries = entriesForTag(biomes, tag);
-        int size = entries.size();
-        if (size <= 0) {
-            return pickFromFallbacks(biomes, base, fallbackOptions);
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex);
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
+    private static RegistryEntry<Biome> pickFromTagNoiseOrFallback(PickContext ctx, int c, BiomeCatalog catalog, CompiledTagPools pools,
+                                                                   RegistryEntry<Biome> base, Pool tag, int bandIndex, Handle[] fallbackOptions) {
+        RegistryEntry<Biome>[] entries = pools.entries(tag);
+        if (entries.length <= 0) {
+            return pickFrom(ctx, c, catalog, base, bandIndex, fallbackOptions);
         }
-        return entries.get(idx);
+        return pickFromPool(ctx, c, entries, null, bandIndex, 0L);
     }
 
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBaseFilteredSwamp(Collection<RegistryEntry<Biome>> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base,
-                                                                            int blockX, int blockZ, int bandIndex, long extraSalt, boolean disallowSwamp) {
-        List<RegistryEntry<Biome>> entries = entriesForTag(biomes, tag);
-        if (disallowSwamp) {
-            entries = filterSwamp(entries);
-        }
-        int size = entries.size();
+    private static RegistryEntry<Biome> pickFromPool(PickContext ctx, int c, RegistryEntry<Biome>[] entries, RegistryEntry<Biome> base,
+                                                     int bandIndex, long extraSalt) {
+        int size = entries.length;
         if (size <= 0) {
             return base;
         }
 
-        int scaleBlocks = 2048;
         long seed = 0L;
         long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex) ^ extraSalt;
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
+        double n = ctx.poolNoise(salted, POOL_NOISE_SCALE_BLOCKS)[c];
         int idx = (int) Math.floor(n * (double) size);
         if (idx >= size) {
             idx = size - 1;
         }
-        return entries.get(idx);
+        return entries[idx];
     }
 
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBaseFilteredSwamp(Registry<Biome> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base,
-                                                                            int blockX, int blockZ, int bandIndex, long extraSalt, boolean disallowSwamp) {
-        List<RegistryEntry<Biome>> entries = new ArrayList<>();
-        for (RegistryEntry<Biome> entry : biomes.iterateEntries(tag)) {
-            entries.add(entry);
-        }
-
-        entries.sort(Comparator.comparing(entry -> entry.getKey()
-                .map(key -> key.getValue().toString())
-                .orElse("")));
-
-        if (disallowSwamp) {
-            entries = filterSwamp(entries);
-        }
-
-        int size = entries.size();
-        if (size <= 0) {
-            return base;
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex) ^ extraSalt;
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
-    }
-
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBaseFiltered(Registry<Biome> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base,
-                                                                       int blockX, int blockZ, int bandIndex, long extraSalt, boolean disallowMangrove) {
-        List<RegistryEntry<Biome>> entries = new ArrayList<>();
-        for (RegistryEntry<Biome> entry : biomes.iterateEntries(tag)) {
-            entries.add(entry);
-        }
-
-        entries.sort(Comparator.comparing(entry -> entry.getKey()
-                .map(key -> key.getValue().toString())
-                .orElse("")));
-
-        if (disallowMangrove) {
-            entries = filterMangrove(entries);
-        }
-
-        int size = entries.size();
-        if (size <= 0) {
-            return base;
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex) ^ extraSalt;
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
-    }
-
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBaseFiltered(Collection<RegistryEntry<Biome>> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base,
-                                                                       int blockX, int blockZ, int bandIndex, long extraSalt, boolean disallowMangrove) {
-        List<RegistryEntry<Biome>> entries = entriesForTag(biomes, tag);
-        if (disallowMangrove) {
-            entries = filterMangrove(entries);
-        }
-        int size = entries.size();
-        if (size <= 0) {
-            return base;
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex) ^ extraSalt;
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
-    }
-
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBase(Collection<RegistryEntry<Biome>> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        List<RegistryEntry<Biome>> entries = entriesForTag(biomes, tag);
-        int size = entries.size();
-        if (size <= 0) {
-            return base;
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex);
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
-    }
-
-    private static RegistryEntry<Biome> pickFromFallbacks(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, String... fallbackOptions) {
-        for (String fallback : fallbackOptions) {
-            RegistryEntry<Biome> entry = entryById(biomes, fallback);
-            if (entry != null) {
-                return entry;
-            }
-        }
-        return base;
-    }
-
-    private static List<RegistryEntry<Biome>> entriesForTag(Collection<RegistryEntry<Biome>> biomes, TagKey<Biome> tag) {
-        List<RegistryEntry<Biome>> entries = new ArrayList<>();
-        for (RegistryEntry<Biome> entry : biomes) {
-            if (entry.isIn(tag)) {
-                entries.add(entry);
-            }
-        }
-
-        entries.sort(Comparator.comparing(entry -> entry.getKey()
-                .map(key -> key.getValue().toString())
-                .orElse("")));
-        return entries;
-    }
-
-    private static List<RegistryEntry<Biome>> filterMangrove(List<RegistryEntry<Biome>> entries) {
-        if (entries.isEmpty()) {
-            return entries;
-        }
-        List<RegistryEntry<Biome>> filtered = new ArrayList<>(entries.size());
-        for (RegistryEntry<Biome> entry : entries) {
-            if (!isMangroveCandidate(entry)) {
-                filtered.add(entry);
-            }
-        }
-        return filtered;
-    }
-
-    private static List<RegistryEntry<Biome>> filterSwamp(List<RegistryEntry<Biome>> entries) {
-        if (entries.isEmpty()) {
-            return entries;
-        }
-        List<RegistryEntry<Biome>> filtered = new ArrayList<>(entries.size());
-        for (RegistryEntry<Biome> entry : entries) {
-            if (!isSwampCandidate(entry)) {
-                filtered.add(entry);
-            }
-        }
-        return filtered;
-    }
-
-    private static RegistryEntry<Biome> entryById(Collection<RegistryEntry<Biome>> biomes, String id) {
-        Identifier target = Identifier.of(id);
-        for (RegistryEntry<Biome> entry : biomes) {
-            var key = entry.getKey();
-            if (key.isPresent() && key.get().getValue().equals(target)) {
-                return entry;
-            }
-        }
-        return null;
-    }
-
-    private static boolean rollChance(int blockX, int blockZ, int salt, long denominator) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-        long roll = hash64(chunkX, chunkZ, salt);
-        return Long.remainderUnsigned(roll, denominator) == 0L;
-    }
-
-    private static boolean isBiomeId(RegistryEntry<Biome> entry, String id) {
-        Identifier target = Identifier.of(id);
-        return entry.getKey()
-                .map(key -> key.getValue().equals(target))
-                .orElse(false);
-    }
+    private static boolean rollChance(PickContext ctx, int salt, long denominator) {
+        long roll = hash64(ctx.chunkX, ctx.chunkZ, salt);
+        return Long.remainderUnsigned(roll, denominator) == 0L;
+    }
 
     private static String biomeId(RegistryEntry<Biome> entry) {
         return entry.getKey().map(key -> key.getValue().toString()).orElse("?");
     }
 
-    private static boolean isColdBiome(RegistryEntry<Biome> entry) {
-        if (entry == null) {
-            return false;
-        }
-        String path = entry.getKey().map(key -> key.getValue().getPath()).orElse("");
-        return path.contains("snow") || path.contains("ice") || path.contains("frozen");
-    }
-
-    private static boolean isSnowyVariant(RegistryEntry<Biome> entry) {
-        if (entry == null) {
-            return false;
-        }
-        String path = entry.getKey().map(key -> key.getValue().getPath()).orElse("");
-        return path.contains("snow") || path.contains("ice") || path.contains("frozen");
-    }
-
-    private static boolean isGroveBiome(RegistryEntry<Biome> entry) {
-        return isBiomeId(entry, "minecraft:grove");
-    }
-
     private static double snowyRampAlpha(double deg) {
         if (deg <= SNOWY_RAMP_START_DEG) {
             return 0.0;
@@ -1402,222 +821,75 @@ public final class LatitudeBiomes {
         return smoothstep(t);
     }
 
-    private static RegistryEntry<Biome> pickNonSnowyFallback(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        if (base != null && !isSnowyVariant(base) && !isGroveBiome(base)) {
-            return base;
-        }
-        String[] options = bandIndex <= BAND_TEMPERATE
-                ? new String[]{"minecraft:taiga", "minecraft:forest", "minecraft:plains", "minecraft:meadow"}
-                : new String[]{"minecraft:taiga", "minecraft:old_growth_pine_taiga", "minecraft:meadow", "minecraft:forest", "minecraft:plains"};
-        for (String option : options) {
-            try {
-                RegistryEntry<Biome> entry = biome(biomes, option);
-                if (!isSnowyVariant(entry) && !isGroveBiome(entry)) {
-                    return entry;
-                }
-            } catch (Throwable ignored) {
-            }
-        }
-        return base;
-    }
-
-    private static RegistryEntry<Biome> pickNonSnowyFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int bandIndex) {
-        if (base != null && !isSnowyVariant(base) && !isGroveBiome(base)) {
+    private static RegistryEntry<Biome> pickNonSnowyFallback(BiomeCatalog catalog, RegistryEntry<Biome> base, int bandIndex) {
+        if (base != null && !catalog.is(base, BiomeCatalog.SNOWY | BiomeCatalog.GROVE)) {
             return base;
         }
-        String[] options = bandIndex <= BAND_TEMPERATE
-                ? new String[]{"minecraft:taiga", "minecraft:forest", "minecraft:plains", "minecraft:meadow"}
-                : new String[]{"minecraft:taiga", "minecraft:old_growth_pine_taiga", "minecraft:meadow", "minecraft:forest", "minecraft:plains"};
-        for (String option : options) {
-            RegistryEntry<Biome> entry = entryById(biomes, option);
-            if (entry != null && !isSnowyVariant(entry) && !isGroveBiome(entry)) {
+        Handle[] options = bandIndex <= BAND_TEMPERATE ? NON_SNOWY_TEMPERATE_FALLBACKS : NON_SNOWY_COLD_FALLBACKS;
+        for (Handle option : options) {
+            RegistryEntry<Biome> entry = catalog.get(option);
+            if (entry != null && !catalog.is(entry, BiomeCatalog.SNOWY | BiomeCatalog.GROVE)) {
                 return entry;
             }
         }
         return base;
     }
 
-    private static RegistryEntry<Biome> enforceSnowyLatitudeRamp(Registry<Biome> biomes, RegistryEntry<Biome> pick, RegistryEntry<Biome> base,
-                                                                 int blockX, int blockZ, int radius, int bandIndex) {
-        double deg = latitudeDegreesFromRadius(blockZ, radius);
-        if (isGroveBiome(pick) && deg < GROVE_MIN_DEG) {
-            return pickNonSnowyFallback(biomes, base, blockX, blockZ, bandIndex);
+    private static RegistryEntry<Biome> enforceSnowyLatitudeRamp(PickContext ctx, int c, BiomeCatalog catalog, RegistryEntry<Biome> pick,
+                                                                 RegistryEntry<Biome> base, int bandIndex) {
+        double deg = latitudeDegreesFromRadius(ctx.blockZ[c], ctx.latitude.radius());
+        if (catalog.is(pick, BiomeCatalog.GROVE) && deg < GROVE_MIN_DEG) {
+            return pickNonSnowyFallback(catalog, base, bandIndex);
         }
-        if (!isSnowyVariant(pick)) {
+        if (!catalog.is(pick, BiomeCatalog.SNOWY)) {
             return pick;
         }
         double alpha = snowyRampAlpha(deg);
-        int cellX = Math.floorDiv(blockX, VARIANT_CELL_SIZE_BLOCKS);
-        int cellZ = Math.floorDiv(blockZ, VARIANT_CELL_SIZE_BLOCKS);
-        double r = cellHash01(WORLD_SEED ^ SNOWY_RAMP_SALT, cellX, cellZ);
+        int cellX = Math.floorDiv(ctx.blockX[c], VARIANT_CELL_SIZE_BLOCKS);
+        int cellZ = Math.floorDiv(ctx.blockZ[c], VARIANT_CELL_SIZE_BLOCKS);
+        double r = cellHash01(ctx.latitude.seed() ^ SNOWY_RAMP_SALT, cellX, cellZ);
         if (r < alpha) {
             return pick;
         }
-        return pickNonSnowyFallback(biomes, base, blockX, blockZ, bandIndex);
+        return pickNonSnowyFallback(catalog, base, bandIndex);
     }
 
-    private static RegistryEntry<Biome> enforceSnowyLatitudeRamp(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> pick, RegistryEntry<Biome> base,
-                                                                 int blockX, int blockZ, int radius, int bandIndex) {
-        double deg = latitudeDegreesFromRadius(blockZ, radius);
-        if (isGroveBiome(pick) && deg < GROVE_MIN_DEG) {
-            return pickNonSnowyFallback(biomes, base, bandIndex);
-        }
-        if (!isSnowyVariant(pick)) {
-            return pick;
-        }
-        double alpha = snowyRampAlpha(deg);
-        int cellX = Math.floorDiv(blockX, VARIANT_CELL_SIZE_BLOCKS);
-        int cellZ = Math.floorDiv(blockZ, VARIANT_CELL_SIZE_BLOCKS);
-        double r = cellHash01(WORLD_SEED ^ SNOWY_RAMP_SALT, cellX, cellZ);
-        if (r < alpha) {
-            return pick;
-        }
-        return pickNonSnowyFallback(biomes, base, bandIndex);
-    }
-
-    private static RegistryEntry<Biome> clampWarmInColdZone(Registry<Biome> biomes, RegistryEntry<Biome> base,
-                                                            RegistryEntry<Biome> pick, LatitudeMath.LatitudeZone zone,
-                                                            int blockX, int blockZ) {
-        if (pick == null) {
-            return base;
-        }
-        if (zone != LatitudeMath.LatitudeZone.SUBPOLAR && zone != LatitudeMath.LatitudeZone.POLAR) {
-            return pick;
-        }
-        if (!isWarmBiome(pick)) {
-            return pick;
-        }
-        return pickSnowyFallback(biomes, base);
-    }
-
-    private static RegistryEntry<Biome> clampWarmInColdZone(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base,
-                                                            RegistryEntry<Biome> pick, LatitudeMath.LatitudeZone zone,
-                                                            int blockX, int blockZ) {
+    private static RegistryEntry<Biome> clampWarmInColdZone(BiomeCatalog catalog, RegistryEntry<Biome> base,
+                                                            RegistryEntry<Biome> pick, LatitudeMath.LatitudeZone zone) {
         if (pick == null) {
             return base;
         }
         if (zone != LatitudeMath.LatitudeZone.SUBPOLAR && zone != LatitudeMath.LatitudeZone.POLAR) {
             return pick;
         }
-        if (!isWarmBiome(pick)) {
+        if (!catalog.is(pick, BiomeCatalog.WARM)) {
             return pick;
         }
-        return pickSnowyFallback(biomes, base);
-    }
-
-    private static boolean isWarmBiome(RegistryEntry<Biome> entry) {
-        if (entry == null) {
-            return false;
-        }
-        return entry.getKey()
-                .map(key -> WARM_BIOME_BLOCKLIST.contains(key.getValue().toString()))
-                .orElse(false);
-    }
-
-    private static RegistryEntry<Biome> pickSnowyFallback(Registry<Biome> biomes, RegistryEntry<Biome> base) {
-        String[] options = new String[]{"minecraft:snowy_taiga", "minecraft:snowy_plains"};
-        for (String option : options) {
-            try {
-                return biome(biomes, option);
-            } catch (Throwable ignored) {
-                // try next
-            }
-        }
-        return base;
-    }
-
-    private static RegistryEntry<Biome> pickSnowyFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base) {
-        String[] options = new String[]{"minecraft:snowy_taiga", "minecraft:snowy_plains"};
-        for (String option : options) {
-            RegistryEntry<Biome> entry = entryById(biomes, option);
-            if (entry != null) {
-                return entry;
-            }
-        }
-        return base;
-    }
-
-    private static RegistryEntry<Biome> pickColdFallback(Registry<Biome> biomes, RegistryEntry<Biome> base,
-                                                         int blockX, int blockZ, int bandIndex) {
-        if (bandIndex >= BAND_POLAR && rollChance(blockX, blockZ, 0x5EEDC0DE, 40L)) {
-            try {
-                return biome(biomes, "minecraft:ice_spikes");
-            } catch (Throwable ignored) {
-                // fall through
-            }
-        }
-        String[] options = bandIndex >= BAND_POLAR
-                ? new String[]{"minecraft:snowy_plains", "minecraft:snowy_taiga", "minecraft:taiga"}
-                : new String[]{"minecraft:snowy_taiga", "minecraft:snowy_plains", "minecraft:taiga"};
-        for (String option : options) {
-            try {
-                return biome(biomes, option);
-            } catch (Throwable ignored) {
-                // try next
-            }
-        }
-        return base;
-    }
-
-    private static RegistryEntry<Biome> pickColdFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base,
-                                                         int blockX, int blockZ, int bandIndex) {
-        if (bandIndex >= BAND_POLAR && rollChance(blockX, blockZ, 0x5EEDC0DE, 40L)) {
-            RegistryEntry<Biome> spikes = entryById(biomes, "minecraft:ice_spikes");
-            if (spikes != null) {
-                return spikes;
-            }
-        }
-        String[] options = bandIndex >= BAND_POLAR
-                ? new String[]{"minecraft:snowy_plains", "minecraft:snowy_taiga", "minecraft:taiga"}
-                : new String[]{"minecraft:snowy_taiga", "minecraft:snowy_plains", "minecraft:taiga"};
-        for (String option : options) {
-            RegistryEntry<Biome> entry = entryById(biomes, option);
-            if (entry != null) {
-                return entry;
-            }
-        }
-        return base;
+        return catalog.firstOf(SNOWY_FALLBACKS, base);
     }
 
-    private static RegistryEntry<Biome> pickWarmFallback(Registry<Biome> biomes, int bandIndex) {
-        String target = bandIndex == BAND_EQUATOR ? "minecraft:jungle" : "minecraft:savanna";
-        try {
-            return biome(biomes, target);
-        } catch (Throwable ignored) {
-            try {
-                return biome(biomes, "minecraft:desert");
-            } catch (Throwable ignoredAgain) {
-                return biome(biomes, "minecraft:jungle");
-            }
-        }
-    }
-
-    private static RegistryEntry<Biome> pickWarmFallback(Collection<RegistryEntry<Biome>> biomes, int bandIndex) {
-        String target = bandIndex == BAND_EQUATOR ? "minecraft:jungle" : "minecraft:savanna";
-        RegistryEntry<Biome> entry = entryById(biomes, target);
+    private static RegistryEntry<Biome> pickWarmFallback(BiomeCatalog catalog, int bandIndex) {
+        RegistryEntry<Biome> entry = catalog.get(bandIndex == BAND_EQUATOR ? Handle.JUNGLE : Handle.SAVANNA);
         if (entry != null) {
             return entry;
         }
-        entry = entryById(biomes, "minecraft:desert");
-        if (entry != null) {
-            return entry;
-        }
-        entry = entryById(biomes, "minecraft:jungle");
-        return entry != null ? entry : biomes.stream().findFirst().orElse(null);
+        entry = catalog.get(Handle.DESERT);
+        return entry != null ? entry : catalog.get(Handle.JUNGLE);
     }
 
-    private static void debugPick(int blockX, int blockZ, int borderRadiusBlocks, double t, LatitudeMath.LatitudeZone zone,
-                                  RegistryEntry<Biome> base, RegistryEntry<Biome> out, boolean beachOverride, boolean rareOverride, String mangroveDecision) {
-        if (!DEBUG_BIOMES) return;
+    private static void debugPick(PickContext ctx, int c, RegistryEntry<Biome> base, RegistryEntry<Biome> out,
+                                  boolean beachOverride, boolean rareOverride, String mangroveDecision) {
+        LatitudeContext latitude = ctx.latitude;
+        if (!latitude.debugBiomes()) return;
         if (DEBUG_COUNT.incrementAndGet() > DEBUG_LIMIT) return;
         String decision = mangroveDecision != null ? mangroveDecision : "none";
         LOGGER.info("[LAT_PICK] x={} z={} absZ={} radius={} t={} zone={} base={} out={} beachOverride={} rareOverride={} {}",
-                blockX,
-                blockZ,
-                Math.abs(blockZ),
-                borderRadiusBlocks,
-                String.format(java.util.Locale.ROOT, "%.3f", t),
-                zone,
+                ctx.blockX[c],
+                ctx.blockZ[c],
+                Math.abs(ctx.blockZ[c]),
+                latitude.radius(),
+                String.format(java.util.Locale.ROOT, "%.3f", ctx.t[c]),
+                ctx.zone[c],
                 biomeId(base),
                 biomeId(out),
                 beachOverride,
@@ -1625,60 +897,33 @@ public final class LatitudeBiomes {
                 decision);
     }
 
-    private static boolean isMangroveCandidate(RegistryEntry<Biome> entry) {
-        return isBiomeId(entry, MANGROVE_ID);
-    }
-
-    private static boolean isSwampCandidate(RegistryEntry<Biome> entry) {
-        return isBiomeId(entry, SWAMP_ID);
-    }
-
-    private static boolean shouldTryMangroveOverride(RegistryEntry<Biome> entry, int bandIndex) {
-        if (bandIndex > BAND_TROPICAL) {
+    private static boolean isMountainLike(PickContext ctx, int c) {
+        if (!ctx.hasClimate()) {
             return false;
         }
-        return isBiomeId(entry, "minecraft:jungle") || isBiomeId(entry, "minecraft:sparse_jungle");
+        return ctx.continentalness(c) > 0.10 && ctx.erosion(c) < -0.25 && Math.abs(ctx.weirdness(c)) > 0.25;
     }
 
-    private static boolean isMountainLike(MultiNoiseUtil.MultiNoiseSampler sampler, int blockX, int blockZ) {
-        if (sampler == null) {
-            return false;
-        }
-        int noiseX = blockX >> 2;
-        int noiseZ = blockZ >> 2;
-        MultiNoiseUtil.NoiseValuePoint point = sampler.sample(noiseX, 0, noiseZ);
-        double cont = MultiNoiseUtil.toFloat(point.continentalnessNoise());
-        double erosion = MultiNoiseUtil.toFloat(point.erosionNoise());
-        double weirdness = MultiNoiseUtil.toFloat(point.weirdnessNoise());
-        return cont > 0.10 && erosion < -0.25 && Math.abs(weirdness) > 0.25;
-    }
-
-    private static RegistryEntry<Biome> mangroveOverride(Registry<Biome> biomes, RegistryEntry<Biome> fallback) {
-        try {
-            return biome(biomes, MANGROVE_ID);
-        } catch (Throwable ignored) {
-            return fallback;
-        }
-    }
-
-    private static MangroveDecision evaluateMangrove(int blockX, int blockZ, MultiNoiseUtil.MultiNoiseSampler sampler) {
-        if (sampler == null) {
+    private static MangroveDecision evaluateMangrove(PickContext ctx, int c) {
+        if (!ctx.hasClimate()) {
             return new MangroveDecision(true, 0.0, 0.0, 0.0, true, true);
         }
-        int noiseX = blockX >> 2;
-        int noiseZ = blockZ >> 2;
-        MultiNoiseUtil.NoiseValuePoint point = sampler.sample(noiseX, 0, noiseZ);
-        double cont = MultiNoiseUtil.toFloat(point.continentalnessNoise());
-        double erosion = MultiNoiseUtil.toFloat(point.erosionNoise());
-        double weirdness = MultiNoiseUtil.toFloat(point.weirdnessNoise());
+        double cont = ctx.continentalness(c);
+        double erosion = ctx.erosion(c);
+        double weirdness = ctx.weirdness(c);
         boolean lowland = cont < 0.12;
         boolean notRugged = erosion > 0.0;
         boolean notPeaks = Math.abs(weirdness) < 0.15;
         boolean suitable = lowland && notRugged && notPeaks;
-        boolean patch = allowMangrovePatch(blockX, blockZ);
+        boolean patch = allowMangrovePatch(ctx.blockX[c], ctx.blockZ[c]);
         return new MangroveDecision(suitable && patch, cont, erosion, weirdness, suitable, patch);
     }
 
+    /** The label only feeds {@code [LAT_PICK]} lines, so it is not formatted unless they are on. */
+    private static String decisionLabel(PickContext ctx, MangroveDecision decision) {
+        return ctx.latitude.debugBiomes() ? decision.logLabel() : null;
+    }
+
     private static boolean swampOkStrict(double cont, double erosion, double weirdness) {
         return cont > -0.20 && cont < 0.55
             && erosion > -0.20
@@ -1691,18 +936,11 @@ public final class LatitudeBiomes {
             && Math.abs(weirdness) < 0.35;
     }
 
-    private static SwampDecision evaluateSwamp(int blockX, int blockZ, MultiNoiseUtil.MultiNoiseSampler sampler) {
-        if (sampler == null) {
-            return new SwampDecision(true, 0.0, 0.0, 0.0, true);
+    private static boolean swampAllowed(PickContext ctx, int c) {
+        if (!ctx.hasClimate()) {
+            return true;
         }
-        int noiseX = blockX >> 2;
-        int noiseZ = blockZ >> 2;
-        MultiNoiseUtil.NoiseValuePoint point = sampler.sample(noiseX, 0, noiseZ);
-        double cont = MultiNoiseUtil.toFloat(point.continentalnessNoise());
-        double erosion = MultiNoiseUtil.toFloat(point.erosionNoise());
-        double weirdness = MultiNoiseUtil.toFloat(point.weirdnessNoise());
-        boolean swampOk = swampOkStrict(cont, erosion, weirdness);
-        return new SwampDecision(swampOk, cont, erosion, weirdness, swampOk);
+        return swampOkStrict(ctx.continentalness(c), ctx.erosion(c), ctx.weirdness(c));
     }
 
     private static boolean allowMangrovePatch(int blockX, int blockZ) {
@@ -1712,160 +950,16 @@ public final class LatitudeBiomes {
         return Long.remainderUnsigned(roll, 100L) < MANGROVE_PATCH_PERCENT;
     }
 
-    private static boolean badlandsPatchHere(long seed, int blockX, int blockZ) {
-        double n = blobNoise01(seed ^ BADLANDS_PATCH_SALT, blockX, blockZ, BADLANDS_PATCH_SIZE_BLOCKS, 0);
-        return n < BADLANDS_PATCH_CHANCE;
-    }
-
-    private static boolean swampPatchHere(long seed, int blockX, int blockZ) {
-        double n = blobNoise01Blocks(seed ^ SWAMP_PATCH_SALT, blockX, blockZ, SWAMP_PATCH_SIZE_BLOCKS, SWAMP_PATCH_SALT);
-        return n < SWAMP_PATCH_CHANCE;
-    }
-
-    private static RegistryEntry<Biome> pickMangroveFallback(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t, int bandIndex) {
-        return switch (bandIndex) {
-            case BAND_EQUATOR -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-            case BAND_TROPICAL -> pickTropicalGradientNoMangrove(biomes, base, blockX, blockZ, t);
-            case BAND_TEMPERATE -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-            case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomes, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-            default -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> pickMangroveFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t, int bandIndex) {
-        return switch (bandIndex) {
-            case BAND_EQUATOR -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-            case BAND_TROPICAL -> pickTropicalGradientNoMangrove(biomes, base, blockX, blockZ, t);
-            case BAND_TEMPERATE -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-            case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomes, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-            default -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> pickSwampFallback(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t, int bandIndex) {
-        return switch (bandIndex) {
-            case BAND_EQUATOR -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-            case BAND_TROPICAL -> pickTropicalGradientNoSwamp(biomes, base, blockX, blockZ, t);
-            case BAND_TEMPERATE -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-            case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomes, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-            default -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> pickSwampFallback(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t, int bandIndex) {
-        return switch (bandIndex) {
-            case BAND_EQUATOR -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_EQUATOR, 0x1A21, LAT_EQUATOR_PRIMARY, LAT_EQUATOR_SECONDARY, LAT_EQUATOR_ACCENT);
-            case BAND_TROPICAL -> pickTropicalGradientNoSwamp(biomes, base, blockX, blockZ, t);
-            case BAND_TEMPERATE -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_TEMPERATE, 0x2B32, LAT_TEMPERATE_PRIMARY, LAT_TEMPERATE_SECONDARY, LAT_TEMPERATE_ACCENT);
-            case BAND_SUBPOLAR -> pickSubpolarWithRamp(biomes, base, blockX, blockZ, t, BAND_SUBPOLAR, 0x3C43, LAT_SUBPOLAR_PRIMARY, LAT_SUBPOLAR_SECONDARY, LAT_SUBPOLAR_ACCENT);
-            default -> pickFromWeightedTagsNoSwamp(biomes, base, blockX, blockZ, BAND_POLAR, 0x4D54, LAT_POLAR_PRIMARY, LAT_POLAR_SECONDARY, LAT_POLAR_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> repickIfSurfaceCave(Registry<Biome> biomes, RegistryEntry<Biome> base, RegistryEntry<Biome> pick,
-                                                             int blockX, int blockZ, double t, int bandIndex) {
-        RegistryKey<Biome> key = biomes.getKey(pick.value()).orElse(null);
-        if (key == null) {
-            return pick;
-        }
-
-        if (!SURFACE_CAVE_DENYLIST.contains(key.getValue().toString())) {
-            return pick;
-        }
-
-        RegistryEntry<Biome> fallback = pickMangroveFallback(biomes, base, blockX, blockZ, t, bandIndex);
-        return fallback != null ? fallback : pick;
-    }
-
-    private static RegistryEntry<Biome> repickIfSurfaceCave(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, RegistryEntry<Biome> pick,
-                                                             int blockX, int blockZ, double t, int bandIndex) {
-        Identifier id = pick.getKey().map(key -> key.getValue()).orElse(null);
-        if (id == null) {
-            return pick;
-        }
-
-        if (!SURFACE_CAVE_DENYLIST.contains(id.toString())) {
+    private static RegistryEntry<Biome> repickIfSurfaceCave(PickContext ctx, int c, BiomeCatalog catalog, CompiledTagPools pools,
+                                                            RegistryEntry<Biome> pick, int bandIndex) {
+        if (!catalog.is(pick, BiomeCatalog.SURFACE_CAVE)) {
             return pick;
         }
 
-        RegistryEntry<Biome> fallback = pickMangroveFallback(biomes, base, blockX, blockZ, t, bandIndex);
+        RegistryEntry<Biome> fallback = pickForBand(ctx, c, pools, ctx.base[c], bandIndex, POOLS_NO_MANGROVE);
         return fallback != null ? fallback : pick;
     }
 
-    private static RegistryEntry<Biome> pickTropicalGradientNoMangrove(Registry<Biome> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
-
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
-        }
-
-        return switch (step) {
-            case 1 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 101, 0x7A11,
-                    LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 102, 0x7A22,
-                    LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 103, 0x7A33,
-                    LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 100, 0x7A00,
-                    LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
-        };
-    }
-
-    private static RegistryEntry<Biome> pickTropicalGradientNoMangrove(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> base, int blockX, int blockZ, double t) {
-        int chunkX = blockX >> 4;
-        int chunkZ = blockZ >> 4;
-
-        long seed = WORLD_SEED;
-
-        double bandStart = LatitudeMath.EQUATOR_MAX_FRAC;
-        double bandEnd = LatitudeMath.SUBTROPICAL_MAX_FRAC;
-        double u = clamp((t - bandStart) / (bandEnd - bandStart), 0.0, 1.0);
-        double ladderT = 1.0 - u;
-
-        double jitterN = (blobNoise01(seed, chunkX, chunkZ, 8, 0xBADC0FFEE0DDF00DL) * 2.0) - 1.0;
-        double tJitter = ladderT + (jitterN * 0.12);
-        tJitter = clamp(tJitter, 0.0, 1.0);
-        tJitter = smoothstep(tJitter);
-
-        double stepFloat = tJitter * 4.0;
-        int baseStep = clampInt((int) Math.floor(stepFloat), 0, 3);
-        double stepFrac = stepFloat - baseStep;
-        double dither = ValueNoise2D.sampleBlocks(seed ^ TROPICAL_DITHER_SALT, blockX, blockZ, DITHER_SCALE_BLOCKS);
-        int step = baseStep;
-        if (baseStep < 3 && dither < stepFrac) {
-            step = baseStep + 1;
-        }
-
-        return switch (step) {
-            case 1 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 101, 0x7A11,
-                    LAT_TRANS_ARID_TROPICS_1_PRIMARY, LAT_TRANS_ARID_TROPICS_1_SECONDARY, LAT_TRANS_ARID_TROPICS_1_ACCENT);
-            case 2 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 102, 0x7A22,
-                    LAT_TRANS_ARID_TROPICS_2_PRIMARY, LAT_TRANS_ARID_TROPICS_2_SECONDARY, LAT_TRANS_ARID_TROPICS_2_ACCENT);
-            case 3 -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 103, 0x7A33,
-                    LAT_TROPICS_PRIMARY, LAT_TROPICS_SECONDARY, LAT_TROPICS_ACCENT);
-            default -> pickFromWeightedTagsNoMangrove(biomes, base, blockX, blockZ, 100, 0x7A00,
-                    LAT_ARID_PRIMARY, LAT_ARID_SECONDARY, LAT_ARID_ACCENT);
-        };
-    }
-
     private record MangroveDecision(boolean allow, double continentalness, double erosion, double weirdness, boolean suitable, boolean patch) {
         private String logLabel() {
             String status = allow ? "ACCEPT" : "REJECT";
@@ -1883,84 +977,21 @@ public final class LatitudeBiomes {
         }
     }
 
-    private record SwampDecision(boolean allow, double continentalness, double erosion, double weirdness, boolean suitable) {
-    }
-
-    private static RegistryEntry<Biome> sanitizeLandBiome(Registry<Biome> biomes, RegistryEntry<Biome> pick, int bandIndex) {
-        if (bandIndex == BAND_EQUATOR) {
-            if (isBiomeId(pick, "minecraft:plains")
-                    || isBiomeId(pick, "minecraft:forest")
-                    || isBiomeId(pick, "minecraft:birch_forest")
-                    || isBiomeId(pick, "minecraft:old_growth_birch_forest")
-                    || isBiomeId(pick, "minecraft:flower_forest")) {
-                try {
-                    return biome(biomes, "minecraft:jungle");
-                } catch (Throwable ignored) {
-                    return pick;
-                }
-            }
-        }
-
-        if (bandIndex == BAND_SUBPOLAR) {
-            if (isBiomeId(pick, "minecraft:plains")
-                    || isBiomeId(pick, "minecraft:forest")
-                    || isBiomeId(pick, "minecraft:birch_forest")
-                    || isBiomeId(pick, "minecraft:old_growth_birch_forest")
-                    || isBiomeId(pick, "minecraft:flower_forest")) {
-                try {
-                    return biome(biomes, "minecraft:snowy_plains");
-                } catch (Throwable ignored) {
-                    return pick;
-                }
-            }
+    private static RegistryEntry<Biome> sanitizeLandBiome(BiomeCatalog catalog, RegistryEntry<Biome> pick, int bandIndex) {
+        int flags = catalog.flags(pick);
+        Handle replacement = null;
+        if (bandIndex == BAND_EQUATOR && (flags & BiomeCatalog.MILD_LOWLAND) != 0) {
+            replacement = Handle.JUNGLE;
+        } else if (bandIndex == BAND_SUBPOLAR && (flags & BiomeCatalog.MILD_LOWLAND) != 0) {
+            replacement = Handle.SNOWY_PLAINS;
+        } else if (bandIndex >= BAND_POLAR && (flags & BiomeCatalog.POLAR_MISFIT) != 0) {
+            replacement = Handle.ICE_SPIKES;
         }
-
-        if (bandIndex >= BAND_POLAR) {
-            String path = pick.getKey().map(key -> key.getValue().getPath()).orElse("");
-            if (path.contains("forest") || path.contains("taiga") || isBiomeId(pick, "minecraft:grove") || isBiomeId(pick, "minecraft:cherry_grove")) {
-                try {
-                    return biome(biomes, "minecraft:ice_spikes");
-                } catch (Throwable ignored) {
-                    return pick;
-                }
-            }
+        if (replacement == null) {
+            return pick;
         }
-
-        return pick;
-    }
-
-    private static RegistryEntry<Biome> sanitizeLandBiome(Collection<RegistryEntry<Biome>> biomes, RegistryEntry<Biome> pick, int bandIndex) {
-        if (bandIndex == BAND_EQUATOR) {
-            if (isBiomeId(pick, "minecraft:plains")
-                    || isBiomeId(pick, "minecraft:forest")
-                    || isBiomeId(pick, "minecraft:birch_forest")
-                    || isBiomeId(pick, "minecraft:old_growth_birch_forest")
-                    || isBiomeId(pick, "minecraft:flower_forest")) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:jungle");
-                return entry != null ? entry : pick;
-            }
-        }
-
-        if (bandIndex == 3) {
-            if (isBiomeId(pick, "minecraft:plains")
-                    || isBiomeId(pick, "minecraft:forest")
-                    || isBiomeId(pick, "minecraft:birch_forest")
-                    || isBiomeId(pick, "minecraft:old_growth_birch_forest")
-                    || isBiomeId(pick, "minecraft:flower_forest")) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:snowy_plains");
-                return entry != null ? entry : pick;
-            }
-        }
-
-        if (bandIndex >= BAND_POLAR) {
-            String path = pick.getKey().map(key -> key.getValue().getPath()).orElse("");
-            if (path.contains("forest") || path.contains("taiga") || isBiomeId(pick, "minecraft:grove") || isBiomeId(pick, "minecraft:cherry_grove")) {
-                RegistryEntry<Biome> entry = entryById(biomes, "minecraft:ice_spikes");
-                return entry != null ? entry : pick;
-            }
-        }
-
-        return pick;
+        RegistryEntry<Biome> entry = catalog.get(replacement);
+        return entry != null ? entry : pick;
     }
 
     private static void logTagPools(Collection<RegistryEntry<Biome>> biomes) {
@@ -1979,80 +1010,16 @@ public final class LatitudeBiomes {
         logTagPool(biomes, LAT_POLAR_ACCENT);
     }
 
-    private static void logTagPool(Collection<RegistryEntry<Biome>> biomes, TagKey<Biome> tag) {
-        List<RegistryEntry<Biome>> entries = entriesForTag(biomes, tag);
-        int size = entries.size();
+    private static void logTagPool(Collection<RegistryEntry<Biome>> biomes, Pool tag) {
+        RegistryEntry<Biome>[] entries = CompiledTagPools.of(biomes).entries(tag);
+        int size = entries.length;
         StringBuilder sample = new StringBuilder();
         for (int i = 0; i < Math.min(10, size); i++) {
-            String key = entries.get(i).getKey().map(k -> k.getValue().toString()).orElse("?");
+            String key = entries[i].getKey().map(k -> k.getValue().toString()).orElse("?");
             if (i > 0) sample.append(", ");
             sample.append(key);
         }
-        LOGGER.info("Tag {} size={} [{}]", tag.id(), size, sample);
-    }
-
-    private static boolean isBeachLike(RegistryEntry<Biome> biome) {
-        if (biome.isIn(BiomeTags.IS_BEACH)) {
-            return true;
-        }
-        return biome.getKey()
-                .map(key -> {
-                    String path = key.getValue().getPath();
-                    return path.contains("beach") || path.contains("shore");
-                })
-                .orElse(false);
-    }
-
-    private static RegistryEntry<Biome> pickFromTagNoiseOrFallback(Registry<Biome> biomes, TagKey<Biome> tag, int blockX, int blockZ, int bandIndex, String... fallbackOptions) {
-        List<RegistryEntry<Biome>> entries = new ArrayList<>();
-        for (RegistryEntry<Biome> entry : biomes.iterateEntries(tag)) {
-            entries.add(entry);
-        }
-
-        entries.sort(Comparator.comparing(entry -> entry.getKey()
-                .map(key -> key.getValue().toString())
-                .orElse("")));
-
-        int size = entries.size();
-        if (size <= 0) {
-            return pickFrom(biomes, blockX, blockZ, bandIndex, fallbackOptions);
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex);
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
-    }
-
-    private static RegistryEntry<Biome> pickFromTagNoiseOrBase(Registry<Biome> biomes, TagKey<Biome> tag, RegistryEntry<Biome> base, int blockX, int blockZ, int bandIndex) {
-        List<RegistryEntry<Biome>> entries = new ArrayList<>();
-        for (RegistryEntry<Biome> entry : biomes.iterateEntries(tag)) {
-            entries.add(entry);
-        }
-
-        entries.sort(Comparator.comparing(entry -> entry.getKey()
-                .map(key -> key.getValue().toString())
-                .orElse("")));
-
-        int size = entries.size();
-        if (size <= 0) {
-            return base;
-        }
-
-        int scaleBlocks = 2048;
-        long seed = 0L;
-        long salted = seed ^ (0x9E3779B97F4A7C15L * (long) bandIndex);
-        double n = ValueNoise2D.sampleBlocks(salted, blockX, blockZ, scaleBlocks);
-        int idx = (int) Math.floor(n * (double) size);
-        if (idx >= size) {
-            idx = size - 1;
-        }
-        return entries.get(idx);
+        LOGGER.info("Tag {} size={} [{}]", tag.tag().id(), size, sample);
     }
 
     private static long hash64(int x, int z, int bandIndex) {
@@ -2069,24 +1036,4 @@ public final class LatitudeBiomes {
         return h;
     }
 
-    private static boolean isOcean(RegistryEntry<Biome> biome) {
-        return biome.getKey()
-                .map(key -> key.getValue().getPath().contains("ocean"))
-                .orElse(false);
-    }
-
-    private static boolean isDeepOcean(RegistryEntry<Biome> biome) {
-        return biome.getKey()
-                .map(key -> {
-                    String path = key.getValue().getPath();
-                    return path.contains("ocean") && path.contains("deep");
-                })
-                .orElse(false);
-    }
-
-    private static boolean isRiver(RegistryEntry<Biome> biome) {
-        return biome.getKey()
-                .map(key -> key.getValue().getPath().contains("river"))
-                .orElse(false);
-    }
 }
@@ -0,0 +1,183 @@
+package com.example.globe.world;
+
+import com.example.globe.GlobeMod;
+import com.example.globe.util.LatitudeMath;
+
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
+
+/**
+ * Everything the latitude pick and the worldgen guards need to know about one globe world: seed,
+ * its {@link GlobeProfile} (radius, band fractions, hazard thresholds) and debug switches, plus the
+ * constants derived from them.
+ * <p>
+ * Immutable. Each globe {@code NoiseChunkGenerator} carries its own instance (see
+ * {@link LatitudeContextHolder}), bound when its world loads, so dimensions of different sizes
+ * can generate side by side and the hot path reads plain final fields instead of volatile
+ * statics and system properties.
+ */
+public final class LatitudeContext {
+    private static final LatitudeContext DEFAULT = of(0L, GlobeProfile.withDefaults(null, GlobeMod.BORDER_RADIUS));
+
+    // Hooks that never see a world (ProtoChunk writes, worldgen precipitation queries) use the overworld's context.
+    private static volatile LatitudeContext primary;
+
+    private final long seed;
+    private final GlobeProfile profile;
+    private final int radius;
+
+    private final double equatorMaxFrac;
+    private final double tropicalMaxFrac;
+    private final double subtropicalMaxFrac;
+    private final double temperateMaxFrac;
+    private final double subpolarMaxFrac;
+
+    private final int equatorMaxBlocks;
+    private final int subtropicalMaxBlocks;
+    private final int temperateMaxBlocks;
+    private final int subpolarMaxBlocks;
+    private final int polarStartAbsZ;
+    private final LatitudeProfile latitudeProfile;
+
+    private final boolean debugBiomes;
+    private final boolean debugBlend;
+
+    private LatitudeContext(long seed, GlobeProfile profile) {
+        this.seed = seed;
+        this.profile = profile;
+        this.radius = profile.radius();
+
+        GlobeProfile.Bands bands = profile.bands();
+        this.equatorMaxFrac = bands.equator();
+        this.tropicalMaxFrac = bands.tropical();
+        this.subtropicalMaxFrac = bands.subtropical();
+        this.temperateMaxFrac = bands.temperate();
+        this.subpolarMaxFrac = bands.subpolar();
+
+        this.equatorMaxBlocks = (int) Math.round(equatorMaxFrac * (double) radius);
+        this.subtropicalMaxBlocks = (int) Math.round(subtropicalMaxFrac * (double) radius);
+        this.temperateMaxBlocks = (int) Math.round(temperateMaxFrac * (double) radius);
+        this.subpolarMaxBlocks = (int) Math.round(subpolarMaxFrac * (double) radius);
+        this.polarStartAbsZ = (int) Math.round(radius * subpolarMaxFrac);
+        this.latitudeProfile = new LatitudeProfile(radius, bands);
+
+        this.debugBiomes = Boolean.getBoolean("latitude.debugBiomes") || Boolean.getBoolean("latitude.debugBiomePick");
+        this.debugBlend = Boolean.getBoolean("latitude.debugBlend");
+    }
+
+    public static LatitudeContext of(long seed, GlobeProfile profile) {
+        return new LatitudeContext(seed, profile);
+    }
+
+    /** The context bound to {@code generator}, or {@code null} if it is not a bound globe generator. */
+    public static LatitudeContext forGenerator(ChunkGenerator generator) {
+        return generator instanceof LatitudeContextHolder holder ? holder.globe$getLatitudeContext() : null;
+    }
+
+    public static LatitudeContext forWorld(ServerWorld world) {
+        return world != null ? forGenerator(world.getChunkManager().getChunkGenerator()) : null;
+    }
+
+    /** The overworld's context once bound, else the default-size globe with seed 0. */
+    public static LatitudeContext primary() {
+        LatitudeContext current = primary;
+        return current != null ? current : DEFAULT;
+    }
+
+    /** The overworld's context, or {@code null} while no globe overworld is bound in this JVM. */
+    public static LatitudeContext primaryIfBound() {
+        return primary;
+    }
+
+    public static void setPrimary(LatitudeContext context) {
+        primary = context;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public GlobeProfile profile() {
+        return profile;
+    }
+
+    public int radius() {
+        return radius;
+    }
+
+    /** |z| as a fraction of the radius, unclamped. */
+    public double absLatFraction(int blockZ) {
+        return (double) Math.abs(blockZ) / (double) radius;
+    }
+
+    public double equatorMaxFrac() {
+        return equatorMaxFrac;
+    }
+
+    public double subtropicalMaxFrac() {
+        return subtropicalMaxFrac;
+    }
+
+    public double temperateMaxFrac() {
+        return temperateMaxFrac;
+    }
+
+    public double subpolarMaxFrac() {
+        return subpolarMaxFrac;
+    }
+
+    /** Band boundary in blocks of |z|: 0 equator, 1 subtropical, 2 temperate, 3 subpolar. */
+    public int bandBoundaryBlocks(int boundaryIndex) {
+        return switch (boundaryIndex) {
+            case 0 -> equatorMaxBlocks;
+            case 1 -> subtropicalMaxBlocks;
+            case 2 -> temperateMaxBlocks;
+            default -> subpolarMaxBlocks;
+        };
+    }
+
+    /** Start of the polar band in blocks of |z|; the polar band begins where subpolar ends. */
+    public int polarStartAbsZ() {
+        return polarStartAbsZ;
+    }
+
+    /** Hazard stage 0 (none) to 4 (lethal) for a border progress of {@code |coord| / radius}. */
+    public int hazardStageIndex(double progress) {
+        return profile.hazard().stageIndex(progress);
+    }
+
+    /** Per-|z| tables for this radius and these bands. */
+    public LatitudeProfile latitudeProfile() {
+        return latitudeProfile;
+    }
+
+    /** Zone of a block row; one table load, same result as {@link #zone(double)}. */
+    public LatitudeMath.LatitudeZone zone(int blockZ) {
+        return latitudeProfile.zone(blockZ);
+    }
+
+    /** Same rule as {@link LatitudeMath#zoneForRadius(int, double)}, with this profile's bands. */
+    public LatitudeMath.LatitudeZone zone(double z) {
+        if (radius <= 0) return LatitudeMath.LatitudeZone.EQUATOR;
+        double t = Math.min(1.0, Math.abs(z) / (double) radius);
+        if (t < equatorMaxFrac) return LatitudeMath.LatitudeZone.EQUATOR;
+        if (t < tropicalMaxFrac) return LatitudeMath.LatitudeZone.TROPICAL;
+        if (t < subtropicalMaxFrac) return LatitudeMath.LatitudeZone.SUBTROPICAL;
+        if (t < temperateMaxFrac) return LatitudeMath.LatitudeZone.TEMPERATE;
+        if (t < subpolarMaxFrac) return LatitudeMath.LatitudeZone.SUBPOLAR;
+        return LatitudeMath.LatitudeZone.POLAR;
+    }
+
+    public boolean debugBiomes() {
+        return debugBiomes;
+    }
+
+    public boolean debugBlend() {
+        return debugBlend;
+    }
+
+    @Override
+    public String toString() {
+        return "LatitudeContext[seed=" + seed + ", radius=" + radius + "]";
+    }
+}
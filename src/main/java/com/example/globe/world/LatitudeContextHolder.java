@@ -0,0 +1,23 @@
+package com.example.globe.world;
+
+/**
+ * Implemented by {@code NoiseChunkGenerator} through a mixin: the {@link GlobeProfile} its noise settings resolve
+ * to, and the {@link LatitudeContext} of the world the generator serves.
+ */
+public interface LatitudeContextHolder {
+    /**
+     * The profile for this generator's noise settings, or {@code null} if it is not a globe generator. Resolved on
+     * first call once the settings are set, then a plain field read.
+     */
+    GlobeProfile globe$getProfile();
+
+    /** The bound context, or {@code null} before the owning world has loaded. */
+    LatitudeContext globe$getLatitudeContext();
+
+    void globe$setLatitudeContext(LatitudeContext context);
+
+    /** Column picks shared by terrain population and the biome source, or {@code null} before the world loads. */
+    ColumnDecisionCache globe$getColumnCache();
+
+    void globe$setColumnCache(ColumnDecisionCache cache);
+}
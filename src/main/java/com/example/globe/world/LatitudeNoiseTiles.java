@@ -0,0 +1,197 @@
+package com.example.globe.world;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.globe.util.BlobNoise2D;
+
+/**
+ * Cross-chunk cache of the latitude picker's coarse noise fields, in tiles of {@value #TILE_BLOCKS}x{@value #TILE_BLOCKS}
+ * blocks. Band warp and blend noise, the tropical jitter and the weighted rolls are constant per chunk and vary over
+ * many chunks; the badlands and swamp patch masks vary over hundreds of blocks. A tile holds each field for all
+ * its 32x32 chunks or 128x128 quart columns, sampled in one grid the first time any chunk in the tile asks, so
+ * neighbouring chunks on other worker threads read it instead of re-hashing.
+ * <p>
+ * Fields are keyed by the full seed and salt they are sampled with, so worlds with different seeds can share a tile
+ * without mixing values. Stored values are bit-for-bit what the per-chunk code computes: continuous fields stay
+ * {@code double}, rolls are stored as the 0..99 byte and patch masks as bits.
+ * <p>
+ * Tiles live in one {@link ConcurrentHashMap}. Each lookup stamps the tile from a global clock; once there are more
+ * tiles than the capacity ({@value #CAPACITY_PROPERTY}, default 64, about 4 MB), the least recently stamped one is
+ * dropped. Counters are exposed through {@link #stats()} for {@code /latnoise}.
+ */
+public final class LatitudeNoiseTiles {
+    /** Tiles kept in memory; 0 disables the cache and the picker samples per chunk. */
+    public static final String CAPACITY_PROPERTY = "latitude.noiseTiles";
+
+    static final int TILE_SHIFT = 9;
+    static final int TILE_BLOCKS = 1 << TILE_SHIFT;
+    private static final int TILE_CHUNKS = TILE_BLOCKS >> 4;
+    private static final int TILE_QUARTS = TILE_BLOCKS >> 2;
+    private static final int CAPACITY = Math.max(0, Integer.getInteger(CAPACITY_PROPERTY, 64));
+
+    private static final ConcurrentHashMap<Long, Tile> TILES = new ConcurrentHashMap<>();
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder FIELD_FILLS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private LatitudeNoiseTiles() {
+    }
+
+    public static boolean enabled() {
+        return CAPACITY > 0;
+    }
+
+    /** The tile holding chunk {@code (chunkX, chunkZ)}, or {@code null} when the cache is disabled. */
+    static Tile forChunk(int chunkX, int chunkZ) {
+        if (CAPACITY <= 0) {
+            return null;
+        }
+        int tileX = chunkX >> (TILE_SHIFT - 4);
+        int tileZ = chunkZ >> (TILE_SHIFT - 4);
+        long key = ((long) tileX << 32) | (tileZ & 0xFFFF_FFFFL);
+        Tile tile = TILES.get(key);
+        if (tile != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+            Tile created = new Tile(tileX, tileZ);
+            tile = TILES.putIfAbsent(key, created);
+            if (tile == null) {
+                tile = created;
+                if (TILES.size() > CAPACITY) {
+                    evict();
+                }
+            }
+        }
+        tile.lastUse = CLOCK.incrementAndGet();
+        return tile;
+    }
+
+    private static synchronized void evict() {
+        while (TILES.size() > CAPACITY) {
+            Map.Entry<Long, Tile> oldest = null;
+            for (Map.Entry<Long, Tile> entry : TILES.entrySet()) {
+                if (oldest == null || entry.getValue().lastUse < oldest.getValue().lastUse) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null || !TILES.remove(oldest.getKey(), oldest.getValue())) {
+                return;
+            }
+            EVICTIONS.increment();
+        }
+    }
+
+    public static void clear() {
+        TILES.clear();
+    }
+
+    public static Stats stats() {
+        long bytes = 0;
+        for (Tile tile : TILES.values()) {
+            bytes += tile.bytes.get();
+        }
+        return new Stats(TILES.size(), CAPACITY, HITS.sum(), MISSES.sum(), FIELD_FILLS.sum(), EVICTIONS.sum(), bytes);
+    }
+
+    public record Stats(int tiles, int capacity, long hits, long misses, long fieldFills, long evictions, long bytes) {
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / (double) lookups;
+        }
+    }
+
+    /** One stored field: {@link BlobNoise2D#sample}{@code (seed, x, z, patchSize, salt)}, kept as {@code kind} says. */
+    private record Field(int kind, long seed, int patchSize, long salt, double threshold) {
+    }
+
+    static final class Tile {
+        private static final int CHUNK_BLOB = 0;
+        private static final int CHUNK_ROLL = 1;
+        private static final int QUART_MASK = 2;
+
+        private final int chunkX0;
+        private final int chunkZ0;
+        private final int quartX0;
+        private final int quartZ0;
+        private final ConcurrentHashMap<Field, Object> fields = new ConcurrentHashMap<>();
+        private final AtomicLong bytes = new AtomicLong();
+        private volatile long lastUse;
+
+        private Tile(int tileX, int tileZ) {
+            this.chunkX0 = tileX * TILE_CHUNKS;
+            this.chunkZ0 = tileZ * TILE_CHUNKS;
+            this.quartX0 = tileX * TILE_QUARTS;
+            this.quartZ0 = tileZ * TILE_QUARTS;
+        }
+
+        /** {@code BlobNoise2D.sample(seed, chunkX, chunkZ, patchChunks, salt)} for a chunk inside this tile. */
+        double chunkBlob(long seed, int patchChunks, long salt, int chunkX, int chunkZ) {
+            double[] values = (double[]) fields.computeIfAbsent(new Field(CHUNK_BLOB, seed, patchChunks, salt, 0.0), this::fillChunkBlob);
+            return values[chunkIndex(chunkX, chunkZ)];
+        }
+
+        /** {@link LatitudeBiomes#rollFromBlob} of the chunk blob, stored as a byte. */
+        int chunkRoll(long seed, int patchChunks, long salt, int chunkX, int chunkZ) {
+            byte[] values = (byte[]) fields.computeIfAbsent(new Field(CHUNK_ROLL, seed, patchChunks, salt, 0.0), this::fillChunkRoll);
+            return values[chunkIndex(chunkX, chunkZ)];
+        }
+
+        /** Whether {@code BlobNoise2D.sample(seed, x, z, patchBlocks, salt) < threshold} at a quart centre in this tile. */
+        boolean quartBelow(long seed, int patchBlocks, long salt, double threshold, int quartX, int quartZ) {
+            long[] bits = (long[]) fields.computeIfAbsent(new Field(QUART_MASK, seed, patchBlocks, salt, threshold), this::fillQuartMask);
+            int index = (quartZ - quartZ0) * TILE_QUARTS + (quartX - quartX0);
+            return (bits[index >> 6] & (1L << index)) != 0L;
+        }
+
+        private int chunkIndex(int chunkX, int chunkZ) {
+            return (chunkZ - chunkZ0) * TILE_CHUNKS + (chunkX - chunkX0);
+        }
+
+        private double[] sampleChunks(Field field) {
+            double[] values = new double[TILE_CHUNKS * TILE_CHUNKS];
+            BlobNoise2D.sampleGrid(field.seed(), chunkX0, chunkZ0, 1, 1, TILE_CHUNKS, TILE_CHUNKS, field.patchSize(), field.salt(), values);
+            return values;
+        }
+
+        private Object fillChunkBlob(Field field) {
+            double[] values = sampleChunks(field);
+            filled(values.length * 8L);
+            return values;
+        }
+
+        private Object fillChunkRoll(Field field) {
+            double[] blobs = sampleChunks(field);
+            byte[] rolls = new byte[blobs.length];
+            for (int i = 0; i < blobs.length; i++) {
+                rolls[i] = (byte) LatitudeBiomes.rollFromBlob(blobs[i]);
+            }
+            filled(rolls.length);
+            return rolls;
+        }
+
+        private Object fillQuartMask(Field field) {
+            double[] values = new double[TILE_QUARTS * TILE_QUARTS];
+            BlobNoise2D.sampleGrid(field.seed(), (quartX0 << 2) + 2, (quartZ0 << 2) + 2, 4, 4, TILE_QUARTS, TILE_QUARTS,
+                    field.patchSize(), field.salt(), values);
+            long[] bits = new long[values.length >> 6];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] < field.threshold()) {
+                    bits[i >> 6] |= 1L << i;
+                }
+            }
+            filled(bits.length * 8L);
+            return bits;
+        }
+
+        private void filled(long fieldBytes) {
+            bytes.addAndGet(fieldBytes);
+            FIELD_FILLS.increment();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.globe.world;
+
+import com.example.globe.util.LatitudeMath;
+
+/**
+ * Lookup tables of everything the latitude code derives from |z| alone, for one {@link LatitudeContext}: zone,
+ * crisp land band, tropical ladder position and the subpolar snowy-pool probability. Each is filled once per world
+ * from the same expressions the callers used to evaluate per query, so a lookup is one array load and returns the
+ * identical value.
+ * <p>
+ * Tables are indexed by |z| from 0 to the radius; past the radius every value equals the one at the pole. Radii
+ * above {@link #MAX_TABLE_RADIUS} (far beyond any shipped world size) are not tabulated and evaluate directly.
+ * Fractional values stay {@code double} because the picker compares them against noise and its picks are persisted
+ * in the {@link LatitudeAtlas}.
+ */
+public final class LatitudeProfile {
+    static final int MAX_TABLE_RADIUS = 1 << 18;
+
+    // Crisp land bands, as LatitudeBiomes numbers them.
+    static final int BAND_EQUATOR = 0;
+    static final int BAND_TROPICAL = 1;
+    static final int BAND_TEMPERATE = 2;
+    static final int BAND_SUBPOLAR = 3;
+    static final int BAND_POLAR = 4;
+
+    private static final LatitudeMath.LatitudeZone[] ZONES = LatitudeMath.LatitudeZone.values();
+
+    private final int radius;
+    private final double equatorMaxFrac;
+    private final double tropicalMaxFrac;
+    private final double subtropicalMaxFrac;
+    private final double temperateMaxFrac;
+    private final double subpolarMaxFrac;
+
+    private final int last;
+    private final byte[] zone;
+    private final byte[] band;
+    private final double[] tropicalLadder;
+    private final double[] subpolarSnow;
+
+    LatitudeProfile(int radius, GlobeProfile.Bands bands) {
+        this.radius = radius;
+        this.equatorMaxFrac = bands.equator();
+        this.tropicalMaxFrac = bands.tropical();
+        this.subtropicalMaxFrac = bands.subtropical();
+        this.temperateMaxFrac = bands.temperate();
+        this.subpolarMaxFrac = bands.subpolar();
+
+        int size = radius > 0 && radius <= MAX_TABLE_RADIUS ? radius + 1 : 0;
+        this.last = size - 1;
+        this.zone = new byte[size];
+        this.band = new byte[size];
+        this.tropicalLadder = new double[size];
+        this.subpolarSnow = new double[size];
+        for (int absZ = 0; absZ < size; absZ++) {
+            zone[absZ] = (byte) computeZone(absZ).ordinal();
+            band[absZ] = (byte) computeBand(absZ);
+            tropicalLadder[absZ] = computeTropicalLadder(absZ);
+            subpolarSnow[absZ] = computeSubpolarSnow(absZ);
+        }
+    }
+
+    /** Table index for {@code blockZ}, or -1 when it has to be evaluated directly. */
+    private int index(int blockZ) {
+        if (last < 0) {
+            return -1;
+        }
+        int absZ = Math.abs(blockZ);
+        return absZ >= 0 && absZ < last ? absZ : last;
+    }
+
+    public LatitudeMath.LatitudeZone zone(int blockZ) {
+        int i = index(blockZ);
+        return i >= 0 ? ZONES[zone[i]] : computeZone(absZ(blockZ));
+    }
+
+    /** Crisp land band (equator, tropical, temperate, subpolar, polar) before any boundary blending. */
+    public int band(int blockZ) {
+        int i = index(blockZ);
+        return i >= 0 ? band[i] : computeBand(absZ(blockZ));
+    }
+
+    /** Position in the tropical band: 1 at the equator edge, 0 at the subtropical edge, clamped outside it. */
+    public double tropicalLadder(int blockZ) {
+        int i = index(blockZ);
+        return i >= 0 ? tropicalLadder[i] : computeTropicalLadder(absZ(blockZ));
+    }
+
+    /** Chance that a subpolar column draws from the snowy pool; ramps from 0 at temperate to 1 at polar. */
+    public double subpolarSnow(int blockZ) {
+        int i = index(blockZ);
+        return i >= 0 ? subpolarSnow[i] : computeSubpolarSnow(absZ(blockZ));
+    }
+
+    private static long absZ(int blockZ) {
+        return Math.abs((long) blockZ);
+    }
+
+    private double fraction(long absZ) {
+        return (double) absZ / (double) radius;
+    }
+
+    private LatitudeMath.LatitudeZone computeZone(long absZ) {
+        if (radius <= 0) return LatitudeMath.LatitudeZone.EQUATOR;
+        double t = Math.min(1.0, fraction(absZ));
+        if (t < equatorMaxFrac) return LatitudeMath.LatitudeZone.EQUATOR;
+        if (t < tropicalMaxFrac) return LatitudeMath.LatitudeZone.TROPICAL;
+        if (t < subtropicalMaxFrac) return LatitudeMath.LatitudeZone.SUBTROPICAL;
+        if (t < temperateMaxFrac) return LatitudeMath.LatitudeZone.TEMPERATE;
+        if (t < subpolarMaxFrac) return LatitudeMath.LatitudeZone.SUBPOLAR;
+        return LatitudeMath.LatitudeZone.POLAR;
+    }
+
+    private int computeBand(long absZ) {
+        if (radius <= 0) {
+            return BAND_EQUATOR;
+        }
+        double t = LatitudeMath.clamp(fraction(absZ), 0.0, 1.0);
+        if (t < equatorMaxFrac) return BAND_EQUATOR;
+        if (t < subtropicalMaxFrac) return BAND_TROPICAL;
+        if (t < temperateMaxFrac) return BAND_TEMPERATE;
+        if (t < subpolarMaxFrac) return BAND_SUBPOLAR;
+        return BAND_POLAR;
+    }
+
+    private double computeTropicalLadder(long absZ) {
+        double u = LatitudeMath.clamp((fraction(absZ) - equatorMaxFrac) / (subtropicalMaxFrac - equatorMaxFrac), 0.0, 1.0);
+        return 1.0 - u;
+    }
+
+    private double computeSubpolarSnow(long absZ) {
+        double subpolarStart = temperateMaxFrac;
+        double polarStart = subpolarMaxFrac;
+        double t = 0.0;
+        if (polarStart > subpolarStart) {
+            t = (fraction(absZ) - subpolarStart) / (polarStart - subpolarStart);
+        }
+        t = LatitudeMath.clamp(t, 0.0, 1.0);
+
+        double tw = LatitudeMath.clamp((t - 0.25) / 0.50, 0.0, 1.0);
+        double pSnow = tw * tw * (3.0 - 2.0 * tw);
+
+        if (t > 0.90) pSnow = 1.0;
+        if (t < 0.10) pSnow = 0.0;
+
+        return pSnow;
+    }
+
+    /** Bytes held by the tables, for diagnostics. */
+    public long bytes() {
+        return (long) zone.length * 2L + (long) tropicalLadder.length * 16L;
+    }
+}
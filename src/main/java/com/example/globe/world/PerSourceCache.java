@@ -0,0 +1,67 @@
+package com.example.globe.world;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Tiny copy-on-write cache of values compiled from a biome source (a {@code Registry<Biome>} or a
+ * biome source's entry collection), matched by identity. There is normally one registry and one
+ * collection per globe dimension, so lookups are a short linear scan with no allocation.
+ * <p>
+ * The generation and the slots live in one immutable state published by a single volatile write,
+ * so a reader never sees a new generation next to values compiled for the old one.
+ * {@link #invalidate()} and {@link #replace} bump the generation; stale values are never returned again.
+ */
+final class PerSourceCache<T> {
+    private record Slot<T>(Object source, T value) {
+    }
+
+    private record State<T>(int generation, Slot<T>[] slots) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private volatile State<T> state = new State<>(0, new Slot[0]);
+
+    <S> T get(S source, Function<? super S, ? extends T> compiler) {
+        State<T> current = state;
+        for (Slot<T> slot : current.slots) {
+            if (slot.source == source) {
+                return slot.value;
+            }
+        }
+        T value = compiler.apply(source);
+        return publish(current.generation, new Slot<>(source, value));
+    }
+
+    @SuppressWarnings("unchecked")
+    synchronized void invalidate() {
+        state = new State<>(state.generation + 1, new Slot[0]);
+    }
+
+    /** Drops every value and installs {@code value} for {@code source} under the next generation, in one step. */
+    @SuppressWarnings("unchecked")
+    synchronized void replace(Object source, T value) {
+        state = new State<>(state.generation + 1, new Slot[] {new Slot<>(source, value)});
+    }
+
+    int generation() {
+        return state.generation;
+    }
+
+    private synchronized T publish(int generation, Slot<T> fresh) {
+        State<T> current = state;
+        if (generation != current.generation) {
+            // Tags reloaded while we compiled; hand the result to this caller but do not cache it.
+            return fresh.value;
+        }
+        for (Slot<T> slot : current.slots) {
+            if (slot.source == fresh.source) {
+                return slot.value;
+            }
+        }
+        Slot<T>[] next = Arrays.copyOf(current.slots, current.slots.length + 1);
+        next[current.slots.length] = fresh;
+        state = new State<>(generation, next);
+        return fresh.value;
+    }
+}
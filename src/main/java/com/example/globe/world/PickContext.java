@@ -0,0 +1,245 @@
+package com.example.globe.world;
+
+import java.util.Arrays;
+
+import com.example.globe.util.BlobNoise2D;
+import com.example.globe.util.LatitudeMath;
+import com.example.globe.util.ValueNoise2D;
+
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.source.util.MultiNoiseUtil;
+
+/**
+ * Per-thread struct-of-arrays scratch for the chunk whose quart columns {@link LatitudeBiomes} is deciding.
+ * <p>
+ * The grid is either the 4x4 quart-centre columns of one chunk (index {@code localZ << 2 | localX}) or, for a pick
+ * at arbitrary block coordinates, that single column. Geometry is filled when the grid is bound; band, blend,
+ * tropical ladder, patch and pool-noise fields are filled for the whole grid the first time any column needs them,
+ * so the noise behind them is sampled as one grid ({@link ValueNoise2D#sampleGrid}, {@link BlobNoise2D#sampleGrid})
+ * and per-chunk values (weighted rolls, blend and warp noise) are computed once. Climate is sampled per column on
+ * demand because it is by far the most expensive input and only some stages read it. Per-chunk and quart-resolution
+ * fields come from the chunk's {@link LatitudeNoiseTiles} tile when that cache is on.
+ * <p>
+ * Everything is kept until the thread binds a different grid, so repeated picks in the same chunk (the populate
+ * mixin re-picks cave columns against plains, structure probes hit neighbouring columns) reuse it. The decision
+ * arrays at the bottom hold the per-call state of the columns being decided.
+ */
+final class PickContext {
+    static final int UNSET = Integer.MIN_VALUE;
+    static final int COLUMNS = 16;
+
+    private static final ThreadLocal<PickContext> CURRENT = ThreadLocal.withInitial(PickContext::new);
+    private static final int GRID_STEP = 4;
+    private static final int ROLL_SLOTS = 8;
+    private static final int NOISE_SLOTS = 8;
+
+    private int originX;
+    private int originZ;
+    private int width;
+    private boolean active;
+    private MultiNoiseUtil.MultiNoiseSampler sampler;
+
+    LatitudeContext latitude;
+    int chunkX;
+    int chunkZ;
+    int count;
+    LatitudeNoiseTiles.Tile tile;
+
+    final int[] blockX = new int[COLUMNS];
+    final int[] blockZ = new int[COLUMNS];
+    final double[] t = new double[COLUMNS];
+    final LatitudeMath.LatitudeZone[] zone = new LatitudeMath.LatitudeZone[COLUMNS];
+
+    boolean landBandsFilled;
+    final int[] landBand = new int[COLUMNS];
+    boolean tropicalStepsFilled;
+    final int[] tropicalStep = new int[COLUMNS];
+    boolean patchesFilled;
+    final boolean[] badlandsPatch = new boolean[COLUMNS];
+    final boolean[] swampPatch = new boolean[COLUMNS];
+    final double[] gridScratch = new double[COLUMNS];
+
+    private int climateMask;
+    private final double[] continentalness = new double[COLUMNS];
+    private final double[] erosion = new double[COLUMNS];
+    private final double[] weirdness = new double[COLUMNS];
+
+    private final int[] rollSalts = new int[ROLL_SLOTS];
+    private final int[] rolls = new int[ROLL_SLOTS];
+    private int rollCount;
+    private int rollNext;
+
+    private final long[] noiseSeeds = new long[NOISE_SLOTS];
+    private final double[][] noise = new double[NOISE_SLOTS][COLUMNS];
+    private int noiseCount;
+    private int noiseNext;
+
+    @SuppressWarnings("unchecked")
+    final RegistryEntry<Biome>[] base = new RegistryEntry[COLUMNS];
+    @SuppressWarnings("unchecked")
+    final RegistryEntry<Biome>[] chosen = new RegistryEntry[COLUMNS];
+    @SuppressWarnings("unchecked")
+    final RegistryEntry<Biome>[] sanitized = new RegistryEntry[COLUMNS];
+    @SuppressWarnings("unchecked")
+    final RegistryEntry<Biome>[] out = new RegistryEntry[COLUMNS];
+    final String[] mangroveLabel = new String[COLUMNS];
+
+    private PickContext() {
+    }
+
+    /** Binds this thread's context to the 16 quart-centre columns of a chunk, keeping fields already filled for it. */
+    static PickContext forChunk(int chunkX, int chunkZ, LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler) {
+        PickContext ctx = CURRENT.get();
+        ctx.bind((chunkX << 4) + 2, (chunkZ << 4) + 2, 4, latitude, sampler);
+        return ctx;
+    }
+
+    /**
+     * Binds this thread's context to the grid holding a block column: its chunk's grid when the column is a quart
+     * centre, else a grid of just that column. See {@link #columnOf}.
+     */
+    static PickContext forColumn(int blockX, int blockZ, LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler) {
+        if (isQuartCentre(blockX, blockZ)) {
+            return forChunk(blockX >> 4, blockZ >> 4, latitude, sampler);
+        }
+        PickContext ctx = CURRENT.get();
+        ctx.bind(blockX, blockZ, 1, latitude, sampler);
+        return ctx;
+    }
+
+    /** Grid index of a column bound with {@link #forColumn}. */
+    int columnOf(int blockX, int blockZ) {
+        return width == 1 ? 0 : ((blockZ >> 2) & 3) << 2 | ((blockX >> 2) & 3);
+    }
+
+    private static boolean isQuartCentre(int blockX, int blockZ) {
+        return (blockX & 3) == 2 && (blockZ & 3) == 2;
+    }
+
+    private void bind(int originX, int originZ, int width, LatitudeContext latitude, MultiNoiseUtil.MultiNoiseSampler sampler) {
+        if (active
+                && this.originX == originX
+                && this.originZ == originZ
+                && this.width == width
+                && this.latitude == latitude
+                && this.sampler == sampler) {
+            return;
+        }
+        this.originX = originX;
+        this.originZ = originZ;
+        this.width = width;
+        this.count = width * width;
+        this.latitude = latitude;
+        this.sampler = sampler;
+        this.active = true;
+        this.chunkX = originX >> 4;
+        this.chunkZ = originZ >> 4;
+        this.tile = LatitudeNoiseTiles.forChunk(chunkX, chunkZ);
+
+        for (int c = 0; c < count; c++) {
+            int x = originX + (c & (width - 1)) * GRID_STEP;
+            int z = originZ + (c / width) * GRID_STEP;
+            blockX[c] = x;
+            blockZ[c] = z;
+            t[c] = latitude.absLatFraction(z);
+            zone[c] = latitude.zone(z);
+        }
+
+        landBandsFilled = false;
+        tropicalStepsFilled = false;
+        patchesFilled = false;
+        climateMask = 0;
+        rollCount = 0;
+        rollNext = 0;
+        noiseCount = 0;
+        noiseNext = 0;
+        Arrays.fill(mangroveLabel, null);
+    }
+
+    /** Whether the grid is a chunk's quart centres, so quart-resolution tile fields apply. */
+    boolean quartGrid() {
+        return width == 4;
+    }
+
+    /** {@link ValueNoise2D#sampleBlocks} at every column of the grid, into {@code into[column]}. */
+    void valueNoise(long seed, int scaleBlocks, double[] into) {
+        ValueNoise2D.sampleGrid(seed, originX, originZ, GRID_STEP, GRID_STEP, width, width, scaleBlocks, into);
+    }
+
+    /** {@link BlobNoise2D#sample} in block units at every column of the grid, into {@code into[column]}. */
+    void blobNoiseBlocks(long seed, int patchSizeBlocks, long salt, double[] into) {
+        BlobNoise2D.sampleGrid(seed, originX, originZ, GRID_STEP, GRID_STEP, width, width, patchSizeBlocks, salt, into);
+    }
+
+    /** Pool-index noise for one salted seed across the grid, sampled on first use. */
+    double[] poolNoise(long saltedSeed, int scaleBlocks) {
+        for (int i = 0; i < noiseCount; i++) {
+            if (noiseSeeds[i] == saltedSeed) {
+                return noise[i];
+            }
+        }
+        int slot;
+        if (noiseCount < NOISE_SLOTS) {
+            slot = noiseCount++;
+        } else {
+            slot = noiseNext;
+            noiseNext = (noiseNext + 1) % NOISE_SLOTS;
+        }
+        noiseSeeds[slot] = saltedSeed;
+        valueNoise(saltedSeed, scaleBlocks, noise[slot]);
+        return noise[slot];
+    }
+
+    boolean hasClimate() {
+        return sampler != null;
+    }
+
+    double continentalness(int column) {
+        sampleClimate(column);
+        return continentalness[column];
+    }
+
+    double erosion(int column) {
+        sampleClimate(column);
+        return erosion[column];
+    }
+
+    double weirdness(int column) {
+        sampleClimate(column);
+        return weirdness[column];
+    }
+
+    private void sampleClimate(int column) {
+        if ((climateMask & (1 << column)) != 0) {
+            return;
+        }
+        MultiNoiseUtil.NoiseValuePoint point = sampler.sample(blockX[column] >> 2, 0, blockZ[column] >> 2);
+        continentalness[column] = MultiNoiseUtil.toFloat(point.continentalnessNoise());
+        erosion[column] = MultiNoiseUtil.toFloat(point.erosionNoise());
+        weirdness[column] = MultiNoiseUtil.toFloat(point.weirdnessNoise());
+        climateMask |= 1 << column;
+    }
+
+    /** Weighted roll for this chunk and {@code salt}, or {@link #UNSET}; rolls only depend on the chunk. */
+    int roll(int salt) {
+        for (int i = 0; i < rollCount; i++) {
+            if (rollSalts[i] == salt) {
+                return rolls[i];
+            }
+        }
+        return UNSET;
+    }
+
+    void roll(int salt, int roll) {
+        int slot;
+        if (rollCount < ROLL_SLOTS) {
+            slot = rollCount++;
+        } else {
+            slot = rollNext;
+            rollNext = (rollNext + 1) % ROLL_SLOTS;
+        }
+        rollSalts[slot] = salt;
+        rolls[slot] = roll;
+    }
+}
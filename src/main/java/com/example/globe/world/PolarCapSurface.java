@@ -0,0 +1,116 @@
+package com.example.globe.world;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.registry.tag.BlockTags;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ProtoChunk;
+
+/**
+ * Shapes the polar band's surface while the chunk is still a {@link ProtoChunk}: vegetation within 24 blocks above
+ * the ground is cleared, surface water freezes to ice and the ground becomes a hashed mix of snow block, stone and
+ * packed ice. Runs once per chunk as it enters INITIALIZE_LIGHT, after its features, so the writes need no light
+ * updates and no block-update packets and are saved with the chunk.
+ * <p>
+ * Off unless {@value #ENABLED_PROPERTY} is set; see {@link ChunkGenGate#POLAR_SURFACE}. Vegetation a neighbouring
+ * chunk's features place into this chunk after it has been shaped is left standing.
+ */
+public final class PolarCapSurface {
+    public static final String ENABLED_PROPERTY = "latitude.polarCapSurface";
+    static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    private static final int VEGETATION_CLEAR_HEIGHT = 24;
+    private static final int BORDER_MARGIN = 32;
+
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+    private static final BlockState ICE = Blocks.ICE.getDefaultState();
+    private static final BlockState SNOW_BLOCK = Blocks.SNOW_BLOCK.getDefaultState();
+    private static final BlockState STONE = Blocks.STONE.getDefaultState();
+    private static final BlockState PACKED_ICE = Blocks.PACKED_ICE.getDefaultState();
+
+    private PolarCapSurface() {
+    }
+
+    /** Whether any row of the chunk lies in the shaped band. */
+    static boolean touches(LatitudeContext latitude, ChunkPos pos) {
+        int start = latitude.polarStartAbsZ();
+        int end = latitude.radius() + BORDER_MARGIN;
+        int nearAbsZ = pos.getStartZ() > 0 ? pos.getStartZ() : (pos.getEndZ() < 0 ? -pos.getEndZ() : 0);
+        int farAbsZ = Math.max(Math.abs(pos.getStartZ()), Math.abs(pos.getEndZ()));
+        return farAbsZ >= start && nearAbsZ <= end;
+    }
+
+    public static void apply(LatitudeContext latitude, ProtoChunk chunk) {
+        ChunkPos chunkPos = chunk.getPos();
+        int start = latitude.polarStartAbsZ();
+        int end = latitude.radius() + BORDER_MARGIN;
+        int bottomY = chunk.getBottomY();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for (int localZ = 0; localZ < 16; localZ++) {
+            int z = chunkPos.getStartZ() + localZ;
+            int absZ = Math.abs(z);
+            if (absZ < start || absZ > end) {
+                continue;
+            }
+            for (int localX = 0; localX < 16; localX++) {
+                int x = chunkPos.getStartX() + localX;
+                int surfaceY = chunk.sampleHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, localX, localZ);
+                if (surfaceY <= bottomY) {
+                    continue;
+                }
+
+                for (int y = surfaceY; y <= surfaceY + VEGETATION_CLEAR_HEIGHT; y++) {
+                    pos.set(x, y, z);
+                    if (isVegetation(chunk.getBlockState(pos))) {
+                        chunk.setBlockState(pos, AIR, 0);
+                    }
+                }
+
+                // Clearing a trunk lowers the heightmap to the ground it stood on.
+                surfaceY = chunk.sampleHeightmap(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, localX, localZ);
+                if (surfaceY <= bottomY) {
+                    continue;
+                }
+                pos.set(x, surfaceY, z);
+                BlockState surface = chunk.getBlockState(pos);
+                if (surface.isOf(Blocks.WATER)) {
+                    chunk.setBlockState(pos, ICE, 0);
+                    continue;
+                }
+                BlockState replacement = pickPolarSurface(x, z);
+                if (!surface.isOf(replacement.getBlock())) {
+                    chunk.setBlockState(pos, replacement, 0);
+                }
+            }
+        }
+    }
+
+    private static BlockState pickPolarSurface(int x, int z) {
+        long h = (x * 341873128712L) ^ (z * 132897987541L);
+        int r = (int) (h ^ (h >>> 32));
+        int m = r & 1023;
+        if (m < 716) {
+            return SNOW_BLOCK;
+        }
+        if (m < 921) {
+            return STONE;
+        }
+        return PACKED_ICE;
+    }
+
+    private static boolean isVegetation(BlockState state) {
+        return state.isIn(BlockTags.LEAVES)
+                || state.isIn(BlockTags.LOGS)
+                || state.isIn(BlockTags.SAPLINGS)
+                || state.isIn(BlockTags.FLOWERS)
+                || state.isIn(BlockTags.CROPS)
+                || state.isOf(Blocks.SHORT_GRASS)
+                || state.isOf(Blocks.TALL_GRASS)
+                || state.isOf(Blocks.FERN)
+                || state.isOf(Blocks.LARGE_FERN)
+                || state.isOf(Blocks.VINE);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.globe.world;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import net.minecraft.world.StructureWorldAccess;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldView;
+
+/**
+ * Which latitude bands the warm-band hooks on {@code Biome.getPrecipitation}/{@code doesNotSnow} apply. Those methods
+ * only see a position, so the callers that know their world ({@code World.getPrecipitation},
+ * {@code ServerWorld.tickIceAndSnow}, {@code Biome.canSetIce}/{@code canSetSnow}, client weather rendering) scope the
+ * query to it with {@link #enter}/{@link #exit}: a server world uses its own generator's context, a client world the
+ * globe the server announced, and any other dimension or non-globe world gets none.
+ * <p>
+ * Queries with no world in scope (surface rules and ruined portals during worldgen) use the overworld's context if
+ * the running server's overworld is a globe.
+ */
+public final class PrecipitationBands {
+    private static final ThreadLocal<Scope> SCOPE = ThreadLocal.withInitial(Scope::new);
+
+    private static volatile Function<World, LatitudeContext> clientResolver;
+
+    private PrecipitationBands() {
+    }
+
+    /** How a client world's context is found; set by the client entrypoint. */
+    public static void setClientResolver(Function<World, LatitudeContext> resolver) {
+        clientResolver = resolver;
+    }
+
+    public static void enter(WorldView world) {
+        SCOPE.get().push(resolve(world));
+    }
+
+    public static void exit() {
+        SCOPE.get().pop();
+    }
+
+    /** The context whose bands apply to the current query, or {@code null} if none do. */
+    public static LatitudeContext current() {
+        Scope scope = SCOPE.get();
+        return scope.depth > 0 ? scope.contexts[scope.depth - 1] : LatitudeContext.primaryIfBound();
+    }
+
+    private static LatitudeContext resolve(WorldView world) {
+        if (world instanceof World level && level.isClient()) {
+            Function<World, LatitudeContext> resolver = clientResolver;
+            return resolver != null ? resolver.apply(level) : null;
+        }
+        if (world instanceof StructureWorldAccess access) {
+            return LatitudeContext.forWorld(access.toServerWorld());
+        }
+        return LatitudeContext.primaryIfBound();
+    }
+
+    private static final class Scope {
+        LatitudeContext[] contexts = new LatitudeContext[4];
+        int depth;
+
+        void push(LatitudeContext context) {
+            if (depth == contexts.length) {
+                contexts = Arrays.copyOf(contexts, depth * 2);
+            }
+            contexts[depth++] = context;
+        }
+
+        void pop() {
+            if (depth > 0) {
+                contexts[--depth] = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.globe.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import com.mojang.serialization.DataResult;
+
+import net.minecraft.util.collection.IndexedIterable;
+import net.minecraft.util.collection.PackedIntegerArray;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.chunk.PaletteProvider;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.ReadableContainer;
+
+/**
+ * Collects every cell of one paletted section as raw ids and builds the finished container in one go.
+ * <p>
+ * Writing cell by cell through {@link PalettedContainer#swap} takes the container lock on every call and
+ * resizes the palette whenever a new value shows up mid-loop. Here the distinct values are gathered first,
+ * so the palette type (single value, linear array, or the provider's wide palette) is chosen once from the
+ * final count and the packed storage is written exactly once.
+ * <p>
+ * One writer is reused for every section a thread fills; it is not thread-safe.
+ */
+public final class SectionPaletteWriter<T> {
+    private final PaletteProvider<T> provider;
+    private final IndexedIterable<T> idList;
+    private final int[] rawIds;
+    private final int[] indices;
+    private final int[] distinct;
+    private int filled;
+
+    public SectionPaletteWriter(PaletteProvider<T> provider) {
+        this.provider = provider;
+        this.idList = provider.getIdList();
+        int size = provider.getSize();
+        this.rawIds = new int[size];
+        this.indices = new int[size];
+        this.distinct = new int[size];
+        clear();
+    }
+
+    public PaletteProvider<T> provider() {
+        return provider;
+    }
+
+    public void clear() {
+        Arrays.fill(rawIds, IndexedIterable.ABSENT_RAW_ID);
+        filled = 0;
+    }
+
+    /**
+     * Records the value of one cell. Returns {@code false} when the value has no raw id in the provider's
+     * id list; such a section cannot be built here and the caller should fall back to per-cell writes.
+     */
+    public boolean set(int x, int y, int z, T value) {
+        int rawId = idList.getRawId(value);
+        if (rawId == IndexedIterable.ABSENT_RAW_ID) {
+            return false;
+        }
+        int index = provider.computeIndex(x, y, z);
+        if (rawIds[index] == IndexedIterable.ABSENT_RAW_ID) {
+            filled++;
+        }
+        rawIds[index] = rawId;
+        return true;
+    }
+
+    public boolean isComplete() {
+        return filled == rawIds.length;
+    }
+
+    /** Builds a fresh container from the recorded cells; every cell must have been set. */
+    public DataResult<PalettedContainer<T>> build() {
+        if (!isComplete()) {
+            return DataResult.error(() -> "Section has " + (rawIds.length - filled) + " unset cells");
+        }
+
+        int distinctCount = 0;
+        for (int i = 0; i < rawIds.length; i++) {
+            int rawId = rawIds[i];
+            int paletteIndex = -1;
+            for (int j = 0; j < distinctCount; j++) {
+                if (distinct[j] == rawId) {
+                    paletteIndex = j;
+                    break;
+                }
+            }
+            if (paletteIndex < 0) {
+                paletteIndex = distinctCount;
+                distinct[distinctCount++] = rawId;
+            }
+            indices[i] = paletteIndex;
+        }
+
+        List<T> palette = new ArrayList<>(distinctCount);
+        for (int j = 0; j < distinctCount; j++) {
+            palette.add(idList.getOrThrow(distinct[j]));
+        }
+
+        // Same bit width PalettedContainer.read derives from the palette size, so the storage is taken as-is
+        // for single and linear palettes and only re-indexed into global ids for the wide palette.
+        int bits = MathHelper.ceilLog2(distinctCount);
+        Optional<LongStream> storage = bits == 0
+                ? Optional.empty()
+                : Optional.of(LongStream.of(new PackedIntegerArray(bits, rawIds.length, indices).getData()));
+        return PalettedContainer.read(provider, new ReadableContainer.Serialized<>(palette, storage, bits));
+    }
+}
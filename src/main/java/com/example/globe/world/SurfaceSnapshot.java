@@ -0,0 +1,56 @@
+package com.example.globe.world;
+
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * The worldgen surface of one chunk as the feature guards see it: {@code WORLD_SURFACE_WG} per column, read once and
+ * kept on the {@code ProtoChunk} (see {@link SurfaceSnapshotHolder}), so a guard answers "how far below the surface is
+ * this" without going back through the chunk region and its heightmap map.
+ * <p>
+ * Heights are the first free y above the top block, as {@code getTopY} returns them. Sky light has not been computed
+ * when features run, so sky visibility is taken from the surface heightmap: a position sees the sky when it is at or
+ * above its column's world surface.
+ * <p>
+ * Taken the first time a guard asks during FEATURES. The guards that read it (dripstone) run in the underground
+ * decoration steps, before vegetation raises the surface.
+ */
+public final class SurfaceSnapshot {
+    private final short[] worldSurface = new short[256];
+
+    private SurfaceSnapshot(Chunk chunk) {
+        for (int i = 0; i < 256; i++) {
+            int x = i & 15;
+            int z = i >> 4;
+            worldSurface[i] = (short) (chunk.sampleHeightmap(Heightmap.Type.WORLD_SURFACE_WG, x, z) + 1);
+        }
+    }
+
+    /** The snapshot of {@code chunk}, taken now if this is the first request. */
+    public static SurfaceSnapshot of(Chunk chunk) {
+        if (!(chunk instanceof SurfaceSnapshotHolder holder)) {
+            return new SurfaceSnapshot(chunk);
+        }
+        SurfaceSnapshot snapshot = holder.globe$getSurfaceSnapshot();
+        if (snapshot == null) {
+            snapshot = new SurfaceSnapshot(chunk);
+            holder.globe$setSurfaceSnapshot(snapshot);
+        }
+        return snapshot;
+    }
+
+    private static int index(int blockX, int blockZ) {
+        return (blockZ & 15) << 4 | (blockX & 15);
+    }
+
+    /** {@code getTopY(WORLD_SURFACE_WG, x, z)}. */
+    public int worldSurfaceY(int blockX, int blockZ) {
+        return worldSurface[index(blockX, blockZ)];
+    }
+
+    /** Whether nothing but air is above {@code y} in the column. */
+    public boolean isSkyVisible(int blockX, int y, int blockZ) {
+        return y >= worldSurface[index(blockX, blockZ)];
+    }
+
+}
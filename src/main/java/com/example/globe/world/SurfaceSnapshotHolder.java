@@ -0,0 +1,8 @@
+package com.example.globe.world;
+
+/** Implemented by {@code ProtoChunk} through a mixin: its {@link SurfaceSnapshot}, or {@code null} until one is taken. */
+public interface SurfaceSnapshotHolder {
+    SurfaceSnapshot globe$getSurfaceSnapshot();
+
+    void globe$setSurfaceSnapshot(SurfaceSnapshot snapshot);
+}
@@ -0,0 +1,122 @@
+package com.example.globe.world;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.globe.debug.WarmSnowTrapStats;
+import com.example.globe.util.LatitudeMath;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ProtoChunk;
+
+/**
+ * Removes snow, snow blocks and powder snow from the warm rows of a generated chunk, once, after every feature that
+ * can write into it has run. Surface rules, carvers and features all place snow; catching each write meant a
+ * latitude check on every block written during worldgen. Here a chunk whose rows are all cold is skipped outright,
+ * and a section is only walked when its palette holds one of the snow states, so a warm chunk without snow costs
+ * one palette scan per section.
+ * <p>
+ * Snow blocks become dirt at or above sea level and stone below it; snow layers and powder snow become air.
+ */
+public final class WarmSnowCleanup {
+    private static final Logger LOGGER = LoggerFactory.getLogger("LatitudeSnowGuard");
+    private static final boolean DEBUG_SNOW_GUARD = Boolean.getBoolean("latitude.debugSnowGuard");
+    private static final AtomicInteger GUARD_LOG_COUNT = new AtomicInteger();
+
+    private static final BlockState STONE_STATE = Blocks.STONE.getDefaultState();
+    private static final BlockState DIRT_STATE = Blocks.DIRT.getDefaultState();
+    private static final BlockState AIR_STATE = Blocks.AIR.getDefaultState();
+    private static final int SEA_LEVEL = 63;
+
+    private static final Predicate<BlockState> IS_SNOW = WarmSnowCleanup::isSnow;
+
+    private WarmSnowCleanup() {
+    }
+
+    /** Zones where generated snow is removed. */
+    public static boolean isWarm(LatitudeMath.LatitudeZone zone) {
+        return zone == LatitudeMath.LatitudeZone.EQUATOR
+                || zone == LatitudeMath.LatitudeZone.TROPICAL
+                || zone == LatitudeMath.LatitudeZone.SUBTROPICAL
+                || zone == LatitudeMath.LatitudeZone.TEMPERATE;
+    }
+
+    private static boolean isSnow(BlockState state) {
+        return state.isOf(Blocks.SNOW) || state.isOf(Blocks.SNOW_BLOCK) || state.isOf(Blocks.POWDER_SNOW);
+    }
+
+    /** Bit {@code localZ} set when that row of the chunk is in a warm zone. */
+    private static int warmRows(LatitudeContext latitude, ChunkPos pos) {
+        int startZ = pos.getStartZ();
+        int rows = 0;
+        for (int localZ = 0; localZ < 16; localZ++) {
+            if (isWarm(latitude.zone(startZ + localZ))) {
+                rows |= 1 << localZ;
+            }
+        }
+        return rows;
+    }
+
+    public static void clean(LatitudeContext latitude, ProtoChunk chunk) {
+        WarmSnowTrapStats.calls++;
+        ChunkPos chunkPos = chunk.getPos();
+        int rows = warmRows(latitude, chunkPos);
+        if (rows == 0) {
+            return;
+        }
+
+        ChunkSection[] sections = chunk.getSectionArray();
+        int startX = chunkPos.getStartX();
+        int startZ = chunkPos.getStartZ();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int index = 0; index < sections.length; index++) {
+            ChunkSection section = sections[index];
+            if (section.isEmpty() || !section.hasAny(IS_SNOW)) {
+                continue;
+            }
+            WarmSnowTrapStats.snowHits++;
+            int bottomY = chunk.sectionIndexToCoord(index) << 4;
+            for (int bits = rows; bits != 0; bits &= bits - 1) {
+                int localZ = Integer.numberOfTrailingZeros(bits);
+                for (int localY = 0; localY < 16; localY++) {
+                    for (int localX = 0; localX < 16; localX++) {
+                        BlockState state = section.getBlockState(localX, localY, localZ);
+                        if (!isSnow(state)) {
+                            continue;
+                        }
+                        pos.set(startX + localX, bottomY + localY, startZ + localZ);
+                        BlockState replacement = state.isOf(Blocks.SNOW_BLOCK)
+                                ? (pos.getY() >= SEA_LEVEL ? DIRT_STATE : STONE_STATE)
+                                : AIR_STATE;
+                        chunk.setBlockState(pos, replacement, 0);
+                        record(latitude, pos, state, replacement);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void record(LatitudeContext latitude, BlockPos pos, BlockState state, BlockState replacement) {
+        WarmSnowTrapStats.rewrites++;
+        if (!WarmSnowTrapStats.DEBUG_WARM_SNOW_STATS && !DEBUG_SNOW_GUARD) {
+            return;
+        }
+        WarmSnowTrapStats.lastBlock = state.getBlock().toString();
+        WarmSnowTrapStats.lastPos = pos.toImmutable();
+        WarmSnowTrapStats.lastT = latitude.absLatFraction(pos.getZ());
+        if (DEBUG_SNOW_GUARD && GUARD_LOG_COUNT.incrementAndGet() <= 25) {
+            LOGGER.warn("[SNOWBLOCK_GUARD] x={} y={} z={} band={} replace {} -> {}",
+                    pos.getX(), pos.getY(), pos.getZ(),
+                    latitude.zone(pos.getZ()),
+                    state.getBlock(),
+                    replacement.getBlock());
+        }
+    }
+}